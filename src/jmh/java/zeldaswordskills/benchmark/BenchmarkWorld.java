@@ -0,0 +1,143 @@
+/**
+    Copyright (C) <2017> <coolAlias>
+
+    This file is part of coolAlias' Zelda Sword Skills Minecraft Mod; as such,
+    you can redistribute it and/or modify it under the terms of the GNU
+    General Public License as published by the Free Software Foundation,
+    either version 3 of the License, or (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package zeldaswordskills.benchmark;
+
+import java.util.Random;
+
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.client.multiplayer.ChunkProviderClient;
+import net.minecraft.entity.Entity;
+import net.minecraft.init.Blocks;
+import net.minecraft.init.Bootstrap;
+import net.minecraft.profiler.Profiler;
+import net.minecraft.world.World;
+import net.minecraft.world.WorldProviderSurface;
+import net.minecraft.world.WorldSettings;
+import net.minecraft.world.WorldType;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.IChunkProvider;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
+import net.minecraft.world.storage.SaveHandlerMP;
+import net.minecraft.world.storage.WorldInfo;
+
+/**
+ *
+ * Headless, purely in-memory world for benchmarking: no save handler, no chunk
+ * generator and no networking, just a square of pre-loaded chunks filled with
+ * a deterministic layered terrain centered on the origin.
+ *
+ * The chunk provider used does not unload or generate anything, so block reads
+ * and writes go straight to the chunk storage like they would for loaded chunks
+ * on a server.
+ *
+ */
+public class BenchmarkWorld extends World
+{
+	/** Height of the terrain surface; everything above is air */
+	public static final int SURFACE = 64;
+
+	private static boolean bootstrapped;
+
+	/** Radius, in chunks, of the loaded area around the origin */
+	private final int chunkRadius;
+
+	/** Kept separately as the super class field is not typed to the client provider */
+	private ChunkProviderClient chunkLoader;
+
+	/**
+	 * Registers vanilla blocks, items and biomes; must be called before any world is created
+	 */
+	public static synchronized void bootstrap() {
+		if (!bootstrapped) {
+			Bootstrap.register();
+			bootstrapped = true;
+		}
+	}
+
+	/**
+	 * Creates a new world with all chunks within the given radius of the origin loaded and filled
+	 * @param seed	Seed for the random ore and gravel pockets mixed into the terrain
+	 */
+	public BenchmarkWorld(int chunkRadius, long seed) {
+		super(new SaveHandlerMP(), new WorldInfo(new WorldSettings(seed, WorldSettings.GameType.SURVIVAL, false, false, WorldType.FLAT), "benchmark"), new WorldProviderSurface(), new Profiler(), false);
+		this.chunkRadius = chunkRadius;
+		this.provider.registerWorld(this);
+		this.chunkProvider = createChunkProvider();
+		Random rand = new Random(seed);
+		for (int cx = -chunkRadius; cx < chunkRadius; ++cx) {
+			for (int cz = -chunkRadius; cz < chunkRadius; ++cz) {
+				fillChunk(chunkLoader.loadChunk(cx, cz), rand);
+			}
+		}
+	}
+
+	@Override
+	protected IChunkProvider createChunkProvider() {
+		if (chunkLoader == null) {
+			chunkLoader = new ChunkProviderClient(this);
+		}
+		return chunkLoader;
+	}
+
+	@Override
+	protected int getRenderDistanceChunks() {
+		return chunkRadius;
+	}
+
+	/**
+	 * Places the entity at the given position and adds it to the world
+	 */
+	public <T extends Entity> T addEntity(T entity, double x, double y, double z, float yaw, float pitch) {
+		entity.setLocationAndAngles(x, y, z, yaw, pitch);
+		entity.setRotationYawHead(yaw);
+		spawnEntityInWorld(entity);
+		return entity;
+	}
+
+	/**
+	 * Fills the chunk's block storage directly, bypassing lighting and neighbor updates
+	 * since those are irrelevant to the terrain the benchmarks are run against
+	 */
+	private void fillChunk(Chunk chunk, Random rand) {
+		ExtendedBlockStorage[] storage = chunk.getBlockStorageArray();
+		for (int y = 0; y < SURFACE; ++y) {
+			if (storage[y >> 4] == null) {
+				storage[y >> 4] = new ExtendedBlockStorage(y >> 4 << 4, !provider.getHasNoSky());
+			}
+			for (int x = 0; x < 16; ++x) {
+				for (int z = 0; z < 16; ++z) {
+					storage[y >> 4].set(x, y & 15, z, getTerrainState(y, rand));
+				}
+			}
+		}
+		chunk.generateSkylightMap();
+		chunk.setModified(false);
+	}
+
+	private static IBlockState getTerrainState(int y, Random rand) {
+		if (y == 0) {
+			return Blocks.bedrock.getDefaultState();
+		} else if (y == SURFACE - 1) {
+			return Blocks.grass.getDefaultState();
+		} else if (y > SURFACE - 5) {
+			return Blocks.dirt.getDefaultState();
+		}
+		int i = rand.nextInt(64);
+		return (i == 0 ? Blocks.iron_ore.getDefaultState() : i == 1 ? Blocks.gravel.getDefaultState() : i == 2 ? Blocks.coal_ore.getDefaultState() : Blocks.stone.getDefaultState());
+	}
+}
@@ -0,0 +1,96 @@
+/**
+    Copyright (C) <2017> <coolAlias>
+
+    This file is part of coolAlias' Zelda Sword Skills Minecraft Mod; as such,
+    you can redistribute it and/or modify it under the terms of the GNU
+    General Public License as published by the Free Software Foundation,
+    either version 3 of the License, or (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package zeldaswordskills.benchmark;
+
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import net.minecraft.init.Blocks;
+import net.minecraft.util.BlockPos;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import zeldaswordskills.api.entity.CustomExplosion;
+import zeldaswordskills.util.WorldUtils;
+
+/**
+ * 
+ * Explosion block scans: {@link CustomExplosion#doExplosionA} (blocks only, no entity
+ * damage so that the world is left untouched between invocations) and the generic
+ * {@link WorldUtils#getAffectedBlocksList} used by the fire and ice effects.
+ * 
+ * Explosions are centered just below the terrain surface, so rays travel through
+ * both solid ground and open air.
+ *
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExplosionBenchmark
+{
+	@Param({"2.0", "4.0", "8.0"})
+	public float radius;
+
+	private BenchmarkWorld world;
+
+	private Random rand;
+
+	private double x, y, z;
+
+	@Setup
+	public void setup() {
+		BenchmarkWorld.bootstrap();
+		world = new BenchmarkWorld(2, 0L);
+		rand = new Random(0L);
+		x = 0.5D;
+		y = BenchmarkWorld.SURFACE - 1.5D;
+		z = 0.5D;
+	}
+
+	@Benchmark
+	public CustomExplosion doExplosionA() {
+		CustomExplosion explosion = new CustomExplosion(world, null, x, y, z, radius, true, false);
+		explosion.inflictsDamage = false;
+		explosion.doExplosionA();
+		return explosion;
+	}
+
+	@Benchmark
+	public Set<BlockPos> getAffectedBlocksList() {
+		return WorldUtils.getAffectedBlocksList(world, rand, radius, x, y, z, null);
+	}
+
+	@Benchmark
+	public Set<BlockPos> getAffectedBlocksListTargeted() {
+		return WorldUtils.getAffectedBlocksList(world, rand, radius, x, y, z, Blocks.gravel);
+	}
+}
@@ -0,0 +1,140 @@
+/**
+    Copyright (C) <2017> <coolAlias>
+
+    This file is part of coolAlias' Zelda Sword Skills Minecraft Mod; as such,
+    you can redistribute it and/or modify it under the terms of the GNU
+    General Public License as published by the Free Software Foundation,
+    either version 3 of the License, or (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package zeldaswordskills.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.init.Blocks;
+import net.minecraft.util.BlockPos;
+import net.minecraft.world.World;
+import net.minecraft.world.gen.structure.StructureBoundingBox;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import zeldaswordskills.util.StructureGenUtils;
+import zeldaswordskills.world.gen.structure.RoomBase;
+import zeldaswordskills.world.gen.structure.ZSSMapGenBase;
+
+/**
+ * 
+ * Structure generation primitives: the bounding-box fills used to build every room
+ * and the {@link RoomBase#canGenerate} volume scan run for each placement attempt.
+ * 
+ * Fills alternate between two block states on each invocation so that every call
+ * actually changes the world instead of hitting the 'same state' early exit.
+ *
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StructureGenBenchmark
+{
+	/** Size of the room / filled cube along each axis */
+	@Param({"5", "9", "13"})
+	public int size;
+
+	private BenchmarkWorld world;
+
+	/** Box buried in the terrain, i.e. a typical secret room location */
+	private StructureBoundingBox buried;
+
+	/** Box in the open air just above the terrain surface */
+	private StructureBoundingBox surface;
+
+	private BenchmarkRoom room;
+
+	private IBlockState[] states;
+
+	private int invocations;
+
+	@Setup
+	public void setup() {
+		BenchmarkWorld.bootstrap();
+		world = new BenchmarkWorld(2, 0L);
+		int minY = BenchmarkWorld.SURFACE - size - 8;
+		buried = new StructureBoundingBox(0, minY, 0, size - 1, minY + size - 1, size - 1);
+		minY = BenchmarkWorld.SURFACE;
+		surface = new StructureBoundingBox(0, minY, 0, size - 1, minY + size - 1, size - 1);
+		room = new BenchmarkRoom(buried);
+		states = new IBlockState[] {Blocks.stonebrick.getDefaultState(), Blocks.cobblestone.getDefaultState()};
+	}
+
+	@Benchmark
+	public boolean canGenerate() {
+		return room.canGenerate(world);
+	}
+
+	@Benchmark
+	public World fillWithBlocks() {
+		IBlockState state = states[++invocations & 1];
+		StructureGenUtils.fillWithBlocks(world, buried, 0, buried.getXSize(), 0, buried.getYSize(), 0, buried.getZSize(), state);
+		return world;
+	}
+
+	@Benchmark
+	public World fillWithoutReplace() {
+		IBlockState state = ((++invocations & 1) == 0 ? Blocks.web.getDefaultState() : Blocks.air.getDefaultState());
+		StructureGenUtils.fillWithoutReplace(world, surface.minX, surface.maxX + 1, surface.minY, surface.maxY + 1, surface.minZ, surface.maxZ + 1, state, 2);
+		return world;
+	}
+
+	/**
+	 * Minimal room exposing the otherwise protected placement scan
+	 */
+	private static class BenchmarkRoom extends RoomBase
+	{
+		public BenchmarkRoom(StructureBoundingBox box) {
+			super(0, 0, box.getXSize(), box.getYSize(), Blocks.stone);
+			this.bBox = box;
+		}
+
+		@Override
+		public boolean canGenerate(World world) {
+			return super.canGenerate(world);
+		}
+
+		@Override
+		public boolean generate(ZSSMapGenBase mapGen, World world, Random rand, int x, int y, int z) {
+			return false;
+		}
+
+		@Override
+		protected void decorateDungeon(World world, Random rand) {}
+
+		@Override
+		protected void placeDungeonCore(World world) {}
+
+		@Override
+		protected void setMetadata(World world, BlockPos pos) {}
+	}
+}
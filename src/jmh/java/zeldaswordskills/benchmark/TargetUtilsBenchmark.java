@@ -0,0 +1,94 @@
+/**
+    Copyright (C) <2017> <coolAlias>
+
+    This file is part of coolAlias' Zelda Sword Skills Minecraft Mod; as such,
+    you can redistribute it and/or modify it under the terms of the GNU
+    General Public License as published by the Free Software Foundation,
+    either version 3 of the License, or (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package zeldaswordskills.benchmark;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import net.minecraft.entity.EntityLivingBase;
+import net.minecraft.entity.passive.EntityPig;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import zeldaswordskills.util.TargetUtils;
+
+/**
+ * 
+ * Look-target acquisition as used by targeting skills, the magic rods and various items:
+ * a seeker standing on the surface looking down a corridor scattered with potential targets.
+ *
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TargetUtilsBenchmark
+{
+	/** Number of potential targets in front of the seeker */
+	@Param({"0", "8", "32"})
+	public int targets;
+
+	/** Maximum search distance passed to the acquisition methods */
+	@Param({"6", "16"})
+	public int distance;
+
+	private EntityLivingBase seeker;
+
+	@Setup
+	public void setup() {
+		BenchmarkWorld.bootstrap();
+		BenchmarkWorld world = new BenchmarkWorld(3, 0L);
+		double y = BenchmarkWorld.SURFACE;
+		// yaw 0 looks towards positive z
+		seeker = world.addEntity(new EntityPig(world), 0.5D, y, 0.5D, 0.0F, 0.0F);
+		Random rand = new Random(targets);
+		for (int i = 0; i < targets; ++i) {
+			double x = 0.5D + (rand.nextDouble() - 0.5D) * 8.0D;
+			double z = 2.5D + rand.nextDouble() * 20.0D;
+			world.addEntity(new EntityPig(world), x, y, z, rand.nextFloat() * 360.0F, 0.0F);
+		}
+	}
+
+	@Benchmark
+	public EntityLivingBase acquireLookTarget() {
+		return TargetUtils.acquireLookTarget(seeker, distance, 1.0D);
+	}
+
+	@Benchmark
+	public EntityLivingBase acquireLookTargetClosestToSeeker() {
+		return TargetUtils.acquireLookTarget(seeker, distance, 1.0D, true);
+	}
+
+	@Benchmark
+	public List<EntityLivingBase> acquireAllLookTargets() {
+		return TargetUtils.acquireAllLookTargets(seeker, distance, 1.0D);
+	}
+}
@@ -44,10 +44,16 @@ import zeldaswordskills.handler.ZSSItemEvents;
 import zeldaswordskills.item.ItemHeroBow;
 import zeldaswordskills.item.ZSSItems;
 import zeldaswordskills.network.PacketDispatcher;
+import zeldaswordskills.network.ParticleBroadcaster;
 import zeldaswordskills.ref.Config;
 import zeldaswordskills.ref.ModInfo;
+import zeldaswordskills.util.NearbyEntityCache;
+import zeldaswordskills.util.PlayerProximity;
+import zeldaswordskills.world.DungeonStoneRenderStates;
+import zeldaswordskills.world.SecretStoneIndex;
 import zeldaswordskills.world.gen.AntiqueAtlasHelper;
 import zeldaswordskills.world.gen.DungeonLootLists;
+import zeldaswordskills.world.gen.PendingChestIndex;
 import zeldaswordskills.world.gen.ZSSBossDungeonGen;
 import zeldaswordskills.world.gen.ZSSWorldGenEvent;
 import zeldaswordskills.world.gen.feature.WorldGenGossipStones;
@@ -114,6 +120,12 @@ public class ZSSMain
 			MinecraftForge.EVENT_BUS.register(WorldGenGossipStones.INSTANCE);
 		}
 		MinecraftForge.EVENT_BUS.register(WorldGenJars.INSTANCE);
+		MinecraftForge.EVENT_BUS.register(SecretStoneIndex.INSTANCE);
+		MinecraftForge.EVENT_BUS.register(PendingChestIndex.INSTANCE);
+		MinecraftForge.EVENT_BUS.register(NearbyEntityCache.INSTANCE);
+		MinecraftForge.EVENT_BUS.register(PlayerProximity.INSTANCE);
+		MinecraftForge.EVENT_BUS.register(DungeonStoneRenderStates.INSTANCE);
+		MinecraftForge.EVENT_BUS.register(ParticleBroadcaster.INSTANCE);
 		FMLInterModComms.sendRuntimeMessage(ModInfo.ID, "VersionChecker", "addVersionCheck", ModInfo.VERSION_LIST);
 	}
 
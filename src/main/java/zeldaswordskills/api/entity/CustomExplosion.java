@@ -53,6 +53,8 @@ import zeldaswordskills.block.ZSSBlocks;
 import zeldaswordskills.entity.projectile.EntityBomb;
 import zeldaswordskills.ref.Config;
 import zeldaswordskills.ref.Sounds;
+import zeldaswordskills.util.TickProfiler;
+import zeldaswordskills.util.TickProfiler.Section;
 
 /**
  * 
@@ -254,12 +256,14 @@ public class CustomExplosion extends Explosion
 	 */
 	@Override
 	public void doExplosionA() {
+		long start = TickProfiler.start(worldObj);
 		if (isSmoking && restrictExplosion > 0) {
 			populateAffectedBlocksList();
 		}
 		if (inflictsDamage) {
 			affectEntitiesWithin();
 		}
+		TickProfiler.end(Section.EXPLOSION, start, worldObj, explosionX, explosionY, explosionZ);
 	}
 
 	/**
@@ -267,6 +271,7 @@ public class CustomExplosion extends Explosion
 	 */
 	@Override
 	public void doExplosionB(boolean spawnExtraParticles) {
+		long start = TickProfiler.start(worldObj);
 		worldObj.playSoundEffect(explosionX, explosionY, explosionZ, Sounds.EXPLOSION, 4.0F, (1.0F + (worldObj.rand.nextFloat() - worldObj.rand.nextFloat()) * 0.2F) * 0.7F);
 		if (explosionSize >= 2.0F && isSmoking) {
 			worldObj.spawnParticle(EnumParticleTypes.EXPLOSION_HUGE, explosionX, explosionY, explosionZ, 1.0D, 0.0D, 0.0D);
@@ -298,6 +303,7 @@ public class CustomExplosion extends Explosion
 		}
 
 		notifyClients();
+		TickProfiler.end(Section.EXPLOSION, start, worldObj, explosionX, explosionY, explosionZ);
 	}
 
 	/**
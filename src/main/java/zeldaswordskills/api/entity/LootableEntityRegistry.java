@@ -33,11 +33,11 @@ import net.minecraft.item.ItemStack;
  */
 public class LootableEntityRegistry {
 
-	/** Map of entity class to list of potential ItemStack drops */
-	private static final Map<Class<? extends Entity>, List<ItemStack>> entityLoot = new HashMap<Class <? extends Entity>, List<ItemStack>>();
+	/** Map of entity class to its loot entry */
+	private static final Map<Class<? extends Entity>, LootEntry> entityLoot = new HashMap<Class <? extends Entity>, LootEntry>();
 
-	/** Map of entity class to chance item may be looted */
-	private static final Map<Class<? extends Entity>, Float> lootChance = new HashMap<Class <? extends Entity>, Float>();
+	/** Incremented each time an entry is added so that cached results of {@link #getLootEntry} can be refreshed */
+	private static int modCount;
 
 	private static final Random rand = new Random();
 
@@ -65,21 +65,31 @@ public class LootableEntityRegistry {
 		if (entityLoot.containsKey(entity)) {
 			return false;
 		}
-		entityLoot.put(entity, loot);
-		lootChance.put(entity, chance);
+		entityLoot.put(entity, new LootEntry(chance, loot));
+		++modCount;
 		return true;
 	}
 
+	/**
+	 * Returns the loot entry for the entity class, or null if it does not have one
+	 */
+	public static LootEntry getLootEntry(Class<? extends Entity> entity) {
+		return entityLoot.get(entity);
+	}
+
+	/**
+	 * Returns a value that changes whenever an entry is added to the registry
+	 */
+	public static int getModCount() {
+		return modCount;
+	}
+
 	/**
 	 * Returns a copy of one of the possible loot ItemStacks for the entity class or null if the entity does not have an entry
 	 */
 	public static ItemStack getEntityLoot(Class<? extends Entity> entity) {
-		List<ItemStack> loot = entityLoot.get(entity);
-		if (loot != null && loot.size() > 0) {
-			ItemStack stack = loot.get(rand.nextInt(loot.size()));
-			return (stack == null ? null : stack.copy());
-		}
-		return null;
+		LootEntry entry = entityLoot.get(entity);
+		return (entry == null ? null : entry.getRandomLoot());
 	}
 
 	/**
@@ -87,6 +97,33 @@ public class LootableEntityRegistry {
 	 * which is always zero for entities with no special drop.
 	 */
 	public static float getEntityLootChance(Class<? extends Entity> entity) {
-		return (lootChance.containsKey(entity) ? lootChance.get(entity) : 0.0F);
+		LootEntry entry = entityLoot.get(entity);
+		return (entry == null ? 0.0F : entry.chance);
+	}
+
+	/**
+	 * Loot and loot chance registered for a single entity class
+	 */
+	public static final class LootEntry {
+		/** Chance that special loot will drop when the entity is looted */
+		public final float chance;
+
+		private final List<ItemStack> loot;
+
+		private LootEntry(float chance, List<ItemStack> loot) {
+			this.chance = chance;
+			this.loot = loot;
+		}
+
+		/**
+		 * Returns a copy of one of the possible loot ItemStacks, or null if there is none
+		 */
+		public ItemStack getRandomLoot() {
+			if (loot != null && loot.size() > 0) {
+				ItemStack stack = loot.get(rand.nextInt(loot.size()));
+				return (stack == null ? null : stack.copy());
+			}
+			return null;
+		}
 	}
 }
@@ -38,7 +38,6 @@ import net.minecraft.util.EnumFacing;
 import net.minecraft.world.Explosion;
 import net.minecraft.world.IBlockAccess;
 import net.minecraft.world.World;
-import net.minecraftforge.common.ChestGenHooks;
 import net.minecraftforge.fml.client.registry.ClientRegistry;
 import net.minecraftforge.fml.common.eventhandler.Event.Result;
 import net.minecraftforge.fml.relauncher.Side;
@@ -193,7 +192,7 @@ public class BlockCeramicJar extends Block implements IExplodable, IHookable, IQ
 			if (te instanceof IInventory) {
 				IInventory inv = (IInventory) te;
 				if (inv.getStackInSlot(0) == null && world.rand.nextFloat() < Config.getJarDropChance()) {
-					inv.setInventorySlotContents(0, ChestGenHooks.getInfo(DungeonLootLists.JAR_DROPS).getOneItem(world.rand));
+					inv.setInventorySlotContents(0, DungeonLootLists.getOneItem(DungeonLootLists.JAR_DROPS, world.rand));
 				}
 			}
 			WorldUtils.dropContainerBlockInventory(world, pos);
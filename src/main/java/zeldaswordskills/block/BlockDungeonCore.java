@@ -26,14 +26,18 @@ import net.minecraft.init.Blocks;
 import net.minecraft.item.ItemStack;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.BlockPos;
+import net.minecraft.world.IBlockAccess;
 import net.minecraft.world.World;
 import zeldaswordskills.block.tileentity.TileEntityDungeonCore;
+import zeldaswordskills.block.tileentity.TileEntityDungeonStone;
 
 /**
  * 
  * This block is the core of the dungeon, providing the tile entity that verifies the
  * integrity of the structure and 'disables' indestructible blocks in addition to
  * playing the medley when breached.
+ * 
+ * Unlike regular dungeon stone, the render state is stored in the tile entity.
  *
  */
 public class BlockDungeonCore extends BlockDungeonStone
@@ -45,10 +49,29 @@ public class BlockDungeonCore extends BlockDungeonStone
 	}
 
 	@Override
-	public TileEntity createNewTileEntity(World world, int meta) {
+	public boolean hasTileEntity(IBlockState state) {
+		return true;
+	}
+
+	@Override
+	public TileEntity createTileEntity(World world, IBlockState state) {
 		return new TileEntityDungeonCore();
 	}
 
+	@Override
+	public IBlockState getRenderState(IBlockAccess world, BlockPos pos) {
+		TileEntity te = world.getTileEntity(pos);
+		return (te instanceof TileEntityDungeonStone ? ((TileEntityDungeonStone) te).getRenderState() : null);
+	}
+
+	@Override
+	public void setRenderState(World world, BlockPos pos, IBlockState renderState) {
+		TileEntity te = world.getTileEntity(pos);
+		if (te instanceof TileEntityDungeonStone) {
+			((TileEntityDungeonStone) te).setRenderState(renderState);
+		}
+	}
+
 	@Override
 	public float getBlockHardness(World world, BlockPos pos) {
 		IBlockState state = world.getBlockState(pos);
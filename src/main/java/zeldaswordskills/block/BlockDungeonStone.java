@@ -25,7 +25,6 @@ import com.google.common.collect.Lists;
 
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockStone;
-import net.minecraft.block.ITileEntityProvider;
 import net.minecraft.block.material.Material;
 import net.minecraft.block.properties.IProperty;
 import net.minecraft.block.properties.PropertyBool;
@@ -44,7 +43,6 @@ import net.minecraft.init.Blocks;
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemPickaxe;
 import net.minecraft.item.ItemStack;
-import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.BlockPos;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.EnumWorldBlockLayer;
@@ -60,7 +58,6 @@ import net.minecraftforge.fml.relauncher.SideOnly;
 import zeldaswordskills.api.block.BlockWeight;
 import zeldaswordskills.api.block.IExplodable;
 import zeldaswordskills.api.block.ISmashable;
-import zeldaswordskills.block.tileentity.TileEntityDungeonStone;
 import zeldaswordskills.client.ISwapModel;
 import zeldaswordskills.client.render.block.ModelDungeonBlock;
 import zeldaswordskills.creativetab.ZSSCreativeTabs;
@@ -68,13 +65,17 @@ import zeldaswordskills.item.ItemDungeonBlock;
 import zeldaswordskills.ref.Config;
 import zeldaswordskills.ref.Sounds;
 import zeldaswordskills.util.PlayerUtils;
+import zeldaswordskills.world.DungeonStoneRenderStates;
 
 /**
  * 
  * A simple block that renders as nearly any texture and can only be destroyed by explosions
+ * 
+ * The state to render is kept per chunk by {@link DungeonStoneRenderStates} rather than
+ * in a tile entity for each block.
  *
  */
-public class BlockDungeonStone extends Block implements ICustomStateMapper, IDungeonBlock, IExplodable, ISmashable, ISwapModel, ITileEntityProvider
+public class BlockDungeonStone extends Block implements ICustomStateMapper, IDungeonBlock, IExplodable, ISmashable, ISwapModel
 {
 	public static final PropertyBool UNBREAKABLE = PropertyBool.create("unbreakable");
 	/** Stores the block state that will be rendered */
@@ -89,11 +90,6 @@ public class BlockDungeonStone extends Block implements ICustomStateMapper, IDun
 		setDefaultState(blockState.getBaseState().withProperty(UNBREAKABLE, Boolean.FALSE));
 	}
 
-	@Override
-	public TileEntity createNewTileEntity(World world, int meta) {
-		return new TileEntityDungeonStone();
-	}
-
 	@Override
 	public BlockWeight getSmashWeight(EntityPlayer player, ItemStack stack, IBlockState state, EnumFacing face) {
 		return (state.getValue(UNBREAKABLE).booleanValue() ? BlockWeight.IMPOSSIBLE : BlockWeight.VERY_HEAVY);
@@ -153,27 +149,28 @@ public class BlockDungeonStone extends Block implements ICustomStateMapper, IDun
 	// this may not even be necessary, since these blocks will only ever be placed by a player
 	@Override
 	public void onBlockAdded(World world, BlockPos pos, IBlockState state) {
-		TileEntity te = world.getTileEntity(pos);
-		if (te instanceof TileEntityDungeonStone) {
-			TileEntityDungeonStone stone = (TileEntityDungeonStone) te;
-			if (stone.getRenderState() == null) {
-				stone.setRenderState(getDefaultRenderState(((Boolean) state.getValue(UNBREAKABLE)).booleanValue()));
-			}
+		if (getRenderState(world, pos) == null) {
+			setRenderState(world, pos, getDefaultRenderState(((Boolean) state.getValue(UNBREAKABLE)).booleanValue()));
 		}
 	}
 
 	@Override
 	public void onBlockPlacedBy(World world, BlockPos pos, IBlockState state, EntityLivingBase entity, ItemStack stack) {
-		TileEntity te = world.getTileEntity(pos);
-		if (te instanceof TileEntityDungeonStone && stack != null && stack.getItem() instanceof ItemDungeonBlock) {
+		if (stack != null && stack.getItem() instanceof ItemDungeonBlock) {
 			IBlockState renderState = ((ItemDungeonBlock) stack.getItem()).getBlockStateFromStack(stack);
 			if (renderState.getBlock() instanceof BlockDungeonStone) {
 				renderState = ((BlockDungeonStone) renderState.getBlock()).getDefaultRenderState(stack.getItemDamage() > 7);
 			}
-			((TileEntityDungeonStone) te).setRenderState(renderState);
+			setRenderState(world, pos, renderState);
 		}
 	}
 
+	@Override
+	public void breakBlock(World world, BlockPos pos, IBlockState state) {
+		DungeonStoneRenderStates.INSTANCE.setRenderState(world, pos, null);
+		super.breakBlock(world, pos, state);
+	}
+
 	// TODO remove if Mojang's stupid code ever gets fixed
 	@Override
 	public void onBlockExploded(World world, BlockPos pos, Explosion explosion) {
@@ -214,17 +211,29 @@ public class BlockDungeonStone extends Block implements ICustomStateMapper, IDun
 
 	@Override
 	public IBlockState getExtendedState(IBlockState state, IBlockAccess world, BlockPos pos) {
-		TileEntity te = world.getTileEntity(pos);
-		if (te instanceof TileEntityDungeonStone && state instanceof IExtendedBlockState) {  // avoid crash in case of mismatch
-			IExtendedBlockState extended = (IExtendedBlockState) state;
-			IBlockState renderState = ((TileEntityDungeonStone) te).getRenderState();
+		if (state instanceof IExtendedBlockState) { // avoid crash in case of mismatch
+			IBlockState renderState = getRenderState(world, pos);
 			if (renderState != null) {
-				return extended.withProperty(RENDER_BLOCK, renderState);
+				return ((IExtendedBlockState) state).withProperty(RENDER_BLOCK, renderState);
 			}
 		}
 		return state;
 	}
 
+	/**
+	 * Returns the block state this block should render as, or null if none has been set
+	 */
+	public IBlockState getRenderState(IBlockAccess world, BlockPos pos) {
+		return DungeonStoneRenderStates.INSTANCE.getRenderState(world, pos);
+	}
+
+	/**
+	 * Sets the block state this block should render as
+	 */
+	public void setRenderState(World world, BlockPos pos, IBlockState renderState) {
+		DungeonStoneRenderStates.INSTANCE.setRenderState(world, pos, renderState);
+	}
+
 	/**
 	 * Return the default render block state for the normal or unbreakable version
 	 */
@@ -235,9 +244,9 @@ public class BlockDungeonStone extends Block implements ICustomStateMapper, IDun
 	@Override
 	@SideOnly(Side.CLIENT)
 	public int colorMultiplier(IBlockAccess world, BlockPos pos, int renderPass) {
-		TileEntity te = world.getTileEntity(pos);
-		if (te instanceof TileEntityDungeonStone) {
-			return ((TileEntityDungeonStone) te).getRenderState().getBlock().colorMultiplier(world, pos, renderPass);
+		IBlockState renderState = getRenderState(world, pos);
+		if (renderState != null) {
+			return renderState.getBlock().colorMultiplier(world, pos, renderPass);
 		}
 		return super.colorMultiplier(world, pos, renderPass);
 	}
@@ -55,6 +55,7 @@ import zeldaswordskills.creativetab.ZSSCreativeTabs;
 import zeldaswordskills.ref.Config;
 import zeldaswordskills.ref.Sounds;
 import zeldaswordskills.util.PlayerUtils;
+import zeldaswordskills.world.SecretStoneIndex;
 
 /**
  * 
@@ -141,6 +142,18 @@ public class BlockSecretStone extends Block implements IBlockItemVariant, ICusto
 		return drops;
 	}
 
+	@Override
+	public void onBlockAdded(World world, BlockPos pos, IBlockState state) {
+		super.onBlockAdded(world, pos, state);
+		SecretStoneIndex.INSTANCE.onSecretStoneAdded(world, pos);
+	}
+
+	@Override
+	public void breakBlock(World world, BlockPos pos, IBlockState state) {
+		SecretStoneIndex.INSTANCE.onSecretStoneRemoved(world, pos);
+		super.breakBlock(world, pos, state);
+	}
+
 	@Override
 	public void onBlockClicked(World world, BlockPos pos, EntityPlayer player) {
 		if (player.getHeldItem() != null && player.getHeldItem().getItem() instanceof ItemPickaxe) {
@@ -104,6 +104,7 @@ public class ZSSBlocks
 		GameRegistry.registerTileEntity(TileEntityDungeonCore.class, ModInfo.ID + ":tileEntityDungeonCore");
 		dungeonStone = new BlockDungeonStone(Material.rock).setUnlocalizedName("dungeon_stone");
 		GameRegistry.registerBlock(dungeonStone, ItemDungeonBlock.class, dungeonStone.getUnlocalizedName().substring(5), new Object[]{new String[]{"minecraft:stone:5", "minecraft:stone:6"}});
+		// no longer used by dungeon stone, but still registered so that old tile entities load quietly before being converted
 		GameRegistry.registerTileEntity(TileEntityDungeonStone.class, ModInfo.ID + ":tileEntityDungeonStone");
 		gossipStone = new BlockGossipStone().setUnlocalizedName("gossip_stone");
 		GameRegistry.registerBlock(gossipStone, ItemGossipStone.class, gossipStone.getUnlocalizedName().substring(5));
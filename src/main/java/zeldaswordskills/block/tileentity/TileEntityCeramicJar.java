@@ -30,6 +30,9 @@ import net.minecraft.util.AxisAlignedBB;
 import net.minecraft.util.BlockPos;
 import net.minecraft.util.ITickable;
 import zeldaswordskills.ref.Config;
+import zeldaswordskills.util.PlayerProximity;
+import zeldaswordskills.util.TickProfiler;
+import zeldaswordskills.util.TickProfiler.Section;
 
 /**
  * 
@@ -44,7 +47,7 @@ public class TileEntityCeramicJar extends TileEntityInventory implements ITickab
 
 	private boolean shouldUpdate() {
 		return (worldObj.getTotalWorldTime() % 20 == 0 && worldObj.rand.nextInt(8) == 0 &&
-				worldObj.getClosestPlayer(getPos().getX() + 0.5D, getPos().getY() + 0.5D, getPos().getZ() + 0.5D, 16.0D) != null);
+				PlayerProximity.INSTANCE.isPlayerWithin(worldObj, getPos().getX() + 0.5D, getPos().getY() + 0.5D, getPos().getZ() + 0.5D, 16.0D));
 	}
 
 	@Override
@@ -53,6 +56,7 @@ public class TileEntityCeramicJar extends TileEntityInventory implements ITickab
 			return;
 		}
 		if (!worldObj.isRemote && getStackInSlot(0) == null && shouldUpdate()) {
+			long start = TickProfiler.start();
 			BlockPos pos = new BlockPos(getPos().getX() + 1, getPos().getY() + 1, getPos().getZ() + 1);
 			List<EntityItem> list = worldObj.getEntitiesWithinAABB(EntityItem.class, new AxisAlignedBB(getPos(), pos).expand(1.0D, 1.0D, 1.0D));
 			for (EntityItem item : list) {
@@ -69,6 +73,7 @@ public class TileEntityCeramicJar extends TileEntityInventory implements ITickab
 				setInventorySlotContents(0, stack);
 				break;
 			}
+			TickProfiler.end(Section.CERAMIC_JAR, start, worldObj, getPos());
 		}
 	}
 
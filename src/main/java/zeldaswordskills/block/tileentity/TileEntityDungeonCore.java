@@ -29,7 +29,6 @@ import net.minecraft.entity.monster.EntityZombie;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.init.Blocks;
 import net.minecraft.nbt.NBTTagCompound;
-import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.BlockPos;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.ITickable;
@@ -55,7 +54,10 @@ import zeldaswordskills.entity.player.ZSSPlayerInfo.Stats;
 import zeldaswordskills.ref.Config;
 import zeldaswordskills.ref.Sounds;
 import zeldaswordskills.util.BossType;
+import zeldaswordskills.util.PlayerProximity;
 import zeldaswordskills.util.PlayerUtils;
+import zeldaswordskills.util.TickProfiler;
+import zeldaswordskills.util.TickProfiler.Section;
 import zeldaswordskills.world.crisis.BossBattle;
 import zeldaswordskills.world.gen.feature.FairySpawner;
 
@@ -172,7 +174,7 @@ public class TileEntityDungeonCore extends TileEntityDungeonStone implements ITi
 	 */
 	private boolean shouldUpdate() {
 		return (bossBattle == null && worldObj.getTotalWorldTime() % 20 == 0 &&
-				worldObj.getClosestPlayer(pos.getX() + 0.5D, pos.getY() + 0.5D, pos.getZ() + 0.5D, 16.0D) != null);
+				PlayerProximity.INSTANCE.isPlayerWithin(worldObj, pos.getX() + 0.5D, pos.getY() + 0.5D, pos.getZ() + 0.5D, 16.0D));
 	}
 
 	@Override
@@ -180,13 +182,22 @@ public class TileEntityDungeonCore extends TileEntityDungeonStone implements ITi
 		if (worldObj.isRemote) {
 			return;
 		}
+		long start = TickProfiler.start();
+		updateCore();
+		TickProfiler.end(Section.DUNGEON_CORE, start, worldObj, pos);
+	}
+
+	/**
+	 * Handles boss battles, structure verification and fairy spawning; server side only
+	 */
+	private void updateCore() {
 		if (isBossRoom && bossBattle == null) {
 			if (box == null) {
 				ZSSMain.logger.warn(String.format("Boss room at %d/%d/%d missing structure bounding box - dungeon is being disabled", pos.getX(), pos.getY(), pos.getZ()));
 				verifyStructure(true);
 				removeCoreBlock();
-			} else {
-				EntityPlayer closestPlayer = worldObj.getClosestPlayer(pos.getX() + 0.5D, pos.getY() + 2.5D, pos.getZ() + 0.5D, (double)(box.getXSize() - 2) / 2.0D);
+			} else if (PlayerProximity.isStaggeredTick(worldObj, pos, 4)) {
+				EntityPlayer closestPlayer = PlayerProximity.INSTANCE.getClosestPlayer(worldObj, pos.getX() + 0.5D, pos.getY() + 2.5D, pos.getZ() + 0.5D, (double)(box.getXSize() - 2) / 2.0D);
 				if (closestPlayer != null && box.isVecInside(new Vec3i(MathHelper.floor_double(closestPlayer.posX), MathHelper.floor_double(closestPlayer.posY), MathHelper.floor_double(closestPlayer.posZ)))) {
 					if (!isOpened) { // player got in somehow other than the door
 						PlayerUtils.sendTranslatedChat(closestPlayer, "chat.zss.dungeon.sneak_in");
@@ -227,7 +238,7 @@ public class TileEntityDungeonCore extends TileEntityDungeonStone implements ITi
 	 * Called only when validation fails during an update, not when block broken
 	 */
 	protected void removeCoreBlock() {
-		EntityPlayer player = worldObj.getClosestPlayer(pos.getX() + 0.5D, pos.getY() + 2.5D, pos.getZ() + 0.5D, 16.0D);
+		EntityPlayer player = PlayerProximity.INSTANCE.getClosestPlayer(worldObj, pos.getX() + 0.5D, pos.getY() + 2.5D, pos.getZ() + 0.5D, 16.0D);
 		if (player != null) {
 			ZSSPlayerInfo info = ZSSPlayerInfo.get(player);
 			if (dungeonType != null) {
@@ -442,12 +453,9 @@ public class TileEntityDungeonCore extends TileEntityDungeonStone implements ITi
 								worldObj.setBlockState(pos, ((BlockSecretStone.EnumType) state.getValue(BlockSecretStone.VARIANT)).getDroppedBlock().getDefaultState(), 2);
 							} else if (state.getBlock() == ZSSBlocks.dungeonStone) {
 								// don't use instanceof because we don't want to replace dungeon cores
-								TileEntity te = worldObj.getTileEntity(pos);
-								if (te instanceof TileEntityDungeonStone) {
-									worldObj.setBlockState(pos, ((TileEntityDungeonStone) te).getRenderState(), 2);
-								} else {
-									worldObj.setBlockState(pos, ((BlockDungeonStone) state.getBlock()).getDefaultRenderState(false), 2);
-								}
+								BlockDungeonStone block = (BlockDungeonStone) state.getBlock();
+								IBlockState renderState = block.getRenderState(worldObj, pos);
+								worldObj.setBlockState(pos, (renderState != null ? renderState : block.getDefaultRenderState(false)), 2);
 							}
 						} else if (!(state.getBlock() instanceof IDungeonBlock)) {
 							if (++invalid > 2) {
@@ -32,6 +32,7 @@ import zeldaswordskills.item.ItemZeldaSword;
 import zeldaswordskills.item.ZSSItems;
 import zeldaswordskills.ref.Config;
 import zeldaswordskills.ref.Sounds;
+import zeldaswordskills.util.PlayerProximity;
 import zeldaswordskills.util.WorldUtils;
 
 /**
@@ -162,7 +163,7 @@ public class TileEntityPedestal extends TileEntityInventory
 			if (playSound) {
 				worldObj.playSoundEffect(getPos().getX() + 0.5D, getPos().getY() + 1, getPos().getZ() + 0.5D, Sounds.MASTER_SWORD, 1.0F, 1.0F);
 				retrieveSword();
-				EntityPlayer player = worldObj.getClosestPlayer(getPos().getX() + 0.5D, getPos().getY() + 0.5D, getPos().getZ() + 0.5D, 8.0D);
+				EntityPlayer player = PlayerProximity.INSTANCE.getClosestPlayer(worldObj, getPos().getX() + 0.5D, getPos().getY() + 0.5D, getPos().getZ() + 0.5D, 8.0D);
 				if (player != null) {
 					player.triggerAchievement(ZSSAchievements.swordMaster);
 				}
@@ -0,0 +1,148 @@
+/**
+    Copyright (C) <2015> <coolAlias>
+
+    This file is part of coolAlias' Zelda Sword Skills Minecraft Mod; as such,
+    you can redistribute it and/or modify it under the terms of the GNU
+    General Public License as published by the Free Software Foundation,
+    either version 3 of the License, or (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package zeldaswordskills.client.particle;
+
+import java.util.Random;
+
+import net.minecraft.block.Block;
+import net.minecraft.block.material.Material;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.client.Minecraft;
+import net.minecraft.entity.Entity;
+import net.minecraft.init.Blocks;
+import net.minecraft.util.EnumParticleTypes;
+import net.minecraft.util.MathHelper;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
+
+/**
+ *
+ * Block crack particles thrown up from the ground around the point of a heavy impact,
+ * such as a charged hammer smash or the Quake Medallion.
+ *
+ * Rather than covering every block in the area, a limited number of surface positions
+ * are sampled at random; the number depends on the client's particle setting and the
+ * viewer's distance from the impact, since particles which the effect renderer would
+ * discard anyway need not be spawned. Blocks are read directly from chunk storage so
+ * that no positions need to be allocated.
+ *
+ */
+@SideOnly(Side.CLIENT)
+public class GroundImpactEffect
+{
+	/** Maximum number of particles for a single effect, at full particle settings and close range */
+	private static final int MAX_PARTICLES = 256;
+
+	/** Number of particles spawned at each sampled surface position */
+	private static final int PARTICLES_PER_POSITION = 4;
+
+	/** Distance from the viewer within which the effect is shown in full */
+	private static final double FULL_DETAIL_DISTANCE = 8.0D;
+
+	/** Vanilla does not spawn regular particles any farther than this from the viewer */
+	private static final double PARTICLE_RANGE = 16.0D;
+
+	private GroundImpactEffect() {}
+
+	/**
+	 * Spawns block crack particles from the ground surface around the center position
+	 * @param radius	Horizontal radius of the affected area
+	 * @param height	Number of blocks above and below the center to search for the surface
+	 * @param seed		Seed used to select positions, so every client shows the same pattern
+	 */
+	public static void spawn(World world, double x, double y, double z, float radius, int height, long seed) {
+		int r = Math.max(MathHelper.ceiling_float_int(radius), 1);
+		int positions = Math.min(4 * r * r, (int)(MAX_PARTICLES * getDetailScale(x, y, z, r)) / PARTICLES_PER_POSITION);
+		Random rand = new Random(seed);
+		int centerY = MathHelper.floor_double(y);
+		for (int n = 0; n < positions; ++n) {
+			double px = x + (rand.nextDouble() * 2.0D - 1.0D) * r;
+			double pz = z + (rand.nextDouble() * 2.0D - 1.0D) * r;
+			int bx = MathHelper.floor_double(px);
+			int bz = MathHelper.floor_double(pz);
+			Chunk chunk = world.getChunkFromChunkCoords(bx >> 4, bz >> 4);
+			for (int by = centerY + height; by >= centerY - height; --by) {
+				IBlockState ground = getBlockState(chunk, bx, by - 1, bz);
+				Block block = ground.getBlock();
+				if (block.getRenderType() != -1 && block.getMaterial() != Material.air && getBlockState(chunk, bx, by, bz).getBlock().getMaterial() == Material.air) {
+					spawnParticlesAt(world, px, by, pz, Block.getStateId(ground));
+					break;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the fraction of an effect's full detail which should be shown at the given position,
+	 * based on the client's particle setting and the viewer's distance
+	 * @param r Horizontal radius of the effect, since its edge may be closer to the viewer than its center
+	 */
+	public static float getDetailScale(double x, double y, double z, int r) {
+		Minecraft mc = Minecraft.getMinecraft();
+		Entity viewer = mc.getRenderViewEntity();
+		float scale;
+		switch (mc.gameSettings.particleSetting) {
+		case 0: scale = 1.0F; break;
+		case 1: scale = 0.5F; break;
+		default: return 0.0F; // minimal particles: vanilla would discard all of them
+		}
+		if (viewer != null) {
+			double d = Math.sqrt(viewer.getDistanceSq(x, y, z)) - r;
+			if (d > PARTICLE_RANGE) {
+				return 0.0F;
+			} else if (d > FULL_DETAIL_DISTANCE) {
+				scale *= 1.0F - 0.75F * (float)((d - FULL_DETAIL_DISTANCE) / (PARTICLE_RANGE - FULL_DETAIL_DISTANCE));
+			}
+		}
+		return scale;
+	}
+
+	/**
+	 * Returns the state id of the block at the position for use with {@link EnumParticleTypes#BLOCK_CRACK},
+	 * or -1 if the block is not rendered
+	 */
+	public static int getGroundStateId(World world, int x, int y, int z) {
+		IBlockState state = getBlockState(world.getChunkFromChunkCoords(x >> 4, z >> 4), x, y, z);
+		return (state.getBlock().getRenderType() == -1 ? -1 : Block.getStateId(state));
+	}
+
+	private static void spawnParticlesAt(World world, double x, int y, double z, int stateId) {
+		for (int i = 0; i < PARTICLES_PER_POSITION; ++i) {
+			double dx = x + world.rand.nextFloat() - 0.5F;
+			double dy = y + world.rand.nextFloat() * 0.2F;
+			double dz = z + world.rand.nextFloat() - 0.5F;
+			world.spawnParticle(EnumParticleTypes.BLOCK_CRACK, dx, dy, dz, world.rand.nextGaussian(), 0, world.rand.nextGaussian(), stateId);
+		}
+	}
+
+	/**
+	 * Returns the block state from the chunk's storage, or air if the position is out of bounds or empty
+	 */
+	private static IBlockState getBlockState(Chunk chunk, int x, int y, int z) {
+		if (y >= 0 && y < 256) {
+			ExtendedBlockStorage storage = chunk.getBlockStorageArray()[y >> 4];
+			if (storage != null) {
+				return storage.get(x & 15, y & 15, z & 15);
+			}
+		}
+		return Blocks.air.getDefaultState();
+	}
+}
@@ -0,0 +1,126 @@
+/**
+    Copyright (C) <2015> <coolAlias>
+
+    This file is part of coolAlias' Zelda Sword Skills Minecraft Mod; as such,
+    you can redistribute it and/or modify it under the terms of the GNU
+    General Public License as published by the Free Software Foundation,
+    either version 3 of the License, or (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package zeldaswordskills.command;
+
+import java.util.List;
+
+import net.minecraft.command.CommandBase;
+import net.minecraft.command.CommandException;
+import net.minecraft.command.ICommand;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.command.WrongUsageException;
+import net.minecraft.util.BlockPos;
+import net.minecraft.util.ChatComponentTranslation;
+import zeldaswordskills.util.TickProfiler;
+import zeldaswordskills.util.TickProfiler.Location;
+import zeldaswordskills.util.TickProfiler.Result;
+import zeldaswordskills.util.TickProfiler.Section;
+
+public class CommandProfiler extends CommandBase
+{
+	public static final ICommand INSTANCE = new CommandProfiler();
+
+	/** Default number of worst offenders to list when reporting a single section */
+	private static final int DEFAULT_COUNT = 5;
+
+	private CommandProfiler() {}
+
+	@Override
+	public String getCommandName() {
+		return "zssprofiler";
+	}
+
+	@Override
+	public int getRequiredPermissionLevel() {
+		return 2;
+	}
+
+	/**
+	 * zssprofiler <start|stop|report> [section] [count]
+	 */
+	@Override
+	public String getCommandUsage(ICommandSender sender) {
+		return "commands.zssprofiler.usage";
+	}
+
+	@Override
+	public void processCommand(ICommandSender sender, String[] args) throws CommandException {
+		if (args == null || args.length < 1) {
+			throw new WrongUsageException(getCommandUsage(sender));
+		}
+		if (("start").equals(args[0]) && args.length == 1) {
+			TickProfiler.startProfiling();
+			sender.addChatMessage(new ChatComponentTranslation("commands.zssprofiler.start"));
+		} else if (("stop").equals(args[0]) && args.length == 1) {
+			if (!TickProfiler.isProfiling()) {
+				throw new CommandException("commands.zssprofiler.not_running");
+			}
+			TickProfiler.stopProfiling();
+			sender.addChatMessage(new ChatComponentTranslation("commands.zssprofiler.stop", format(TickProfiler.getElapsedSeconds())));
+		} else if (("report").equals(args[0]) && args.length < 4) {
+			if (!TickProfiler.hasResults()) {
+				throw new CommandException("commands.zssprofiler.no_results");
+			}
+			sender.addChatMessage(new ChatComponentTranslation("commands.zssprofiler.report.header", format(TickProfiler.getElapsedSeconds())));
+			if (args.length == 1) {
+				for (Section section : Section.values()) {
+					sendSection(sender, TickProfiler.getResult(section));
+				}
+			} else {
+				Section section = Section.fromName(args[1]);
+				if (section == null) {
+					throw new CommandException("commands.zssprofiler.section.unknown", args[1]);
+				}
+				int count = (args.length == 3 ? CommandBase.parseInt(args[2], 1, 50) : DEFAULT_COUNT);
+				sendSection(sender, TickProfiler.getResult(section));
+				for (Location location : TickProfiler.getWorstOffenders(section, count)) {
+					BlockPos pos = location.pos;
+					sender.addChatMessage(new ChatComponentTranslation("commands.zssprofiler.report.location" + (section.byChunk ? ".chunk" : ""),
+							location.dimension, pos.getX(), pos.getY(), pos.getZ(), location.getCalls(), format(location.getTotalNanos() / 1.0E6D)));
+				}
+			}
+		} else {
+			throw new WrongUsageException(getCommandUsage(sender));
+		}
+	}
+
+	private void sendSection(ICommandSender sender, Result result) {
+		sender.addChatMessage(new ChatComponentTranslation("commands.zssprofiler.report.section", result.section.name,
+				format(result.getMillisPerSecond()), format(result.getCallsPerSecond()), format(result.getAverageMicros()), format(result.maxNanos / 1.0E3D)));
+	}
+
+	private static String format(double value) {
+		return String.format("%.2f", value);
+	}
+
+	@Override
+	public List<String> addTabCompletionOptions(ICommandSender sender, String[] args, BlockPos pos) {
+		switch (args.length) {
+		case 1: return getListOfStringsMatchingLastWord(args, "start", "stop", "report");
+		case 2:
+			if (("report").equals(args[0])) {
+				String[] names = new String[Section.values().length];
+				for (Section section : Section.values()) {
+					names[section.ordinal()] = section.name;
+				}
+				return getListOfStringsMatchingLastWord(args, names);
+			}
+		}
+		return null;
+	}
+}
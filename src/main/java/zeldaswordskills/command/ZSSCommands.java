@@ -31,5 +31,6 @@ public class ZSSCommands
 		event.registerServerCommand(CommandRemoveSong.INSTANCE);
 		event.registerServerCommand(CommandSetMagic.INSTANCE);
 		event.registerServerCommand(CommandWeaponRegistry.INSTANCE);
+		event.registerServerCommand(CommandProfiler.INSTANCE);
 	}
 }
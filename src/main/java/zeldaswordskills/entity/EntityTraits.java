@@ -0,0 +1,104 @@
+/**
+    Copyright (C) <2015> <coolAlias>
+
+    This file is part of coolAlias' Zelda Sword Skills Minecraft Mod; as such,
+    you can redistribute it and/or modify it under the terms of the GNU
+    General Public License as published by the Free Software Foundation,
+    either version 3 of the License, or (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package zeldaswordskills.entity;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.boss.IBossDisplayData;
+import net.minecraft.entity.monster.IMob;
+import zeldaswordskills.api.entity.IEntityBackslice;
+import zeldaswordskills.api.entity.IEntityLootable;
+import zeldaswordskills.api.entity.LootableEntityRegistry;
+import zeldaswordskills.api.entity.LootableEntityRegistry.LootEntry;
+import zeldaswordskills.skills.sword.BackSlice;
+
+/**
+ *
+ * Records which of the interfaces and registrations checked together by the mod's event
+ * handlers, skills and projectiles apply to an entity class, so that each is only resolved
+ * once per class instead of on every hit or drop. Places making only a single interface
+ * check simply use instanceof.
+ *
+ * Descriptors are created the first time a class is seen and are shared by both the
+ * client and server threads; all of their values are determined solely by the class.
+ *
+ */
+public final class EntityTraits
+{
+	private static final Map<Class<? extends Entity>, EntityTraits> traits = new ConcurrentHashMap<Class<? extends Entity>, EntityTraits>();
+
+	public final boolean isMob;
+	public final boolean isBoss;
+	public final boolean isLootable;
+
+	/** True if the class implements {@link IEntityBackslice} */
+	public final boolean isBackslice;
+
+	/** True if the class is one of those immune to {@link BackSlice}'s damage multiplier */
+	public final boolean isBacksliceImmune;
+
+	private final Class<? extends Entity> clazz;
+
+	/** Entry from the {@link LootableEntityRegistry} for this class, refreshed whenever the registry changes */
+	private volatile LootEntry lootEntry;
+
+	/** Registry modification count at the time lootEntry was resolved */
+	private volatile int lootModCount = -1;
+
+	private EntityTraits(Class<? extends Entity> clazz) {
+		this.clazz = clazz;
+		this.isMob = IMob.class.isAssignableFrom(clazz);
+		this.isBoss = IBossDisplayData.class.isAssignableFrom(clazz);
+		this.isLootable = IEntityLootable.class.isAssignableFrom(clazz);
+		this.isBackslice = IEntityBackslice.class.isAssignableFrom(clazz);
+		this.isBacksliceImmune = BackSlice.isImmuneClass(clazz);
+	}
+
+	/**
+	 * Returns the descriptor for the entity's class, creating it if necessary
+	 */
+	public static EntityTraits get(Entity entity) {
+		return get(entity.getClass());
+	}
+
+	/**
+	 * Returns the descriptor for the entity class, creating it if necessary
+	 */
+	public static EntityTraits get(Class<? extends Entity> clazz) {
+		EntityTraits info = traits.get(clazz);
+		if (info == null) {
+			info = new EntityTraits(clazz);
+			traits.put(clazz, info);
+		}
+		return info;
+	}
+
+	/**
+	 * Returns the loot registered for this exact class in the {@link LootableEntityRegistry}, if any
+	 */
+	public LootEntry getRegisteredLoot() {
+		int modCount = LootableEntityRegistry.getModCount();
+		if (lootModCount != modCount) {
+			lootEntry = LootableEntityRegistry.getLootEntry(clazz);
+			lootModCount = modCount;
+		}
+		return lootEntry;
+	}
+}
@@ -0,0 +1,95 @@
+/**
+    Copyright (C) <2015> <coolAlias>
+
+    This file is part of coolAlias' Zelda Sword Skills Minecraft Mod; as such,
+    you can redistribute it and/or modify it under the terms of the GNU
+    General Public License as published by the Free Software Foundation,
+    either version 3 of the License, or (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package zeldaswordskills.entity;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import net.minecraft.entity.Entity;
+import net.minecraft.util.ClassInheritanceMultiMap;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+
+/**
+ *
+ * Limits how many swarm members may be spawned, so that mobs which bring friends along
+ * when they first spawn (e.g. Keese) cannot flood the server with entities in one tick
+ * when many of them are loaded at once, e.g. as a player explores a large cave system.
+ *
+ * Swarm leaders are expected to spawn their members one at a time over several ticks,
+ * checking {@link #canSpawnInChunk} and {@link #tryConsume} before each one.
+ *
+ */
+public class SwarmSpawnBudget
+{
+	/** Maximum number of swarm members that may be spawned in each dimension per tick */
+	public static final int MAX_PER_WORLD_TICK = 4;
+
+	/** Spawns used during the current tick for each dimension, keyed by dimension id */
+	private static final Map<Integer, TickBudget> budgets = new HashMap<Integer, TickBudget>();
+
+	private SwarmSpawnBudget() {}
+
+	/**
+	 * Attempts to use up one of the world's swarm spawns for the current tick
+	 * @return false if the world's budget for this tick has already been spent
+	 */
+	public static boolean tryConsume(World world) {
+		int dimension = world.provider.getDimensionId();
+		TickBudget budget = budgets.get(dimension);
+		if (budget == null) {
+			budget = new TickBudget();
+			budgets.put(dimension, budget);
+		}
+		long time = world.getTotalWorldTime();
+		if (budget.time != time) {
+			budget.time = time;
+			budget.spawned = 0;
+		}
+		if (budget.spawned >= MAX_PER_WORLD_TICK) {
+			return false;
+		}
+		++budget.spawned;
+		return true;
+	}
+
+	/**
+	 * Returns true if there are fewer than max entities of the given class in the entity's chunk
+	 */
+	public static boolean canSpawnInChunk(Entity entity, Class<? extends Entity> type, int max) {
+		if (!entity.addedToChunk) {
+			return true;
+		}
+		Chunk chunk = entity.worldObj.getChunkFromChunkCoords(entity.chunkCoordX, entity.chunkCoordZ);
+		int count = 0;
+		for (ClassInheritanceMultiMap<Entity> entities : chunk.getEntityLists()) {
+			for (Entity e : entities.getByClass(type)) {
+				if (!e.isDead && ++count >= max) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	private static class TickBudget
+	{
+		private long time = -1L;
+		private int spawned;
+	}
+}
@@ -19,8 +19,10 @@ package zeldaswordskills.entity;
 
 import java.util.Collection;
 import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.Set;
 
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityLivingBase;
@@ -31,6 +33,7 @@ import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
 import net.minecraft.util.DamageSource;
 import net.minecraft.world.World;
+import net.minecraft.world.WorldServer;
 import net.minecraftforge.common.IExtendedEntityProperties;
 import net.minecraftforge.common.util.Constants;
 import zeldaswordskills.api.entity.CustomExplosion;
@@ -40,6 +43,7 @@ import zeldaswordskills.entity.buff.Buff;
 import zeldaswordskills.entity.buff.BuffBase;
 import zeldaswordskills.network.PacketDispatcher;
 import zeldaswordskills.network.client.SyncEntityInfoPacket;
+import zeldaswordskills.network.client.UpdateBuffPacket;
 import zeldaswordskills.ref.Config;
 
 /**
@@ -57,6 +61,12 @@ public class ZSSEntityInfo implements IExtendedEntityProperties
 	/** Map of active buffs */
 	private Map<Buff, BuffBase> activeBuffs = new EnumMap<Buff, BuffBase>(Buff.class);
 
+	/** Buffs which have been added, changed, or removed since the client(s) were last updated */
+	private final Set<Buff> dirtyBuffs = EnumSet.noneOf(Buff.class);
+
+	/** Copy of each buff as it was last sent to the client(s), used to skip updates that would change nothing */
+	private final Map<Buff, BuffBase> syncedBuffs = new EnumMap<Buff, BuffBase>(Buff.class);
+
 	/** Time this entity will remain immune to further stun effects */
 	private int stunResistTime;
 
@@ -114,8 +124,9 @@ public class ZSSEntityInfo implements IExtendedEntityProperties
 	public void applyBuff(BuffBase newBuff) {
 		synchronized (activeBuffs) {
 			if (isBuffActive(newBuff.getBuff())) {
-				getActiveBuff(newBuff.getBuff()).combine(newBuff);
-				getActiveBuff(newBuff.getBuff()).onChanged(this.entity);
+				if (getActiveBuff(newBuff.getBuff()).combine(newBuff)) {
+					getActiveBuff(newBuff.getBuff()).onChanged(this.entity);
+				}
 			} else {
 				activeBuffs.put(newBuff.getBuff(), newBuff);
 				newBuff.onAdded(this.entity);
@@ -123,6 +134,21 @@ public class ZSSEntityInfo implements IExtendedEntityProperties
 		}
 	}
 
+	/**
+	 * Replaces any active buff of the same type with the one given rather than combining them,
+	 * so that the client always ends up with exactly the state sent by the server
+	 */
+	public void setBuff(BuffBase newBuff) {
+		synchronized (activeBuffs) {
+			BuffBase oldBuff = activeBuffs.put(newBuff.getBuff(), newBuff);
+			if (oldBuff == null) {
+				newBuff.onAdded(this.entity);
+			} else {
+				newBuff.onChanged(this.entity);
+			}
+		}
+	}
+
 	/**
 	 * Removes all buffs from this entity
 	 */
@@ -133,7 +159,7 @@ public class ZSSEntityInfo implements IExtendedEntityProperties
 	/**
 	 * Removes all temporary buffs from this entity
 	 * @param removeAll		If true, permanent buffs will also be removed
-	 * @param sendUpdate	True will send a packet for each buff removed
+	 * @param sendUpdate	True to update the client(s) about each buff removed
 	 */
 	public void removeAllBuffs(boolean removeAll, boolean sendUpdate) {
 		if (!entity.worldObj.isRemote) {
@@ -160,6 +186,54 @@ public class ZSSEntityInfo implements IExtendedEntityProperties
 		}
 	}
 
+	/**
+	 * Called from {@link BuffBase} on the server whenever the buff is added, changed, or removed
+	 * @param needsUpdate	False if the client(s) should not be informed of the change, e.g. because it
+	 * 						will be made on the client as well, in which case it is no longer known whether
+	 * 						the client(s) have the buff and any previous pending update is discarded
+	 */
+	public void markBuffForSync(Buff buff, boolean needsUpdate) {
+		if (entity.worldObj.isRemote || !(entity instanceof EntityPlayerMP || buff.syncNonPlayerEntity)) {
+			return;
+		} else if (needsUpdate) {
+			dirtyBuffs.add(buff);
+		} else {
+			dirtyBuffs.remove(buff);
+			syncedBuffs.remove(buff);
+		}
+	}
+
+	/**
+	 * Sends every buff change made since the last call in a single packet to the player, or to each
+	 * player tracking the entity, skipping any buff whose state now matches what was last sent
+	 */
+	private void syncBuffs() {
+		if (dirtyBuffs.isEmpty()) {
+			return;
+		}
+		Map<Buff, BuffBase> changes = new EnumMap<Buff, BuffBase>(Buff.class);
+		for (Buff buff : dirtyBuffs) {
+			BuffBase current = activeBuffs.get(buff);
+			if (current == null) {
+				if (syncedBuffs.remove(buff) != null) {
+					changes.put(buff, null);
+				}
+			} else if (!current.equals(syncedBuffs.get(buff))) {
+				BuffBase copy = new BuffBase(current);
+				syncedBuffs.put(buff, copy);
+				changes.put(buff, copy);
+			}
+		}
+		dirtyBuffs.clear();
+		if (changes.isEmpty()) {
+			return;
+		} else if (entity instanceof EntityPlayerMP) {
+			PacketDispatcher.sendTo(new UpdateBuffPacket(changes), (EntityPlayerMP) entity);
+		} else if (entity.worldObj instanceof WorldServer) {
+			PacketDispatcher.sendToPlayers(new UpdateBuffPacket(entity, changes), ((WorldServer) entity.worldObj).getEntityTracker().getTrackingPlayers(entity));
+		}
+	}
+
 	/**
 	 * Updates all active buffs, removing any whose duration reaches zero
 	 */
@@ -251,6 +325,9 @@ public class ZSSEntityInfo implements IExtendedEntityProperties
 			--stunResistTime;
 		}
 		updateIngestedTime();
+		if (!entity.worldObj.isRemote) {
+			syncBuffs();
+		}
 	}
 
 	private void updateIngestedTime() {
@@ -304,6 +381,11 @@ public class ZSSEntityInfo implements IExtendedEntityProperties
 	public void onJoinWorld() {
 		if (entity instanceof EntityPlayerMP) {
 			PacketDispatcher.sendTo(new SyncEntityInfoPacket(this), (EntityPlayerMP) entity);
+			dirtyBuffs.clear();
+			syncedBuffs.clear();
+			for (BuffBase buff : activeBuffs.values()) {
+				syncedBuffs.put(buff.getBuff(), new BuffBase(buff));
+			}
 		}
 	}
 
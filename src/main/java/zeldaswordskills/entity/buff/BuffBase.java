@@ -18,12 +18,9 @@
 package zeldaswordskills.entity.buff;
 
 import net.minecraft.entity.EntityLivingBase;
-import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.nbt.NBTTagCompound;
-import net.minecraft.world.WorldServer;
 import zeldaswordskills.ZSSMain;
-import zeldaswordskills.network.PacketDispatcher;
-import zeldaswordskills.network.client.UpdateBuffPacket;
+import zeldaswordskills.entity.ZSSEntityInfo;
 
 /**
  * 
@@ -92,8 +89,9 @@ public class BuffBase
 
 	/**
 	 * Combines the new buff's duration and amplifier with the old buff
+	 * @return true if this buff's duration or amplifier changed as a result
 	 */
-	public void combine(BuffBase newBuff) {
+	public boolean combine(BuffBase newBuff) {
 		if (newBuff.buff != this.buff) {
 			ZSSMain.logger.warn("Combining two buffs of different types should be impossible!");
 		} else if (this.isPermanent()) {
@@ -101,22 +99,22 @@ public class BuffBase
 		} else if (newBuff.amplifier > this.amplifier) {
 			this.amplifier = newBuff.amplifier;
 			this.duration = newBuff.duration;
+			return true;
 		} else if (newBuff.amplifier == this.amplifier && newBuff.duration > this.duration) {
 			this.duration = newBuff.duration;
+			return true;
 		}
+		return false;
 	}
 
 	/**
-	 * Adds any effects the buff may have to the entity when first applied 
+	 * Adds any effects the buff may have to the entity when first applied;
+	 * the client(s) are updated at the end of the entity's next update tick.
 	 */
 	public void onAdded(EntityLivingBase entity) {
 		if (!entity.worldObj.isRemote) {
 			buff.onAdded(entity, amplifier);
-			if (entity instanceof EntityPlayerMP) {
-				PacketDispatcher.sendTo(new UpdateBuffPacket(this, false), (EntityPlayerMP) entity);
-			} else if (buff.syncNonPlayerEntity && entity.worldObj instanceof WorldServer) {
-				PacketDispatcher.sendToPlayers(new UpdateBuffPacket(this, entity, false), ((WorldServer) entity.worldObj).getEntityTracker().getTrackingPlayers(entity));
-			}
+			ZSSEntityInfo.get(entity).markBuffForSync(buff, true);
 		}
 	}
 
@@ -129,18 +127,12 @@ public class BuffBase
 
 	/**
 	 * Removes any effects that may have been applied when the buff is removed,
-	 * updating the client player if needsUpdate is true
+	 * updating the client(s) at the end of the entity's next update tick if needsUpdate is true
 	 */
 	public void onRemoved(EntityLivingBase entity, boolean needsUpdate) {
 		if (!entity.worldObj.isRemote) {
 			buff.onRemoved(entity, amplifier);
-			if (needsUpdate) {
-				if (entity instanceof EntityPlayerMP) {
-					PacketDispatcher.sendTo(new UpdateBuffPacket(this, true), (EntityPlayerMP) entity);
-				} else if (buff.syncNonPlayerEntity && entity.worldObj instanceof WorldServer) {
-					PacketDispatcher.sendToPlayers(new UpdateBuffPacket(this, entity, true), ((WorldServer) entity.worldObj).getEntityTracker().getTrackingPlayers(entity));
-				}
-			}
+			ZSSEntityInfo.get(entity).markBuffForSync(buff, needsUpdate);
 		}
 	}
 
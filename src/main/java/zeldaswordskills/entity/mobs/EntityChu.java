@@ -67,6 +67,7 @@ import zeldaswordskills.item.ZSSItems;
 import zeldaswordskills.ref.Config;
 import zeldaswordskills.ref.Sounds;
 import zeldaswordskills.util.BiomeType;
+import zeldaswordskills.util.PlayerProximity;
 import zeldaswordskills.util.WorldUtils;
 
 /**
@@ -623,7 +624,7 @@ public class EntityChu extends EntitySlime implements IEntityBombEater, IEntityL
 	 */
 	protected void updateShockState() {
 		if (getShockTime() == 0 && !ZSSEntityInfo.get(this).isBuffActive(Buff.STUN)) {
-			EntityPlayer player = worldObj.getClosestPlayerToEntity(this, 16.0D);
+			EntityPlayer player = PlayerProximity.INSTANCE.getClosestPlayerToEntity(this, 16.0D);
 			if (player != null && (recentlyHit > 0 || rand.nextInt(getShockInterval()) == 0)) {
 				setShockTime(rand.nextInt(getSlimeSize() * 50) + (worldObj.getDifficulty().getDifficultyId() * (rand.nextInt(20) + 10)));
 			}
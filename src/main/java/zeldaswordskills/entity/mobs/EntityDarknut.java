@@ -17,6 +17,7 @@
 
 package zeldaswordskills.entity.mobs;
 
+import java.util.Iterator;
 import java.util.List;
 import java.util.UUID;
 
@@ -67,6 +68,7 @@ import zeldaswordskills.ref.Sounds;
 import zeldaswordskills.skills.SkillBase;
 import zeldaswordskills.skills.sword.Parry;
 import zeldaswordskills.util.BiomeType;
+import zeldaswordskills.util.NearbyEntityCache;
 import zeldaswordskills.util.TargetUtils;
 import zeldaswordskills.util.WorldUtils;
 
@@ -144,6 +146,12 @@ public class EntityDarknut extends EntityMob implements IEntityBackslice, IEntit
 	/** List of spin attack targets */
 	private List<EntityLivingBase> targets;
 
+	/** Eye position at which {@link #breakEnclosingBlocks} last found nothing to break */
+	private BlockPos lastEnclosedPos;
+
+	/** Tick at which {@link #breakEnclosingBlocks} last found nothing to break */
+	private int lastEnclosedCheck;
+
 	public EntityDarknut(World world) {
 		super(world);
 		powerAttackAI = getNewPowerAttackAI();
@@ -344,10 +352,8 @@ public class EntityDarknut extends EntityMob implements IEntityBackslice, IEntit
 						worldObj.setEntityState(this, SPIN_FLAG);
 						spinAttackTimer = 12;
 						recentHits = 0;
-						targets = worldObj.getEntitiesWithinAABB(EntityLivingBase.class, getEntityBoundingBox().expand(4.0D, 0.0D, 4.0D));
-						if (targets.contains(this)) {
-							targets.remove(this);
-						}
+						targets = NearbyEntityCache.INSTANCE.getLivingEntitiesWithin(worldObj, getEntityBoundingBox().expand(4.0D, 0.0D, 4.0D));
+						targets.remove(this);
 					}
 				} else {
 					recentHits = 1;
@@ -359,10 +365,15 @@ public class EntityDarknut extends EntityMob implements IEntityBackslice, IEntit
 	}
 
 	/**
-	 * Tries to break out of suffocating blocks
+	 * Tries to break out of suffocating blocks; since this is called every tick while suffocating,
+	 * the surrounding blocks are not checked again until the Darknut moves or a second has passed
+	 * since they were last found to contain nothing breakable
 	 */
 	protected void breakEnclosingBlocks() {
 		BlockPos eyePos = new BlockPos(posX, posY + getEyeHeight(), posZ);
+		if (eyePos.equals(lastEnclosedPos) && ticksExisted - lastEnclosedCheck < 20) {
+			return;
+		}
 		boolean flag = false;
 		// smash all blocks in a 3x3x3 area around the Darknut's head
 		for (int i = -1; i < 2; ++i) {
@@ -384,6 +395,10 @@ public class EntityDarknut extends EntityMob implements IEntityBackslice, IEntit
 			swingItem();
 			attackTime = 20;
 			worldObj.playSoundEffect(posX, posY, posZ, Sounds.ROCK_FALL, 1.0F, 1.0F);
+			lastEnclosedPos = null;
+		} else {
+			lastEnclosedPos = eyePos;
+			lastEnclosedCheck = ticksExisted;
 		}
 	}
 
@@ -619,14 +634,20 @@ public class EntityDarknut extends EntityMob implements IEntityBackslice, IEntit
 				rotationYaw += 30.0F;
 				while (rotationYaw > 360.0F) { rotationYaw -= 360.0F; }
 				while (rotationYaw < -360.0F) { rotationYaw += 360.0F; }
-				if (!worldObj.isRemote) {
-					List<EntityLivingBase> list = TargetUtils.acquireAllLookTargets(this, 5, 1.0D);
-					for (EntityLivingBase target : list) {
-						if (targets != null && targets.contains(target)) {
-							attackEntity(target, SPIN_FLAG);
-							targets.remove(target);
+				if (!worldObj.isRemote && targets != null) {
+					// only the targets chosen when the spin began can be hit, so there is no need to search the world
+					Iterator<EntityLivingBase> iterator = targets.iterator();
+					while (iterator.hasNext()) {
+						EntityLivingBase target = iterator.next();
+						if (!target.isEntityAlive() || target.worldObj != worldObj) {
+							iterator.remove();
 						}
 					}
+					List<EntityLivingBase> list = TargetUtils.filterLookTargets(this, targets, 5, 1.0D);
+					for (EntityLivingBase target : list) {
+						attackEntity(target, SPIN_FLAG);
+						targets.remove(target);
+					}
 				}
 			}
 		}
@@ -23,6 +23,7 @@ import net.minecraft.entity.EntityLivingBase;
 import net.minecraft.util.DamageSource;
 import net.minecraft.world.World;
 import zeldaswordskills.util.BiomeType;
+import zeldaswordskills.util.NearbyEntityCache;
 
 public class EntityDekuWithered extends EntityDekuBase
 {
@@ -57,16 +58,19 @@ public class EntityDekuWithered extends EntityDekuBase
 		super.onLivingUpdate();
 		this.setRotation(this.getTicksExistedOffset(-1), this.rotationPitch);
 		// don't call super - don't want any movement or any such thing
+		if (worldObj.isRemote) {
+			return;
+		}
 		double widthSq = (this.width * 2.0F * this.width * 2.0F);
 		float mod = 1.0F * (float) worldObj.getDifficulty().getDifficultyId();
-		List<EntityLivingBase> entities = worldObj.getEntitiesWithinAABB(EntityLivingBase.class, this.getEntityBoundingBox().expand(3F + mod, 0.0F, 3F + mod));
+		List<EntityLivingBase> entities = NearbyEntityCache.INSTANCE.getLivingEntitiesWithin(worldObj, this.getEntityBoundingBox().expand(3F + mod, 0.0F, 3F + mod));
 		for (EntityLivingBase entity : entities) {
-			if (entity instanceof EntityDekuBase || !entity.isEntityAlive() || !canEntityBeSeen(entity)) {
+			if (entity instanceof EntityDekuBase || !entity.isEntityAlive()) {
 				continue;
 			}
 			double d0 = this.getDistanceSq(entity.posX, entity.getEntityBoundingBox().minY, entity.posZ);
 			double d1 = widthSq + entity.width + mod;
-			if (d0 <= d1) {
+			if (d0 <= d1 && canEntityBeSeen(entity)) {
 				this.attackEntityAsMob(entity);
 			}
 		}
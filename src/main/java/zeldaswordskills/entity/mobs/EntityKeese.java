@@ -51,6 +51,7 @@ import zeldaswordskills.api.damage.IDamageSourceStun;
 import zeldaswordskills.api.entity.IEntityLootable;
 import zeldaswordskills.api.item.ArmorIndex;
 import zeldaswordskills.entity.IEntityVariant;
+import zeldaswordskills.entity.SwarmSpawnBudget;
 import zeldaswordskills.entity.ZSSEntityInfo;
 import zeldaswordskills.entity.buff.Buff;
 import zeldaswordskills.entity.player.ZSSPlayerInfo;
@@ -59,6 +60,7 @@ import zeldaswordskills.item.ZSSItems;
 import zeldaswordskills.ref.Config;
 import zeldaswordskills.ref.Sounds;
 import zeldaswordskills.util.BiomeType;
+import zeldaswordskills.util.PlayerProximity;
 
 public class EntityKeese extends EntityBat implements IMob, IEntityLootable, IEntityVariant
 {
@@ -117,6 +119,15 @@ public class EntityKeese extends EntityBat implements IMob, IEntityLootable, IEn
 	/** Whether this Keese has spawned a swarm already */
 	private boolean swarmSpawned;
 
+	/** Maximum number of Keese allowed in one chunk; swarms stop growing once it is reached */
+	private static final int MAX_KEESE_PER_CHUNK = 16;
+
+	/** Number of swarm members this Keese has yet to spawn */
+	private int swarmPending;
+
+	/** Ticks remaining until the next swarm member may be spawned */
+	private int swarmDelay;
+
 	public EntityKeese(World world) {
 		super(world);
 		setSize(0.5F, 0.9F);
@@ -351,20 +362,16 @@ public class EntityKeese extends EntityBat implements IMob, IEntityLootable, IEn
 		if (attackTime > 0) {
 			--attackTime;
 		}
-		if (!swarmSpawned && !worldObj.isRemote) {
-			swarmSpawned = true;
-			if (rand.nextFloat() < Config.getKeeseSwarmChance()) {
-				int n = Config.getKeeseSwarmSize() - rand.nextInt(Config.getKeeseSwarmSize());
-				for (int i = 0; i < n; ++i) {
-					EntityKeese k = new EntityKeese(worldObj);
-					double x = this.posX + rand.nextFloat() * 2.0F;
-					double z = this.posZ + rand.nextFloat() * 2.0F;
-					k.setPosition(x, this.posY, z);
-					k.setTypeOnSpawn();
-					k.swarmSpawned = true;
-					worldObj.spawnEntityInWorld(k);
+		if (!worldObj.isRemote) {
+			if (!swarmSpawned) {
+				swarmSpawned = true;
+				if (rand.nextFloat() < Config.getKeeseSwarmChance()) {
+					swarmPending = Config.getKeeseSwarmSize() - rand.nextInt(Config.getKeeseSwarmSize());
 				}
 			}
+			if (swarmPending > 0 && --swarmDelay <= 0) {
+				spawnSwarmMember();
+			}
 		}
 		int time = getShockTime();
 		if (time > 0) {
@@ -391,7 +398,7 @@ public class EntityKeese extends EntityBat implements IMob, IEntityLootable, IEn
 			}
 			BlockPos pos = new BlockPos(this);
 			if (currentFlightTarget == null || rand.nextInt(30) == 0 || currentFlightTarget.distanceSq(pos) < (attackingPlayer != null ? 1.0F : 4.0F)) {
-				attackingPlayer = getLastAttacker() instanceof EntityPlayer ? (EntityPlayer) getLastAttacker() : worldObj.getClosestPlayerToEntity(this, 8.0D);
+				attackingPlayer = getLastAttacker() instanceof EntityPlayer ? (EntityPlayer) getLastAttacker() : PlayerProximity.INSTANCE.getClosestPlayerToEntity(this, 8.0D);
 				if (attackingPlayer != null && !attackingPlayer.capabilities.isCreativeMode &&
 						(attackingPlayer.getCurrentArmor(ArmorIndex.WORN_HELM) == null || attackingPlayer.getCurrentArmor(ArmorIndex.WORN_HELM).getItem() != ZSSItems.maskSkull))
 				{
@@ -459,10 +466,35 @@ public class EntityKeese extends EntityBat implements IMob, IEntityLootable, IEn
 		}
 	}
 
+	/**
+	 * Spawns the next member of this Keese's swarm, if allowed; the swarm is abandoned
+	 * if there are already too many Keese in the chunk, otherwise it is merely delayed
+	 * when the world's swarm budget for the current tick has been spent.
+	 */
+	private void spawnSwarmMember() {
+		if (!SwarmSpawnBudget.canSpawnInChunk(this, EntityKeese.class, MAX_KEESE_PER_CHUNK)) {
+			swarmPending = 0;
+			return;
+		} else if (!SwarmSpawnBudget.tryConsume(worldObj)) {
+			swarmDelay = 1;
+			return;
+		}
+		EntityKeese k = new EntityKeese(worldObj);
+		double x = this.posX + rand.nextFloat() * 2.0F;
+		double z = this.posZ + rand.nextFloat() * 2.0F;
+		k.setPosition(x, this.posY, z);
+		k.setTypeOnSpawn();
+		k.swarmSpawned = true;
+		worldObj.spawnEntityInWorld(k);
+		--swarmPending;
+		swarmDelay = 2 + rand.nextInt(3);
+	}
+
 	@Override
 	public void readEntityFromNBT(NBTTagCompound compound) {
 		super.readEntityFromNBT(compound);
 		swarmSpawned = compound.getBoolean("SpawnedSwarm");
+		swarmPending = compound.getByte("SwarmPending");
 		dataWatcher.updateObject(TYPE_INDEX, compound.getByte("KeeseType"));
 	}
 
@@ -470,6 +502,7 @@ public class EntityKeese extends EntityBat implements IMob, IEntityLootable, IEn
 	public void writeEntityToNBT(NBTTagCompound compound) {
 		super.writeEntityToNBT(compound);
 		compound.setBoolean("SpawnedSwarm", swarmSpawned);
+		compound.setByte("SwarmPending", (byte) swarmPending);
 		compound.setByte("KeeseType", dataWatcher.getWatchableObjectByte(TYPE_INDEX));
 	}
 
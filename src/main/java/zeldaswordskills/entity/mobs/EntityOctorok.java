@@ -49,6 +49,7 @@ import zeldaswordskills.item.ItemTreasure.Treasures;
 import zeldaswordskills.item.ZSSItems;
 import zeldaswordskills.ref.Config;
 import zeldaswordskills.util.BiomeType;
+import zeldaswordskills.util.PlayerProximity;
 import zeldaswordskills.util.TargetUtils;
 
 // TODO switch attack logic to use AI system
@@ -258,7 +259,7 @@ public class EntityOctorok extends EntityWaterMob implements IMob, IEntityLootab
 
 	// @Override
 	protected EntityLivingBase findPlayerToAttack() {
-		EntityPlayer entityplayer = worldObj.getClosestPlayerToEntity(this, 16.0D);
+		EntityPlayer entityplayer = PlayerProximity.INSTANCE.getClosestPlayerToEntity(this, 16.0D);
 		return entityplayer != null && canEntityBeSeen(entityplayer) ? entityplayer : null;
 	}
 
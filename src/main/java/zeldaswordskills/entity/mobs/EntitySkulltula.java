@@ -49,6 +49,7 @@ import zeldaswordskills.entity.ai.IWallPerch;
 import zeldaswordskills.item.ZSSItems;
 import zeldaswordskills.ref.Config;
 import zeldaswordskills.util.BiomeType;
+import zeldaswordskills.util.PlayerProximity;
 
 /**
  * 
@@ -196,7 +197,7 @@ public class EntitySkulltula extends EntitySpider implements IEntityLootable, IE
 		if (hurtResistantTime == 0 && (getAttackTarget() == null || getAITarget() == null)) {
 			if (isPerched() && getBrightness(1.0F) < 0.5F) {
 				motionY = (worldObj.isSideSolid(new BlockPos(this).up(), EnumFacing.DOWN) || distanceToGround() > 3 ? 0.0D : 0.1D);
-				EntityPlayer target = worldObj.getClosestPlayerToEntity(this, 8.0D);
+				EntityPlayer target = (PlayerProximity.isStaggeredTick(this, 4) ? PlayerProximity.INSTANCE.getClosestPlayerToEntity(this, 8.0D) : null);
 				if (target != null && !((EntityPlayer) target).capabilities.disableDamage) {
 					setAttackTarget(target);
 					setPerched(false);
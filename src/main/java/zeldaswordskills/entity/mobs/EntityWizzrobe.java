@@ -59,6 +59,7 @@ import zeldaswordskills.item.ZSSItems;
 import zeldaswordskills.ref.Config;
 import zeldaswordskills.ref.Sounds;
 import zeldaswordskills.util.BiomeType;
+import zeldaswordskills.util.PlayerProximity;
 import zeldaswordskills.util.WorldUtils;
 
 import com.google.common.collect.Lists;
@@ -323,7 +324,7 @@ public class EntityWizzrobe extends EntityMob implements IEntityLootable, IEntit
 
 	//@Override // method no longer exists in super classes
 	protected EntityLivingBase findPlayerToAttack() {
-		return (getBrightness(1.0F) < 0.5F ? worldObj.getClosestPlayerToEntity(this, 32.0D) : null);
+		return (getBrightness(1.0F) < 0.5F ? PlayerProximity.INSTANCE.getClosestPlayerToEntity(this, 32.0D) : null);
 	}
 
 	/**
@@ -19,7 +19,6 @@ package zeldaswordskills.entity.npc;
 
 import net.minecraft.entity.passive.EntityVillager;
 import net.minecraft.entity.player.EntityPlayer;
-import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.inventory.Container;
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
@@ -39,8 +38,6 @@ import zeldaswordskills.entity.player.quests.QuestMaskShop;
 import zeldaswordskills.entity.player.quests.ZSSQuests;
 import zeldaswordskills.handler.GuiHandler;
 import zeldaswordskills.item.ItemInstrument;
-import zeldaswordskills.network.PacketDispatcher;
-import zeldaswordskills.network.client.SyncQuestPacket;
 import zeldaswordskills.ref.Sounds;
 import zeldaswordskills.songs.ZeldaSongs;
 import zeldaswordskills.util.PlayerUtils;
@@ -164,19 +161,15 @@ public class EntityNpcMaskTrader extends EntityNpcBase implements INpcVillager,
 		else if (!isVillager && ZSSPlayerInfo.get(player).getCurrentMaskStage() > 0) {
 			quest.forceComplete(player); // completes the first quest and begins or possibly completes QuestMaskSales
 			// both quests require updating the client
-			if (player instanceof EntityPlayerMP) {
-				PacketDispatcher.sendTo(new SyncQuestPacket(quest), (EntityPlayerMP) player);
-				quest = ZSSQuests.get(player).get(QuestMaskSales.class);
-				if (quest != null) {
-					PacketDispatcher.sendTo(new SyncQuestPacket(quest), (EntityPlayerMP) player);
-				}
+			ZSSQuests.get(player).sync(quest);
+			quest = ZSSQuests.get(player).get(QuestMaskSales.class);
+			if (quest != null) {
+				ZSSQuests.get(player).sync(quest);
 			}
 			return false;
 		} else if (leftClick) { // try to complete the quest
 			if (quest.complete(player)) {
-				if (player instanceof EntityPlayerMP) {
-					PacketDispatcher.sendTo(new SyncQuestPacket(quest), (EntityPlayerMP) player);
-				}
+				ZSSQuests.get(player).sync(quest);
 				return true;
 			}
 			return false;
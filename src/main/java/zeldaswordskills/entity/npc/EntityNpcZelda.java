@@ -21,7 +21,6 @@ import java.util.UUID;
 
 import net.minecraft.entity.passive.EntityVillager;
 import net.minecraft.entity.player.EntityPlayer;
-import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.init.Items;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
@@ -48,9 +47,9 @@ import zeldaswordskills.item.ItemInstrument;
 import zeldaswordskills.item.ZSSItems;
 import zeldaswordskills.network.PacketDispatcher;
 import zeldaswordskills.network.bidirectional.PlayRecordPacket;
-import zeldaswordskills.network.client.SyncQuestPacket;
 import zeldaswordskills.songs.ZeldaSongs;
 import zeldaswordskills.util.MerchantRecipeHelper;
+import zeldaswordskills.util.PlayerProximity;
 import zeldaswordskills.util.PlayerUtils;
 
 import com.google.common.collect.ImmutableSet;
@@ -241,7 +240,7 @@ public class EntityNpcZelda extends EntityNpcMerchantBase implements INpcVillage
 				}
 				EntityPlayer player = getCustomer();
 				if (player == null) {
-					player = worldObj.getClosestPlayerToEntity(this, 16);
+					player = PlayerProximity.INSTANCE.getClosestPlayerToEntity(this, 16);
 				}
 				if (!worldObj.isRemote && player != null) {
 					boolean isOwner = (ocarinaOwnerId != null && player.getUniqueID().compareTo(ocarinaOwnerId) == 0);
@@ -250,7 +249,7 @@ public class EntityNpcZelda extends EntityNpcMerchantBase implements INpcVillage
 							IQuest quest = ZSSQuests.get(player).get(QuestZeldaTalk.class);
 							if (quest != null && quest.canComplete(player)) {
 								quest.complete(player, true); // flag for completion message
-								PacketDispatcher.sendTo(new SyncQuestPacket(quest), (EntityPlayerMP) player);
+								ZSSQuests.get(player).sync(quest);
 								ocarinaOwnerId = null;
 							}
 						} else {
@@ -37,6 +37,7 @@ import zeldaswordskills.ZSSAchievements;
 import zeldaswordskills.entity.player.ZSSPlayerInfo;
 import zeldaswordskills.item.ZSSItems;
 import zeldaswordskills.ref.Sounds;
+import zeldaswordskills.util.SkyExposure;
 import zeldaswordskills.util.TargetUtils;
 
 /**
@@ -60,6 +61,12 @@ public class EntityFairy extends EntityAmbientCreature
 	/** Fairies released from bottles into the wild set this to false so they cannot be recaptured */
 	protected boolean canBeBottled = true;
 
+	/** Ticks between each check for whether the fairy should vanish in daylight */
+	private static final int DAYLIGHT_CHECK_INTERVAL = 20;
+
+	/** Sky exposure is only recalculated when the fairy moves to another block or every 5 seconds otherwise */
+	private final SkyExposure skyExposure = new SkyExposure(100);
+
 	public EntityFairy(World world) {
 		super(world);
 		setSize(0.5F, 0.5F);
@@ -179,7 +186,8 @@ public class EntityFairy extends EntityAmbientCreature
 				// TODO terrible scream sound
 				setDead();
 			}
-			if (worldObj.isDaytime() && TargetUtils.canEntitySeeSky(worldObj, this)) {
+			// fairies are spawned in batches, so stagger the check by entity id to spread the work across ticks
+			if ((ticksExisted + getEntityId()) % DAYLIGHT_CHECK_INTERVAL == 0 && worldObj.isDaytime() && skyExposure.canSeeSky(this)) {
 				setDead();
 			}
 		}
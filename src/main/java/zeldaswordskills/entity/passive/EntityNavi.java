@@ -30,10 +30,10 @@ import net.minecraft.world.World;
 import net.minecraftforge.common.util.Constants;
 import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
-import zeldaswordskills.block.BlockSecretStone;
 import zeldaswordskills.ref.Config;
 import zeldaswordskills.ref.Sounds;
 import zeldaswordskills.util.PlayerUtils;
+import zeldaswordskills.world.SecretStoneIndex;
 
 public class EntityNavi extends EntityFairy implements IEntityOwnable
 {
@@ -147,21 +147,11 @@ public class EntityNavi extends EntityFairy implements IEntityOwnable
 		int x = MathHelper.floor_double(owner.posX + 0.5D);
 		int y = MathHelper.floor_double(owner.posY + owner.getEyeHeight());
 		int z = MathHelper.floor_double(owner.posZ + 0.5D);
-		boolean search = true;
-		for (int i = x - r; i <= x + r && search; ++i) {
-			for (int j = y - ry; j <= y + ry && search; ++j) {
-				for (int k = z - r; k <= z + r && search; ++k) {
-					if (worldObj.getBlockState(new BlockPos(i, j, k)).getBlock() instanceof BlockSecretStone) {
-						double d = owner.getDistanceSq((double) i + 0.5D, (double) j + 0.5D, (double) k + 0.5D);
-						if (d <= r2) {
-							float f = (float)(Math.sqrt(d) / (double) r);
-							// play sound only on the client side - not everyone needs to hear each other's annoying fairies
-							PlayerUtils.playSound(owner, Sounds.FAIRY_LAUGH, 0.6F - (f / 2.0F), 1.0F);
-							search = false;
-						}
-					}
-				}
-			}
+		double d = SecretStoneIndex.INSTANCE.getClosestDistanceSq(worldObj, new BlockPos(x, y, z), r, ry, owner, r2);
+		if (d >= 0.0D) {
+			float f = (float)(Math.sqrt(d) / (double) r);
+			// play sound only on the client side - not everyone needs to hear each other's annoying fairies
+			PlayerUtils.playSound(owner, Sounds.FAIRY_LAUGH, 0.6F - (f / 2.0F), 1.0F);
 		}
 	}
 
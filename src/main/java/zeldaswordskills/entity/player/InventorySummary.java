@@ -0,0 +1,188 @@
+/**
+    Copyright (C) <2015> <coolAlias>
+
+    This file is part of coolAlias' Zelda Sword Skills Minecraft Mod; as such,
+    you can redistribute it and/or modify it under the terms of the GNU
+    General Public License as published by the Free Software Foundation,
+    either version 3 of the License, or (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package zeldaswordskills.entity.player;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+
+/**
+ *
+ * Per-player summary of the main inventory's contents by Item, i.e. the total count and
+ * the slots containing each item, so that HUD elements and ammunition searches need not
+ * walk the entire inventory every time they are called.
+ *
+ * The summary keeps a copy of the reference, size and damage of each slot's stack and is
+ * only rebuilt when one of those differs from the inventory's current contents. Stacks may
+ * be changed in place (e.g. stackSize decremented) without any notification, so there is
+ * no cheaper reliable way to tell whether the contents have changed.
+ *
+ * {@link #getCount} only checks for changes once per tick, making it suitable for calling
+ * every frame; the methods returning stacks always check first so that the stack returned
+ * is still in the inventory.
+ *
+ */
+public class InventorySummary
+{
+	private final EntityPlayer player;
+
+	/** Stack references at the time of the last rebuild */
+	private ItemStack[] stacks = new ItemStack[0];
+
+	/** Stack sizes at the time of the last rebuild */
+	private int[] sizes = new int[0];
+
+	/** Stack damage values at the time of the last rebuild */
+	private int[] damages = new int[0];
+
+	/** Summary of each item in the inventory */
+	private final Map<Item, Entry> entries = new HashMap<Item, Entry>();
+
+	/** Value of player.ticksExisted when the contents were last checked for changes */
+	private int lastChecked = -1;
+
+	public InventorySummary(EntityPlayer player) {
+		this.player = player;
+	}
+
+	/**
+	 * Returns the total number of the item in the main inventory, regardless of damage;
+	 * the result may be up to one tick out of date
+	 */
+	public int getCount(Item item) {
+		checkOncePerTick();
+		Entry entry = entries.get(item);
+		return (entry == null ? 0 : entry.total);
+	}
+
+	/**
+	 * Returns the total number of the item with the given damage value in the main
+	 * inventory; the result may be up to one tick out of date
+	 */
+	public int getCount(Item item, int damage) {
+		checkOncePerTick();
+		Entry entry = entries.get(item);
+		int count = 0;
+		if (entry != null) {
+			for (int i = 0; i < entry.numSlots; ++i) {
+				if (damages[entry.slots[i]] == damage) {
+					count += sizes[entry.slots[i]];
+				}
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Returns true if the main inventory contains at least one of the item
+	 */
+	public boolean hasItem(Item item) {
+		checkForChanges();
+		return entries.containsKey(item);
+	}
+
+	/**
+	 * Returns the first stack of the item in the main inventory, or null if there is none
+	 */
+	public ItemStack getFirstStack(Item item) {
+		checkForChanges();
+		Entry entry = entries.get(item);
+		return (entry == null ? null : stacks[entry.slots[0]]);
+	}
+
+	/**
+	 * Returns the first stack of the item with the given damage value in the main inventory, or null if there is none
+	 */
+	public ItemStack getFirstStack(Item item, int damage) {
+		checkForChanges();
+		Entry entry = entries.get(item);
+		if (entry != null) {
+			for (int i = 0; i < entry.numSlots; ++i) {
+				if (damages[entry.slots[i]] == damage) {
+					return stacks[entry.slots[i]];
+				}
+			}
+		}
+		return null;
+	}
+
+	private void checkOncePerTick() {
+		if (lastChecked != player.ticksExisted) {
+			checkForChanges();
+		}
+	}
+
+	private void checkForChanges() {
+		lastChecked = player.ticksExisted;
+		ItemStack[] inventory = player.inventory.mainInventory;
+		if (inventory.length != stacks.length) {
+			rebuild(inventory);
+			return;
+		}
+		for (int i = 0; i < inventory.length; ++i) {
+			ItemStack stack = inventory[i];
+			if (stack != stacks[i] || (stack != null && (stack.stackSize != sizes[i] || stack.getItemDamage() != damages[i]))) {
+				rebuild(inventory);
+				return;
+			}
+		}
+	}
+
+	private void rebuild(ItemStack[] inventory) {
+		if (stacks.length != inventory.length) {
+			stacks = new ItemStack[inventory.length];
+			sizes = new int[inventory.length];
+			damages = new int[inventory.length];
+		}
+		entries.clear();
+		for (int i = 0; i < inventory.length; ++i) {
+			ItemStack stack = inventory[i];
+			stacks[i] = stack;
+			sizes[i] = (stack == null ? 0 : stack.stackSize);
+			damages[i] = (stack == null ? 0 : stack.getItemDamage());
+			if (stack != null && stack.getItem() != null && stack.stackSize > 0) {
+				Entry entry = entries.get(stack.getItem());
+				if (entry == null) {
+					entry = new Entry();
+					entries.put(stack.getItem(), entry);
+				}
+				entry.add(i, stack.stackSize);
+			}
+		}
+	}
+
+	private static class Entry
+	{
+		private int total;
+		private int[] slots = new int[2];
+		private int numSlots;
+
+		private void add(int slot, int size) {
+			if (numSlots == slots.length) {
+				int[] copy = new int[slots.length * 2];
+				System.arraycopy(slots, 0, copy, 0, numSlots);
+				slots = copy;
+			}
+			slots[numSlots++] = slot;
+			total += size;
+		}
+	}
+}
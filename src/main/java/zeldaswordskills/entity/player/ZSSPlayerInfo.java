@@ -46,12 +46,12 @@ import zeldaswordskills.item.ItemMask;
 import zeldaswordskills.item.ItemZeldaShield;
 import zeldaswordskills.item.ZSSItems;
 import zeldaswordskills.network.PacketDispatcher;
+import zeldaswordskills.network.ParticleBroadcaster;
 import zeldaswordskills.network.client.AttackBlockedPacket;
 import zeldaswordskills.network.client.SetNockedArrowPacket;
 import zeldaswordskills.network.client.SpawnNayruParticlesPacket;
 import zeldaswordskills.network.client.SyncCurrentMagicPacket;
 import zeldaswordskills.network.client.SyncPlayerInfoPacket;
-import zeldaswordskills.network.client.SyncQuestsPacket;
 import zeldaswordskills.network.server.RequestCurrentMagicPacket;
 import zeldaswordskills.ref.Config;
 import zeldaswordskills.util.PlayerUtils;
@@ -66,6 +66,8 @@ public class ZSSPlayerInfo implements IExtendedEntityProperties
 
 	private final ZSSPlayerSongs playerSongs;
 
+	private final InventorySummary inventorySummary;
+
 	/** Current magic points */
 	private float mp, lastMp;
 
@@ -139,6 +141,9 @@ public class ZSSPlayerInfo implements IExtendedEntityProperties
 	/** [Slingshot] Current mode index */
 	public int slingshotMode = 0;
 
+	/** Total world time at which the special drop sound last played for a mob this player killed */
+	public long lastSpecialDropTime = 0;
+
 	/** Reduces fall damage next impact; used for Rising Cut */
 	public float reduceFallAmount = 0.0F;
 
@@ -149,6 +154,7 @@ public class ZSSPlayerInfo implements IExtendedEntityProperties
 		this.player = player;
 		playerSkills = new ZSSPlayerSkills(player);
 		playerSongs = new ZSSPlayerSongs(player);
+		inventorySummary = new InventorySummary(player);
 		player.getAttributeMap().registerAttribute(maxMagic).setBaseValue(50.0D);
 		mp = getMaxMagic(); // don't use setter here: don't want to send packet
 		initStats();
@@ -272,6 +278,13 @@ public class ZSSPlayerInfo implements IExtendedEntityProperties
 		return playerSongs;
 	}
 
+	/**
+	 * Returns the summary of the player's main inventory contents, for e.g. counting ammunition
+	 */
+	public InventorySummary getInventorySummary() {
+		return inventorySummary;
+	}
+
 	/**
 	 * True if the player can perform a left-click action (i.e. the action timer is zero)
 	 */
@@ -514,7 +527,7 @@ public class ZSSPlayerInfo implements IExtendedEntityProperties
 			if (!useMagic(0.5F, true)) { // call private method directly to circumvent canUseMagic()
 				setFlag(IS_NAYRU_ACTIVE, false);
 			} else if (player instanceof EntityPlayerMP) {
-				PacketDispatcher.sendToAllAround(new SpawnNayruParticlesPacket(player), player, 64.0D);
+				ParticleBroadcaster.INSTANCE.send(new SpawnNayruParticlesPacket(player), player, 64.0D, 4);
 			}
 		}
 	}
@@ -547,7 +560,7 @@ public class ZSSPlayerInfo implements IExtendedEntityProperties
 			playerSkills.validateSkills();
 			playerSkills.verifyMaxHealth();
 			PacketDispatcher.sendTo(new SyncPlayerInfoPacket(this), (EntityPlayerMP) player);
-			PacketDispatcher.sendTo(new SyncQuestsPacket(ZSSQuests.get(player)), (EntityPlayerMP) player);
+			ZSSQuests.get(player).syncAll();
 		} else { // Re-request current mana (truncated by attribute having incorrect value initially)
 			PacketDispatcher.sendToServer(new RequestCurrentMagicPacket());
 		}
@@ -18,11 +18,8 @@
 package zeldaswordskills.entity.player;
 
 import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.Iterator;
-import java.util.LinkedList;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 import java.util.UUID;
 
 import net.minecraft.client.Minecraft;
@@ -73,11 +70,14 @@ public class ZSSPlayerSkills
 
 	private final EntityPlayer player;
 
-	/** Stores information on the player's Attributes and Passive Skills */
-	private final Map<Byte, SkillBase> skills;
+	/** Stores information on the player's Attributes and Passive Skills, indexed by skill id; unknown skills are null */
+	private final SkillBase[] skills;
 
-	/** Currently active skills */
-	private final List<SkillActive> activeSkills = new LinkedList<SkillActive>();
+	/** Currently active skills, in order of activation; only the first {@link #activeCount} entries are valid */
+	private SkillActive[] activeSkills = new SkillActive[4];
+
+	/** Number of currently active skills */
+	private int activeCount;
 
 	/**
 	 * Currently animating skill that {@link SkillActive#hasAnimation() has an animation};
@@ -91,7 +91,7 @@ public class ZSSPlayerSkills
 
 	public ZSSPlayerSkills(EntityPlayer player) {
 		this.player = player;
-		this.skills = new HashMap<Byte, SkillBase>(SkillBase.getNumSkills());
+		this.skills = new SkillBase[SkillBase.getNumSkills()];
 	}
 
 	public static ZSSPlayerSkills get(EntityPlayer player) {
@@ -110,8 +110,8 @@ public class ZSSPlayerSkills
 		} else {
 			// TODO change skill storage to use unlocalized name instead of id
 			SkillBase dummy = null;
-			for (SkillBase skill : skills.values()) {
-				if (skill.getUnlocalizedName().equals(name)) {
+			for (SkillBase skill : skills) {
+				if (skill != null && skill.getUnlocalizedName().equals(name)) {
 					dummy = skill;
 					break;
 				}
@@ -126,9 +126,9 @@ public class ZSSPlayerSkills
 
 	private void removeSkill(SkillBase skill) {
 		SkillBase dummy = skill.newInstance();
-		skills.put(dummy.getId(), dummy);
+		skills[dummy.getId()] = dummy;
 		validateSkills();
-		skills.remove(dummy.getId());
+		skills[dummy.getId()] = null;
 		if (player instanceof EntityPlayerMP) {
 			PacketDispatcher.sendTo(new SyncSkillPacket(dummy), (EntityPlayerMP) player);
 		}
@@ -140,10 +140,10 @@ public class ZSSPlayerSkills
 	public void resetSkills() {
 		// need level zero skills for validation, specifically for attribute-affecting skills
 		for (SkillBase skill : SkillBase.getSkills()) {
-			skills.put(skill.getId(), skill.newInstance());
+			skills[skill.getId()] = skill.newInstance();
 		}
 		validateSkills();
-		skills.clear();
+		Arrays.fill(skills, null);
 		crestsGiven = 0;
 		if (player instanceof EntityPlayerMP) {
 			PacketDispatcher.sendTo(new SyncPlayerInfoPacket(ZSSPlayerInfo.get(player)), (EntityPlayerMP) player);
@@ -154,8 +154,10 @@ public class ZSSPlayerSkills
 	 * Validates each skill upon player respawn, ensuring all bonuses are correct
 	 */
 	public final void validateSkills() {
-		for (SkillBase skill : skills.values()) {
-			skill.validateSkill(player);
+		for (SkillBase skill : skills) {
+			if (skill != null) {
+				skill.validateSkill(player);
+			}
 		}
 	}
 
@@ -192,7 +194,8 @@ public class ZSSPlayerSkills
 
 	/** Returns the player's skill level for given skill, or 0 if the player doesn't have that skill */
 	public byte getSkillLevel(byte id) {
-		return (skills.containsKey(id) ? skills.get(id).getLevel() : 0);
+		SkillBase skill = getPlayerSkill(id);
+		return (skill != null ? skill.getLevel() : 0);
 	}
 
 	/**
@@ -252,7 +255,7 @@ public class ZSSPlayerSkills
 				return true;
 			}
 		}*/
-		for (SkillBase skill : skills.values()) {
+		for (SkillBase skill : skills) {
 			if (skill instanceof SkillActive && ((SkillActive) skill).isKeyListener(mc, key)) {
 				if (((SkillActive) skill).keyPressed(mc, key, player)) {
 					return true;
@@ -268,7 +271,8 @@ public class ZSSPlayerSkills
 	 * returns immediately without processing any remaining active skills.
 	 */
 	public void onBeingAttacked(LivingAttackEvent event) {
-		for (SkillActive skill : activeSkills) {
+		for (int i = 0; i < activeCount; ++i) {
+			SkillActive skill = activeSkills[i];
 			if (skill.isActive() && skill.onBeingAttacked(player, event.source)) {
 				event.setCanceled(true);
 				return;
@@ -282,7 +286,8 @@ public class ZSSPlayerSkills
 	 * well as calling {@link ICombo#onHurtTarget onHurtTarget} for the current ICombo.
 	 */
 	public void onPostImpact(LivingHurtEvent event) {
-		for (SkillActive skill : activeSkills) {
+		for (int i = 0; i < activeCount; ++i) {
+			SkillActive skill = activeSkills[i];
 			if (skill.isActive()) {
 				event.ammount = skill.postImpact(player, event.entityLiving, event.ammount);
 			}
@@ -311,7 +316,11 @@ public class ZSSPlayerSkills
 
 	/** Returns the player's actual skill instance or null if the player doesn't have the skill */
 	public SkillBase getPlayerSkill(byte id) {
-		return (skills.containsKey(id) ? skills.get(id) : null);
+		return getPlayerSkill((int) id);
+	}
+
+	private SkillBase getPlayerSkill(int id) {
+		return (id >= 0 && id < skills.length ? skills[id] : null);
 	}
 
 	/**
@@ -339,9 +348,12 @@ public class ZSSPlayerSkills
 	 * Grants skill to player if player meets the requirements; returns true if skill learned
 	 */
 	public boolean grantSkill(byte id, byte targetLevel) {
-		SkillBase skill = skills.containsKey(id) ? (SkillBase) skills.get(id) : SkillBase.getNewSkillInstance(id);
+		SkillBase skill = getPlayerSkill(id);
+		if (skill == null) {
+			skill = SkillBase.getNewSkillInstance(id);
+		}
 		if (skill.grantSkill(player, targetLevel)) {
-			skills.put(id, skill);
+			skills[id] = skill;
 			return true;
 		} else {
 			return false;
@@ -354,7 +366,10 @@ public class ZSSPlayerSkills
 	 */
 	private void onSkillActivated(World world, SkillActive skill) {
 		if (skill.isActive()) {
-			activeSkills.add(skill);
+			if (activeCount == activeSkills.length) {
+				activeSkills = Arrays.copyOf(activeSkills, activeCount * 2);
+			}
+			activeSkills[activeCount++] = skill;
 			if (world.isRemote) {
 				setCurrentlyAnimatingSkill(skill);
 			}
@@ -372,7 +387,7 @@ public class ZSSPlayerSkills
 	 * Returns true if the player has this skill and {@link SkillActive#activate} returns true
 	 */
 	public boolean activateSkill(World world, byte id) {
-		SkillBase skill = skills.get(id);
+		SkillBase skill = getPlayerSkill(id);
 		if (skill instanceof SkillActive && ((SkillActive) skill).activate(world, player)) {
 			onSkillActivated(world, (SkillActive) skill);
 			return true;
@@ -391,7 +406,7 @@ public class ZSSPlayerSkills
 	 * Returns true if the player has this skill and {@link SkillActive#trigger} returns true
 	 */
 	public boolean triggerSkill(World world, byte id) {
-		SkillBase skill = skills.get(id);
+		SkillBase skill = getPlayerSkill(id);
 		if (skill instanceof SkillActive && ((SkillActive) skill).trigger(world, player, true)) {
 			onSkillActivated(world, (SkillActive) skill);
 			return true;
@@ -472,19 +487,14 @@ public class ZSSPlayerSkills
 	}
 
 	/**
-	 * Reads a SkillBase from stream and updates the local skills map; if the skill
-	 * loaded from NBT is level 0, that skill will be removed.
+	 * Updates the local skills map with the skill's level as sent from the server;
+	 * if the level is 0, that skill will be removed.
 	 * Called client side only for synchronizing a skill with the server version.
 	 */
 	@SideOnly(Side.CLIENT)
-	public void syncClientSideSkill(byte id, NBTTagCompound compound) {
+	public void syncClientSideSkill(byte id, byte level) {
 		if (SkillBase.doesSkillExist(id)) {
-			SkillBase skill = SkillBase.getNewSkillInstance(id).loadFromNBT(compound);
-			if (skill.getLevel() > 0) {
-				skills.put(id, skill);
-			} else {
-				skills.remove(id);
-			}
+			skills[id] = SkillBase.createLeveledSkill(id, level);
 		}
 	}
 
@@ -510,17 +520,19 @@ public class ZSSPlayerSkills
 
 	public void onUpdate() {
 		// let skill's update tick occur first
-		for (SkillBase skill : skills.values()) {
-			skill.onUpdate(player);
-		} // and then remove from active list if no longer active
-		// must use iterators to avoid concurrent modification exceptions to list
-		Iterator<SkillActive> iterator = activeSkills.iterator();
-		while (iterator.hasNext()) {
-			SkillActive skill = iterator.next();
-			if (!skill.isActive()) {
-				iterator.remove();
+		for (int i = 0; i < skills.length; ++i) {
+			if (skills[i] != null) {
+				skills[i].onUpdate(player);
+			}
+		} // and then remove from active skills if no longer active
+		int n = 0;
+		for (int i = 0; i < activeCount; ++i) {
+			if (activeSkills[i].isActive()) {
+				activeSkills[n++] = activeSkills[i];
 			}
 		}
+		Arrays.fill(activeSkills, n, activeCount, null);
+		activeCount = n;
 		if (player.worldObj.isRemote) {
 			if (ZSSKeyHandler.keys[ZSSKeyHandler.KEY_BLOCK].isKeyDown() && isSkillActive(SkillBase.swordBasic) && player.getHeldItem() != null) {
 				Minecraft.getMinecraft().playerController.sendUseItem(player, player.worldObj, player.getHeldItem());
@@ -530,7 +542,10 @@ public class ZSSPlayerSkills
 
 	public void saveNBTData(NBTTagCompound compound) {
 		NBTTagList taglist = new NBTTagList();
-		for (SkillBase skill : skills.values()) {
+		for (SkillBase skill : skills) {
+			if (skill == null) {
+				continue;
+			}
 			NBTTagCompound skillTag = new NBTTagCompound();
 			skill.writeToNBT(skillTag);
 			taglist.appendTag(skillTag);
@@ -540,12 +555,12 @@ public class ZSSPlayerSkills
 	}
 
 	public void loadNBTData(NBTTagCompound compound) {
-		skills.clear(); // allows skills to reset on client without re-adding all the skills
+		Arrays.fill(skills, null); // allows skills to reset on client without re-adding all the skills
 		NBTTagList taglist = compound.getTagList("ZeldaSwordSkills", Constants.NBT.TAG_COMPOUND);
 		for (int i = 0; i < taglist.tagCount(); ++i) {
 			NBTTagCompound skill = taglist.getCompoundTagAt(i);
 			byte id = skill.getByte("id");
-			skills.put(id, SkillBase.getSkill(id).loadFromNBT(skill));
+			skills[id] = SkillBase.getSkill(id).loadFromNBT(skill);
 		}
 		crestsGiven = compound.getInteger("crestsGiven");
 	}
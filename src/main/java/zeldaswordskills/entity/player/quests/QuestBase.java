@@ -17,15 +17,17 @@
 
 package zeldaswordskills.entity.player.quests;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Random;
 
 import net.minecraft.entity.player.EntityPlayer;
-import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.network.PacketBuffer;
 import net.minecraft.util.IChatComponent;
+import net.minecraftforge.fml.common.network.ByteBufUtils;
 import zeldaswordskills.ZSSMain;
-import zeldaswordskills.network.PacketDispatcher;
-import zeldaswordskills.network.client.SyncQuestPacket;
 
 public abstract class QuestBase implements IQuest
 {
@@ -48,6 +50,23 @@ public abstract class QuestBase implements IQuest
 	/** RNG used by quests */
 	protected static final Random rand = new Random();
 
+	/**
+	 * Quest classes which may be sent to the client, identified in packets by their index;
+	 * new classes must only ever be added to the end of the list
+	 */
+	private static final List<Class<? extends IQuest>> questClasses = new ArrayList<Class<? extends IQuest>>();
+
+	static {
+		questClasses.add(QuestBiggoronSword.class);
+		questClasses.add(QuestLightArrows.class);
+		questClasses.add(QuestMaskSales.class);
+		questClasses.add(QuestMaskShop.class);
+		questClasses.add(QuestMasterSword.class);
+		questClasses.add(QuestPendants.class);
+		questClasses.add(QuestZeldaTalk.class);
+		questClasses.add(QuestZeldasLetter.class);
+	}
+
 	/**
 	 * Combined total of all quest flags which have been set; each flag should be a
 	 * specific bit - used bits are {@link #FLAG_BEGIN} and {@link #FLAG_COMPLETE} 
@@ -144,6 +163,68 @@ public abstract class QuestBase implements IQuest
 		flag = compound.getInteger("questFlag");
 	}
 
+	/**
+	 * Writes the data needed by the client to the buffer; quests which store more than their
+	 * flags should override this and {@link #readFromBuffer}, calling the super methods
+	 */
+	protected void writeToBuffer(PacketBuffer buffer) {
+		buffer.writeVarIntToBuffer(flag);
+	}
+
+	/**
+	 * Reads the data written by {@link #writeToBuffer}
+	 */
+	protected void readFromBuffer(PacketBuffer buffer) {
+		flag = buffer.readVarIntFromBuffer();
+	}
+
+	/**
+	 * Writes the quest to the buffer for sending to the client: quest classes known to
+	 * {@link QuestBase} are written by index, others by name, and quests which do not
+	 * extend QuestBase are written as NBT
+	 */
+	public static void writeQuest(PacketBuffer buffer, IQuest quest) {
+		int index = questClasses.indexOf(quest.getClass());
+		buffer.writeVarIntToBuffer(index + 1);
+		if (index < 0) {
+			ByteBufUtils.writeUTF8String(buffer, quest.getClass().getName());
+		}
+		if (quest instanceof QuestBase) {
+			((QuestBase) quest).writeToBuffer(buffer);
+		} else {
+			NBTTagCompound compound = new NBTTagCompound();
+			quest.writeToNBT(compound);
+			buffer.writeNBTTagCompoundToBuffer(compound);
+		}
+	}
+
+	/**
+	 * Reads a quest written by {@link #writeQuest}, returning null if it could not be created
+	 */
+	public static IQuest readQuest(PacketBuffer buffer) throws IOException {
+		int index = buffer.readVarIntFromBuffer() - 1;
+		IQuest quest = null;
+		if (index < 0) {
+			String name = ByteBufUtils.readUTF8String(buffer);
+			try {
+				Object o = Class.forName(name).newInstance();
+				quest = (o instanceof IQuest ? (IQuest) o : null);
+			} catch (Exception e) {
+				ZSSMain.logger.warn("Failed to create quest " + name + ": " + e.getMessage());
+			}
+		} else if (index < questClasses.size()) {
+			quest = getQuestInstance(questClasses.get(index));
+		}
+		if (quest == null) {
+			throw new IOException("Unable to read quest with class index " + index);
+		} else if (quest instanceof QuestBase) {
+			((QuestBase) quest).readFromBuffer(buffer);
+		} else {
+			quest.readFromNBT(buffer.readNBTTagCompoundFromBuffer());
+		}
+		return quest;
+	}
+
 	/**
 	 * Writes the quest to NBT, guaranteeing that the fully qualified class name is included
 	 */
@@ -227,8 +308,8 @@ public abstract class QuestBase implements IQuest
 				return true;
 			}
 		}
-		if (changed && quest.requiresSync() && player instanceof EntityPlayerMP) {
-			PacketDispatcher.sendTo(new SyncQuestPacket(quest), (EntityPlayerMP) player);
+		if (changed && quest.requiresSync()) {
+			ZSSQuests.get(player).sync(quest);
 		}
 		return changed;
 	}
@@ -27,6 +27,7 @@ import net.minecraft.entity.passive.EntityVillager;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.network.PacketBuffer;
 import net.minecraft.util.ChatComponentTranslation;
 import net.minecraft.util.IChatComponent;
 import zeldaswordskills.ZSSAchievements;
@@ -270,6 +271,18 @@ public final class QuestBiggoronSword extends QuestBase
 		tradeIndex = compound.getInteger("tradeIndex");
 	}
 
+	@Override
+	protected void writeToBuffer(PacketBuffer buffer) {
+		super.writeToBuffer(buffer);
+		buffer.writeVarIntToBuffer(tradeIndex);
+	}
+
+	@Override
+	protected void readFromBuffer(PacketBuffer buffer) {
+		super.readFromBuffer(buffer);
+		tradeIndex = buffer.readVarIntFromBuffer();
+	}
+
 	private static class TradeData {
 		/** Treasure needed to complete this step */
 		public final Treasures treasure;
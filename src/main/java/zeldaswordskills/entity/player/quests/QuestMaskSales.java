@@ -22,6 +22,7 @@ import net.minecraft.init.Items;
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.network.PacketBuffer;
 import net.minecraft.util.ChatComponentTranslation;
 import net.minecraft.util.IChatComponent;
 import zeldaswordskills.ZSSAchievements;
@@ -227,4 +228,16 @@ public final class QuestMaskSales extends QuestBase
 		super.readFromNBT(compound);
 		currentStage = compound.getInteger("currentStage");
 	}
+
+	@Override
+	protected void writeToBuffer(PacketBuffer buffer) {
+		super.writeToBuffer(buffer);
+		buffer.writeVarIntToBuffer(currentStage);
+	}
+
+	@Override
+	protected void readFromBuffer(PacketBuffer buffer) {
+		super.readFromBuffer(buffer);
+		currentStage = buffer.readVarIntFromBuffer();
+	}
 }
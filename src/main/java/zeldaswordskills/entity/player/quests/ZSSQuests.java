@@ -17,15 +17,23 @@
 
 package zeldaswordskills.entity.player.quests;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.item.Item;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
+import net.minecraft.network.PacketBuffer;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.world.World;
 import net.minecraftforge.common.IExtendedEntityProperties;
@@ -35,6 +43,9 @@ import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
 import zeldaswordskills.ZSSMain;
 import zeldaswordskills.entity.player.ZSSPlayerInfo;
+import zeldaswordskills.network.PacketDispatcher;
+import zeldaswordskills.network.client.SyncQuestPacket;
+import zeldaswordskills.network.client.SyncQuestsPacket;
 
 /**
  * 
@@ -50,6 +61,9 @@ public class ZSSQuests implements IExtendedEntityProperties
 	/** Stores an instance of each quest the player has received */
 	private final Map<Class<? extends IQuest>, IQuest> quests = new HashMap<Class<? extends IQuest>, IQuest>();
 
+	/** Server-side only: the last encoded state of each quest sent to the client, used to skip sending unchanged quests */
+	private final Map<Class<? extends IQuest>, byte[]> syncedQuests = new HashMap<Class<? extends IQuest>, byte[]>();
+
 	/** The last mask borrowed from the Happy Mask Salesman */
 	private Item borrowedMask = null;
 
@@ -97,13 +111,56 @@ public class ZSSQuests implements IExtendedEntityProperties
 	}
 
 	/**
-	 * Updates a client-side quest with the version sent from the server via {@code SyncQuestPacket}
+	 * Updates a client-side quest with the version sent from the server via {@code SyncQuestPacket} or {@code SyncQuestsPacket}
 	 */
 	@SideOnly(Side.CLIENT)
 	public void update(IQuest quest) {
 		quests.put(quest.getClass(), quest);
 	}
 
+	/**
+	 * Sends the quest to the client if it differs from the last version sent; call from the
+	 * server whenever a quest for which {@link IQuest#requiresSync} returns true may have changed
+	 */
+	public void sync(IQuest quest) {
+		if (player instanceof EntityPlayerMP) {
+			byte[] data = encode(quest);
+			if (!Arrays.equals(data, syncedQuests.get(quest.getClass()))) {
+				syncedQuests.put(quest.getClass(), data);
+				PacketDispatcher.sendTo(new SyncQuestPacket(data), (EntityPlayerMP) player);
+			}
+		}
+	}
+
+	/**
+	 * Sends all quests requiring sync and the borrowed mask to the client, e.g. when joining the world
+	 */
+	public void syncAll() {
+		if (player instanceof EntityPlayerMP) {
+			syncedQuests.clear();
+			List<byte[]> data = new ArrayList<byte[]>();
+			for (IQuest quest : quests.values()) {
+				if (quest.requiresSync()) {
+					byte[] encoded = encode(quest);
+					syncedQuests.put(quest.getClass(), encoded);
+					data.add(encoded);
+				}
+			}
+			PacketDispatcher.sendTo(new SyncQuestsPacket(getBorrowedMask(), data), (EntityPlayerMP) player);
+		}
+	}
+
+	/**
+	 * Returns the quest encoded as per {@link QuestBase#writeQuest}
+	 */
+	private static byte[] encode(IQuest quest) {
+		ByteBuf buffer = Unpooled.buffer();
+		QuestBase.writeQuest(new PacketBuffer(buffer), quest);
+		byte[] data = new byte[buffer.readableBytes()];
+		buffer.readBytes(data);
+		return data;
+	}
+
 	/**
 	 * Returns true if the specified quest has been begun
 	 */
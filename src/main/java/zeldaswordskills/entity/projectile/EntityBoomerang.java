@@ -20,12 +20,15 @@ package zeldaswordskills.entity.projectile;
 import java.util.ArrayList;
 import java.util.List;
 
+import com.google.common.base.Predicate;
+
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockButton;
 import net.minecraft.block.BlockLever;
 import net.minecraft.block.material.Material;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.enchantment.EnchantmentHelper;
+import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityLivingBase;
 import net.minecraft.entity.item.EntityItem;
 import net.minecraft.entity.item.EntityXPOrb;
@@ -33,11 +36,13 @@ import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
+import net.minecraft.util.AxisAlignedBB;
 import net.minecraft.util.BlockPos;
 import net.minecraft.util.DamageSource;
 import net.minecraft.util.MathHelper;
 import net.minecraft.util.MovingObjectPosition;
 import net.minecraft.util.MovingObjectPosition.MovingObjectType;
+import net.minecraft.util.Vec3;
 import net.minecraft.world.World;
 import zeldaswordskills.api.block.IBoomerangBlock;
 import zeldaswordskills.api.damage.DamageUtils.DamageSourceBaseIndirect;
@@ -60,6 +65,22 @@ public class EntityBoomerang extends EntityMobThrowable
 	/** Ticks allowed before the boomerang falls to the ground if it can't reach its owner */
 	private static final int LIFESPAN = 100;
 
+	/** Selects entities that may be captured when the boomerang is able to capture items */
+	private static final Predicate<Entity> ITEM_OR_XP_SELECTOR = new Predicate<Entity>() {
+		@Override
+		public boolean apply(Entity entity) {
+			return entity instanceof EntityItem || entity instanceof EntityXPOrb;
+		}
+	};
+
+	/** Selects entities that may be captured when the boomerang cannot capture any more items */
+	private static final Predicate<Entity> XP_SELECTOR = new Predicate<Entity>() {
+		@Override
+		public boolean apply(Entity entity) {
+			return entity instanceof EntityXPOrb;
+		}
+	};
+
 	/** The original inventory slot occupied by the boomerang item */
 	private int slot;
 
@@ -159,8 +180,7 @@ public class EntityBoomerang extends EntityMobThrowable
 			if (ticksExisted % 4 == 0) {
 				WorldUtils.playSoundAtEntity(this, Sounds.SWORD_MISS, 0.4F, 0.5F);
 			}
-			captureDrops();
-			captureXpOrbs();
+			captureDropsAndXp();
 			destroyVines();
 			updateMotion();
 			super.onUpdate();
@@ -291,19 +311,39 @@ public class EntityBoomerang extends EntityMobThrowable
 	}
 
 	/**
-	 * Scans for and captures nearby EntityItems
+	 * Captures nearby EntityItems and XP orbs along the path travelled since the previous tick,
+	 * so that nothing is missed at high speed, using a single entity query for both
 	 */
-	private void captureDrops() {
-		if (riddenByEntity == null || captureAll) {
-			List<EntityItem> items = worldObj.getEntitiesWithinAABB(EntityItem.class, getEntityBoundingBox().expand(1.0D, 1.0D, 1.0D));
-			for (EntityItem item : items) {
-				if (captureItem(item) && !captureAll) {
-					return;
-				}
+	private void captureDropsAndXp() {
+		boolean canCaptureItems = (riddenByEntity == null || captureAll);
+		Vec3 start = new Vec3(prevPosX, prevPosY + height / 2.0D, prevPosZ);
+		Vec3 end = new Vec3(posX, posY + height / 2.0D, posZ);
+		AxisAlignedBB bb = getEntityBoundingBox().union(getEntityBoundingBox().offset(prevPosX - posX, prevPosY - posY, prevPosZ - posZ)).expand(1.0D, 1.0D, 1.0D);
+		List<Entity> entities = worldObj.getEntitiesWithinAABB(Entity.class, bb, (canCaptureItems ? ITEM_OR_XP_SELECTOR : XP_SELECTOR));
+		for (Entity entity : entities) {
+			if (!isAlongPath(entity, start, end)) {
+				continue;
+			} else if (entity instanceof EntityXPOrb) {
+				xp += ((EntityXPOrb) entity).getXpValue();
+				worldObj.playSoundAtEntity(this, Sounds.XP_ORB, 0.1F, 0.5F * ((rand.nextFloat() - rand.nextFloat()) * 0.7F + 1.8F));
+				entity.setDead();
+			} else if (canCaptureItems && captureItem((EntityItem) entity) && !captureAll) {
+				canCaptureItems = false;
 			}
 		}
 	}
 
+	/**
+	 * Returns true if the entity is within capture range, i.e. 1 block of the boomerang's
+	 * bounding box, at any point along the segment from start to end
+	 */
+	private boolean isAlongPath(Entity entity, Vec3 start, Vec3 end) {
+		double dxz = 1.0D + width / 2.0D;
+		double dy = 1.0D + height / 2.0D;
+		AxisAlignedBB box = entity.getEntityBoundingBox().expand(dxz, dy, dxz);
+		return box.isVecInside(end) || box.isVecInside(start) || box.calculateIntercept(start, end) != null;
+	}
+
 	/**
 	 * Releases all captured drops either into the player's inventory or on the ground, if player is null
 	 */
@@ -317,18 +357,6 @@ public class EntityBoomerang extends EntityMobThrowable
 		}
 	}
 
-	/**
-	 * Scans for and captures nearby XP Orbs
-	 */
-	private void captureXpOrbs() {
-		List<EntityXPOrb> orbs = worldObj.getEntitiesWithinAABB(EntityXPOrb.class, getEntityBoundingBox().expand(1.0D, 1.0D, 1.0D));
-		for (EntityXPOrb orb : orbs) {
-			xp += orb.getXpValue();
-			worldObj.playSoundAtEntity(this, Sounds.XP_ORB, 0.1F, 0.5F * ((rand.nextFloat() - rand.nextFloat()) * 0.7F + 1.8F));
-			orb.setDead();
-		}
-	}
-
 	/**
 	 * Drops all captured xp as orbs
 	 */
@@ -44,11 +44,10 @@ import net.minecraft.world.World;
 import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
 
-import org.apache.commons.lang3.ArrayUtils;
-
 import zeldaswordskills.api.entity.MagicType;
 import zeldaswordskills.client.particle.FXCycloneRing;
 import zeldaswordskills.ref.Config;
+import zeldaswordskills.util.HitTracker;
 import zeldaswordskills.util.WorldUtils;
 
 public class EntityCyclone extends EntityMobThrowable
@@ -63,7 +62,7 @@ public class EntityCyclone extends EntityMobThrowable
 	/** Watchable object index for cyclone's area of effect */
 	private static final int AREA_INDEX = 23;
 	/** Keeps track of entities already affected so they don't get attacked twice */
-	private List<Integer> affectedEntities = new ArrayList<Integer>(); 
+	private final HitTracker affectedEntities = new HitTracker();
 	/** ItemStack version of captured drops is more efficient for NBT storage */
 	private List<ItemStack> capturedItems = new ArrayList<ItemStack>();
 	/** Whether this cyclone can destroy blocks */
@@ -181,9 +180,8 @@ public class EntityCyclone extends EntityMobThrowable
 				}
 			}
 		} else if (mop.entityHit != null && (mop.entityHit != getThrower() || ticksExisted >= 5)) {
-			if (getDamage() > 0.0F && !affectedEntities.contains(mop.entityHit.getEntityId())) {
+			if (getDamage() > 0.0F && affectedEntities.add(mop.entityHit)) {
 				mop.entityHit.attackEntityFrom(getDamageSource(), getDamage());
-				affectedEntities.add(mop.entityHit.getEntityId());
 			}
 			if (!(mop.entityHit instanceof EntityLivingBase) || rand.nextFloat() > ((EntityLivingBase) mop.entityHit).getAttributeMap().getAttributeInstance(SharedMonsterAttributes.knockbackResistance).getAttributeValue()) {
 				mop.entityHit.motionX = this.motionX * 1.8D;
@@ -205,11 +203,10 @@ public class EntityCyclone extends EntityMobThrowable
 			double d = Math.max(0.5D, getArea() - 1.0D);
 			List<EntityLivingBase> entities = worldObj.getEntitiesWithinAABB(EntityLivingBase.class, getEntityBoundingBox().expand(d, d, d));
 			for (EntityLivingBase entity : entities) {
-				if (affectedEntities.contains(entity.getEntityId()) || (entity == getThrower() && ticksExisted < 8)) {
+				if ((entity == getThrower() && ticksExisted < 8) || !affectedEntities.add(entity)) {
 					continue;
 				}
 				entity.attackEntityFrom(new EntityDamageSourceIndirect("tornado", this, getThrower()).setProjectile().setMagicDamage(), getDamage());
-				affectedEntities.add(entity.getEntityId());
 			}
 		}
 	}
@@ -290,7 +287,7 @@ public class EntityCyclone extends EntityMobThrowable
 	public void writeEntityToNBT(NBTTagCompound compound) {
 		super.writeEntityToNBT(compound);
 		compound.setFloat("areaOfEffect", getArea());
-		compound.setIntArray("affectedEntities", ArrayUtils.toPrimitive(affectedEntities.toArray(new Integer[affectedEntities.size()])));
+		affectedEntities.writeToNBT(compound, "affectedEntities");
 		NBTTagList items = new NBTTagList();
 		for (ItemStack stack : capturedItems) {
 			NBTTagCompound dropNBT = new NBTTagCompound();
@@ -304,10 +301,7 @@ public class EntityCyclone extends EntityMobThrowable
 	public void readEntityFromNBT(NBTTagCompound compound) {
 		super.readEntityFromNBT(compound);
 		setArea(compound.getFloat("areaOfEffect"));
-		int[] entities = compound.getIntArray("affectedEntities");
-		for (int i = 0; i < entities.length; ++i) {
-			affectedEntities.add(entities[i]);
-		}
+		affectedEntities.readFromNBT(compound, "affectedEntities");
 		NBTTagList items = compound.getTagList("items", compound.getId());
 		for (int i = 0; i < items.tagCount(); ++i) {
 			capturedItems.add(ItemStack.loadItemStackFromNBT((NBTTagCompound) items.getCompoundTagAt(i)));
@@ -17,11 +17,9 @@
 
 package zeldaswordskills.entity.projectile;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import net.minecraft.block.Block;
-import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityLivingBase;
 import net.minecraft.entity.projectile.EntityThrowable;
@@ -29,24 +27,25 @@ import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.potion.Potion;
 import net.minecraft.potion.PotionEffect;
 import net.minecraft.util.AxisAlignedBB;
-import net.minecraft.util.BlockPos;
 import net.minecraft.util.EnumParticleTypes;
 import net.minecraft.util.MathHelper;
 import net.minecraft.util.MovingObjectPosition;
 import net.minecraft.util.MovingObjectPosition.MovingObjectType;
 import net.minecraft.world.World;
-
-import org.apache.commons.lang3.ArrayUtils;
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
 
 import zeldaswordskills.api.damage.DamageUtils;
+import zeldaswordskills.client.particle.GroundImpactEffect;
 import zeldaswordskills.ref.Sounds;
+import zeldaswordskills.util.HitTracker;
 import zeldaswordskills.util.TargetUtils;
 import zeldaswordskills.util.WorldUtils;
 
 public class EntityLeapingBlow extends EntityThrowable
 {
 	/** Keeps track of entities already affected so they don't get attacked twice */
-	private List<Integer> affectedEntities = new ArrayList<Integer>(); 
+	private final HitTracker affectedEntities = new HitTracker();
 
 	/** Base damage should be set from player's Leaping Blow skill */
 	private float damage = 2.0F;
@@ -119,36 +118,67 @@ public class EntityLeapingBlow extends EntityThrowable
 		super.onUpdate();
 		if (inGround || ticksExisted > lifespan) { setDead(); }
 		if (!worldObj.isRemote) {
-			List<EntityLivingBase> targets = worldObj.getEntitiesWithinAABB(EntityLivingBase.class, getAoE());
-			for (EntityLivingBase target : targets) {
-				if (!affectedEntities.contains(target.getEntityId()) && target != getThrower() && !TargetUtils.isTargetInFrontOf(this, target, 30F)) {
-					affectedEntities.add(target.getEntityId());
-					float d = damage;
-					if (getThrower() != null) {
-						double d0 = (1.0D - getThrower().getDistanceSqToEntity(target) / getRangeSquared());
-						d *= (d0 > 1.0D ? 1.0D : d0);
-						if (d < 0.5D) { return; }
-					}
-					if (target.attackEntityFrom(DamageUtils.causeIndirectSwordDamage(this, getThrower()), d)) {
-						target.addPotionEffect(new PotionEffect(Potion.weakness.id, getPotionDuration()));
-					}
-				}
+			attackNearbyEntities();
+		}
+		if (worldObj.isRemote) {
+			spawnTrailParticles();
+		}
+	}
+
+	/**
+	 * Attacks every target within the area of effect that has not already been affected and
+	 * is not directly in front of the blow; the whole area is searched each tick, so targets
+	 * moving into ground the blow has already covered are still hit
+	 */
+	private void attackNearbyEntities() {
+		List<EntityLivingBase> targets = worldObj.getEntitiesWithinAABB(EntityLivingBase.class, getAoE());
+		for (EntityLivingBase target : targets) {
+			if (!affectedEntities.contains(target) && target != getThrower() && !TargetUtils.isTargetInFrontOf(this, target, 30F)) {
+				attackTarget(target);
 			}
 		}
+	}
+
+	/**
+	 * Marks the target as affected and, if it is close enough to the thrower, damages and weakens it
+	 */
+	private void attackTarget(EntityLivingBase target) {
+		affectedEntities.add(target);
+		float d = damage;
+		if (getThrower() != null) {
+			double d0 = (1.0D - getThrower().getDistanceSqToEntity(target) / getRangeSquared());
+			d *= (d0 > 1.0D ? 1.0D : d0);
+			if (d < 0.5D) { return; }
+		}
+		if (target.attackEntityFrom(DamageUtils.causeIndirectSwordDamage(this, getThrower()), d)) {
+			target.addPotionEffect(new PotionEffect(Potion.weakness.id, getPotionDuration()));
+		}
+	}
+
+	/**
+	 * Spawns the particles trailing along the ground behind this entity, fewer of them
+	 * if the client's particle setting or the viewer's distance call for less detail
+	 */
+	@SideOnly(Side.CLIENT)
+	private void spawnTrailParticles() {
+		float scale = GroundImpactEffect.getDetailScale(posX, posY, posZ, 0);
+		if (scale <= 0.0F) {
+			return;
+		}
+		int n = Math.max(1, Math.round(4 * scale));
 		int x = MathHelper.floor_double(posX);
 		int y = MathHelper.floor_double(posY - 0.20000000298023224D);
 		int z = MathHelper.floor_double(posZ);
-		IBlockState state = worldObj.getBlockState(new BlockPos(x, y, z));
-		Block block = state.getBlock();
+		int stateId = GroundImpactEffect.getGroundStateId(worldObj, x, y, z);
 		int[] extra = {};
 		EnumParticleTypes particle = (isMaster ? EnumParticleTypes.CRIT_MAGIC : EnumParticleTypes.CRIT);
-		if (block.getRenderType() != -1) {
+		if (stateId != -1) {
 			particle = EnumParticleTypes.BLOCK_CRACK;
-			extra = new int[]{Block.getStateId(state)};
+			extra = new int[]{stateId};
 			worldObj.spawnParticle(EnumParticleTypes.BLOCK_CRACK, this.posX + ((double)this.rand.nextFloat() - 0.5D) * (double)this.width, this.getEntityBoundingBox().minY + 0.1D, this.posZ + ((double)this.rand.nextFloat() - 0.5D) * (double)this.width, -this.motionX * 4.0D, 1.5D, -this.motionZ * 4.0D, extra);
 		}
-		spawnParticles(particle, 4, motionZ, 0.01D, motionX, extra);
-		spawnParticles(particle, 4, -motionZ, 0.01D, -motionX, extra);
+		spawnParticles(particle, n, motionZ, 0.01D, motionX, extra);
+		spawnParticles(particle, n, -motionZ, 0.01D, -motionX, extra);
 	}
 
 	/**
@@ -171,8 +201,8 @@ public class EntityLeapingBlow extends EntityThrowable
 		if (!worldObj.isRemote) {
 			if (mop.typeOfHit == MovingObjectType.ENTITY) {
 				Entity entity = mop.entityHit;
-				if (entity instanceof EntityLivingBase && !affectedEntities.contains(entity.getEntityId()) && entity != getThrower()) {
-					affectedEntities.add(entity.getEntityId());
+				if (entity instanceof EntityLivingBase && !affectedEntities.contains(entity) && entity != getThrower()) {
+					affectedEntities.add(entity);
 					if (entity.attackEntityFrom(DamageUtils.causeIndirectSwordDamage(this, getThrower()), damage)) {
 						WorldUtils.playSoundAtEntity(entity, Sounds.HURT_FLESH, 0.4F, 0.5F);
 						if (entity instanceof EntityLivingBase) {
@@ -206,7 +236,7 @@ public class EntityLeapingBlow extends EntityThrowable
 		compound.setFloat("damage", damage);
 		compound.setInteger("level", level);
 		compound.setInteger("lifespan", lifespan);
-		compound.setIntArray("affectedEntities", ArrayUtils.toPrimitive(affectedEntities.toArray(new Integer[affectedEntities.size()])));
+		affectedEntities.writeToNBT(compound, "affectedEntities");
 	}
 
 	@Override
@@ -216,9 +246,6 @@ public class EntityLeapingBlow extends EntityThrowable
 		damage = compound.getFloat("damage");
 		level = compound.getInteger("level");
 		lifespan = compound.getInteger("lifespan");
-		int[] entities = compound.getIntArray("affectedEntities");
-		for (int i = 0; i < entities.length; ++i) {
-			affectedEntities.add(entities[i]);
-		}
+		affectedEntities.readFromNBT(compound, "affectedEntities");
 	}
 }
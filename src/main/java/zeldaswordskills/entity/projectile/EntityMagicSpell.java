@@ -37,7 +37,6 @@ import net.minecraft.util.EnumFacing;
 import net.minecraft.util.EnumParticleTypes;
 import net.minecraft.util.MathHelper;
 import net.minecraft.util.MovingObjectPosition;
-import net.minecraft.util.MovingObjectPosition.MovingObjectType;
 import net.minecraft.util.Vec3;
 import net.minecraft.world.World;
 import net.minecraftforge.fml.relauncher.Side;
@@ -50,6 +49,7 @@ import zeldaswordskills.api.entity.IReflectable;
 import zeldaswordskills.api.entity.MagicType;
 import zeldaswordskills.item.ItemMagicRod;
 import zeldaswordskills.ref.Sounds;
+import zeldaswordskills.util.AoEVisibility;
 import zeldaswordskills.util.WorldUtils;
 
 /**
@@ -222,15 +222,14 @@ public class EntityMagicSpell extends EntityMobThrowable implements IReflectable
 		double z = (mop.entityHit != null ? mop.entityHit.posZ : mop.getBlockPos().getZ() + 0.5D);
 		float r = getArea();
 		List<EntityLivingBase> list = worldObj.getEntitiesWithinAABB(EntityLivingBase.class, new AxisAlignedBB(x - r, y - r, z - r, x + r, y + r, z + r));
+		AoEVisibility visibility = null;
 		for (EntityLivingBase entity : list) {
-			Vec3 vec3 = new Vec3(posX - motionX, posY - motionY, posZ - motionZ);
-			Vec3 vec31 = new Vec3(entity.posX, entity.posY, entity.posZ);
-			MovingObjectPosition mop1 = worldObj.rayTraceBlocks(vec3, vec31);
-			if (mop1 != null && mop1.typeOfHit == MovingObjectType.BLOCK) {
-				Block block = worldObj.getBlockState(mop1.getBlockPos()).getBlock();
-				if (block.getMaterial().blocksMovement()) {
-					continue;
-				}
+			if (visibility == null) {
+				Vec3 origin = new Vec3(posX - motionX, posY - motionY, posZ - motionZ);
+				visibility = new AoEVisibility(worldObj, origin, r + MathHelper.sqrt_double(motionX * motionX + motionY * motionY + motionZ * motionZ));
+			}
+			if (!visibility.canReach(entity)) {
+				continue;
 			}
 			if (entity.attackEntityFrom(getDamageSource(), getDamage()) && !entity.isDead) {
 				handlePostDamageEffects(entity);
@@ -50,8 +50,9 @@ import zeldaswordskills.api.block.IWhipBlock;
 import zeldaswordskills.api.block.IWhipBlock.WhipType;
 import zeldaswordskills.api.damage.DamageUtils.DamageSourceBaseIndirect;
 import zeldaswordskills.api.entity.IEntityLootable;
-import zeldaswordskills.api.entity.LootableEntityRegistry;
+import zeldaswordskills.api.entity.LootableEntityRegistry.LootEntry;
 import zeldaswordskills.api.item.ArmorIndex;
+import zeldaswordskills.entity.EntityTraits;
 import zeldaswordskills.entity.player.ZSSPlayerSkills;
 import zeldaswordskills.item.ItemWhip;
 import zeldaswordskills.network.PacketDispatcher;
@@ -376,14 +377,16 @@ public class EntityWhip extends EntityThrowable
 		if (target.getEntityData().getBoolean("LootableEntityFlag")) {
 			return false;
 		}
-		IEntityLootable lootable = (target instanceof IEntityLootable ? (IEntityLootable) target : null);
+		EntityTraits traits = EntityTraits.get(target);
+		IEntityLootable lootable = (traits.isLootable ? (IEntityLootable) target : null);
+		LootEntry entry = (lootable == null ? traits.getRegisteredLoot() : null);
 		float lootChance = (lootable != null ? lootable.getLootableChance(player, getType())
-				: LootableEntityRegistry.getEntityLootChance(target.getClass()));
+				: entry != null ? entry.chance : 0.0F);
 		lootChance *= Config.getWhipLootMultiplier();
 		boolean wasItemStolen = false;
 		if (rand.nextFloat() < lootChance) {
 			ItemStack loot = (lootable != null ? lootable.getEntityLoot(player, getType())
-					: LootableEntityRegistry.getEntityLoot(target.getClass()));
+					: entry.getRandomLoot());
 			if (loot != null) {
 				EntityItem item = new EntityItem(worldObj, posX, posY + 1, posZ, loot);
 				double dx = player.posX - posX;
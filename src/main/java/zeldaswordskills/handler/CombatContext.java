@@ -0,0 +1,226 @@
+/**
+    Copyright (C) <2015> <coolAlias>
+
+    This file is part of coolAlias' Zelda Sword Skills Minecraft Mod; as such,
+    you can redistribute it and/or modify it under the terms of the GNU
+    General Public License as published by the Free Software Foundation,
+    either version 3 of the License, or (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package zeldaswordskills.handler;
+
+import java.util.Set;
+
+import net.minecraft.entity.EntityLivingBase;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.item.ItemStack;
+import net.minecraft.util.DamageSource;
+import zeldaswordskills.api.damage.EnumDamageType;
+import zeldaswordskills.api.damage.IDamageAoE;
+import zeldaswordskills.api.damage.IDamageType;
+import zeldaswordskills.entity.ZSSEntityInfo;
+import zeldaswordskills.entity.buff.Buff;
+import zeldaswordskills.entity.player.ZSSPlayerInfo;
+import zeldaswordskills.entity.player.ZSSPlayerSkills;
+
+/**
+ *
+ * Everything about a single hit that the combat events need more than once: the extended
+ * properties of both entities, the attacker's held item, and the combined damage modifier
+ * from both entities' buffs.
+ *
+ * Each property is only looked up the first time it is needed, and the same context is
+ * shared by the LivingAttackEvent and LivingHurtEvent(s) posted for the same damage source
+ * against the same entity during the same tick, so a hit resolves each of them only once.
+ * The context is discarded at the end of the tick, see {@link #clear}.
+ *
+ */
+public final class CombatContext
+{
+	/** The most recent context created on each thread, i.e. for the client and server separately */
+	private static final ThreadLocal<CombatContext> lastContext = new ThreadLocal<CombatContext>();
+
+	public final EntityLivingBase defender;
+
+	public final DamageSource source;
+
+	/** The entity ultimately responsible for the damage, if it is a living entity, or null */
+	public final EntityLivingBase attacker;
+
+	/** World time at which this context was created */
+	private final long time;
+
+	/** The attacker's held item, or null; only valid once heldItemResolved is true */
+	private ItemStack attackerHeldItem;
+
+	private boolean heldItemResolved;
+
+	/** True if the damage is an area of effect, i.e. not directed solely at the defender */
+	private final boolean isAoE;
+
+	private ZSSEntityInfo defenderInfo;
+	private ZSSEntityInfo attackerInfo;
+	private ZSSPlayerSkills attackerSkills;
+	private ZSSPlayerSkills defenderSkills;
+	private ZSSPlayerInfo defenderPlayerInfo;
+
+	/** Combined attack, weakness, and defense multiplier; applied first */
+	private float baseModifier;
+
+	/** Combined multiplier from the defender's resistances to the source's damage types; only applied to positive amounts */
+	private float typeModifier;
+
+	/** Combined multiplier from the defender's fire and magic resistances; applied last */
+	private float resistModifier;
+
+	private boolean modifiersResolved;
+
+	private CombatContext(EntityLivingBase defender, DamageSource source) {
+		this.defender = defender;
+		this.source = source;
+		this.attacker = (source.getEntity() instanceof EntityLivingBase ? (EntityLivingBase) source.getEntity() : null);
+		this.time = defender.worldObj.getTotalWorldTime();
+		this.isAoE = (source instanceof IDamageAoE && ((IDamageAoE) source).isAoEDamage());
+	}
+
+	/**
+	 * Returns the context for the damage source hitting the defender, reusing the previous
+	 * context if it was created for the same hit
+	 */
+	public static CombatContext get(EntityLivingBase defender, DamageSource source) {
+		CombatContext context = lastContext.get();
+		if (context == null || context.defender != defender || context.source != source || context.time != defender.worldObj.getTotalWorldTime()) {
+			context = new CombatContext(defender, source);
+			lastContext.set(context);
+		}
+		return context;
+	}
+
+	/**
+	 * Discards the context kept for the current thread, so that it no longer holds the entities
+	 * involved, and through them their world; called at the end of each tick and on world unload
+	 */
+	public static void clear() {
+		lastContext.remove();
+	}
+
+	/** The attacker if it is a player, otherwise null */
+	public EntityPlayer getAttackingPlayer() {
+		return (attacker instanceof EntityPlayer ? (EntityPlayer) attacker : null);
+	}
+
+	/** The attacker's held item as of the first time this was called for the hit, or null */
+	public ItemStack getAttackerHeldItem() {
+		if (!heldItemResolved) {
+			attackerHeldItem = (attacker == null ? null : attacker.getHeldItem());
+			heldItemResolved = true;
+		}
+		return attackerHeldItem;
+	}
+
+	/** True if the damage source is an area of effect */
+	public boolean isAoE() {
+		return isAoE;
+	}
+
+	public ZSSEntityInfo getDefenderInfo() {
+		if (defenderInfo == null) {
+			defenderInfo = ZSSEntityInfo.get(defender);
+		}
+		return defenderInfo;
+	}
+
+	/** Returns the attacker's info, or null if there is no living attacker */
+	public ZSSEntityInfo getAttackerInfo() {
+		if (attackerInfo == null && attacker != null) {
+			attackerInfo = ZSSEntityInfo.get(attacker);
+		}
+		return attackerInfo;
+	}
+
+	/** Returns the attacking player's skills, or null if the attacker is not a player */
+	public ZSSPlayerSkills getAttackerSkills() {
+		if (attackerSkills == null && attacker instanceof EntityPlayer) {
+			attackerSkills = ZSSPlayerSkills.get((EntityPlayer) attacker);
+		}
+		return attackerSkills;
+	}
+
+	/** Returns the defending player's skills, or null if the defender is not a player */
+	public ZSSPlayerSkills getDefenderSkills() {
+		if (defenderSkills == null && defender instanceof EntityPlayer) {
+			defenderSkills = ZSSPlayerSkills.get((EntityPlayer) defender);
+		}
+		return defenderSkills;
+	}
+
+	/** Returns the defending player's info, or null if the defender is not a player */
+	public ZSSPlayerInfo getDefenderPlayerInfo() {
+		if (defenderPlayerInfo == null && defender instanceof EntityPlayer) {
+			defenderPlayerInfo = ZSSPlayerInfo.get((EntityPlayer) defender);
+		}
+		return defenderPlayerInfo;
+	}
+
+	/**
+	 * Returns the damage amount modified by both the attacker's and the defender's relevant buffs
+	 */
+	public float applyDamageModifiers(float amount) {
+		if (!modifiersResolved) {
+			resolveModifiers();
+		}
+		amount *= baseModifier;
+		if (amount > 0.0F) {
+			amount *= typeModifier;
+		}
+		return amount * resistModifier;
+	}
+
+	private void resolveModifiers() {
+		ZSSEntityInfo info = getDefenderInfo();
+		float base = 1.0F;
+		if (attacker != null) {
+			ZSSEntityInfo attackerInfo = getAttackerInfo();
+			base *= 1.0F - (attackerInfo.getBuffAmplifier(Buff.ATTACK_DOWN) * 0.01F);
+			base *= 1.0F + (attackerInfo.getBuffAmplifier(Buff.ATTACK_UP) * 0.01F);
+		}
+		float type = 1.0F;
+		Set<EnumDamageType> damageTypes = (source instanceof IDamageType ? ((IDamageType) source).getEnumDamageTypes() : null);
+		if (damageTypes != null) {
+			for (EnumDamageType damageType : damageTypes) {
+				Buff weakness = EnumDamageType.damageWeaknessMap.get(damageType);
+				if (weakness != null) {
+					base *= 1.0F + (info.getBuffAmplifier(weakness) * 0.01F);
+				}
+				Buff resistance = EnumDamageType.damageResistMap.get(damageType);
+				if (resistance != null) {
+					type *= 1.0F - (info.getBuffAmplifier(resistance) * 0.01F);
+				}
+			}
+		}
+		float resist = 1.0F;
+		if (source.isFireDamage()) {
+			base *= 1.0F + (info.getBuffAmplifier(Buff.WEAKNESS_FIRE) * 0.01F);
+			resist *= 1.0F - (info.getBuffAmplifier(Buff.RESIST_FIRE) * 0.01F);
+		}
+		if (source.isMagicDamage()) {
+			base *= 1.0F + (info.getBuffAmplifier(Buff.WEAKNESS_MAGIC) * 0.01F);
+			resist *= 1.0F - (info.getBuffAmplifier(Buff.RESIST_MAGIC) * 0.01F);
+		}
+		float defenseUp = info.getBuffAmplifier(Buff.DEFENSE_UP) * 0.01F;
+		float defenseDown = info.getBuffAmplifier(Buff.DEFENSE_DOWN) * 0.01F;
+		base *= (1.0F + defenseDown - defenseUp);
+		this.baseModifier = base;
+		this.typeModifier = type;
+		this.resistModifier = resist;
+		this.modifiersResolved = true;
+	}
+}
@@ -32,12 +32,13 @@ import net.minecraftforge.event.entity.living.LivingDeathEvent;
 import net.minecraftforge.event.entity.living.LivingHurtEvent;
 import net.minecraftforge.event.entity.living.LivingSetAttackTargetEvent;
 import net.minecraftforge.event.entity.player.AttackEntityEvent;
+import net.minecraftforge.event.world.WorldEvent;
 import net.minecraftforge.fml.common.eventhandler.EventPriority;
 import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent;
 import zeldaswordskills.api.damage.DamageUtils;
 import zeldaswordskills.api.damage.DamageUtils.DamageSourceArmorBreak;
 import zeldaswordskills.api.damage.EnumDamageType;
-import zeldaswordskills.api.damage.IDamageAoE;
 import zeldaswordskills.api.damage.IDamageType;
 import zeldaswordskills.api.damage.IPostDamageEffect;
 import zeldaswordskills.api.item.ArmorIndex;
@@ -127,17 +128,18 @@ public class ZSSCombatEvents
 	 */
 	@SubscribeEvent
 	public void onAttacked(LivingAttackEvent event) {
-		if (event.source.getEntity() instanceof EntityLivingBase) {
-			event.setCanceled(ZSSEntityInfo.get((EntityLivingBase) event.source.getEntity()).isBuffActive(Buff.STUN));
+		CombatContext context = CombatContext.get(event.entityLiving, event.source);
+		if (context.attacker != null) {
+			event.setCanceled(context.getAttackerInfo().isBuffActive(Buff.STUN));
 		}
 		if (event.isCanceled()) {
 			return;
 		}
 		// Possible for damage to be negated by resistances, in which case we don't want the hurt animation to play
-		float amount = applyDamageModifiers(event.entityLiving, event.source, event.ammount);
+		float amount = context.applyDamageModifiers(event.ammount);
 		if (event.entity instanceof EntityPlayer) {
 			EntityPlayer player = (EntityPlayer) event.entity;
-			ZSSPlayerSkills.get(player).onBeingAttacked(event);
+			context.getDefenderSkills().onBeingAttacked(event);
 			if (amount < 0.1F) {
 				event.setCanceled(true);
 			} else if (event.source.isFireDamage() && event.source.getSourceOfDamage() == null) {
@@ -145,11 +147,12 @@ public class ZSSCombatEvents
 			}
 		} else if (amount < 0.1F) {
 			event.setCanceled(true);
-		} else if (event.source.getEntity() != null && (!(event.source instanceof IDamageAoE) || !((IDamageAoE) event.source).isAoEDamage())) {
+		} else if (event.source.getEntity() != null && !context.isAoE()) {
 			EntityLivingBase entity = event.entityLiving;
-			float evade = ZSSEntityInfo.get(entity).getBuffAmplifier(Buff.EVADE_UP) * 0.01F;
-			if (evade > 0.0F && !ZSSEntityInfo.get(entity).isBuffActive(Buff.STUN)) {
-				float penalty = ZSSEntityInfo.get(entity).getBuffAmplifier(Buff.EVADE_DOWN) * 0.01F;
+			ZSSEntityInfo info = context.getDefenderInfo();
+			float evade = info.getBuffAmplifier(Buff.EVADE_UP) * 0.01F;
+			if (evade > 0.0F && !info.isBuffActive(Buff.STUN)) {
+				float penalty = info.getBuffAmplifier(Buff.EVADE_DOWN) * 0.01F;
 				if (entity.worldObj.rand.nextFloat() < evade - penalty) {
 					WorldUtils.playSoundAtEntity(entity, Sounds.SWORD_MISS, 0.4F, 0.5F);
 					event.setCanceled(true);
@@ -168,7 +171,7 @@ public class ZSSCombatEvents
 			ItemStack stack = player.getHeldItem();
 			if (stack != null && stack.getItem() instanceof ItemZeldaShield && player.isUsingItem()) {
 				ItemZeldaShield shield = (ItemZeldaShield) stack.getItem();
-				if (ZSSPlayerInfo.get(player).canBlock() && shield.canBlockDamage(stack, event.source)) {
+				if (CombatContext.get(player, event.source).getDefenderPlayerInfo().canBlock() && shield.canBlockDamage(stack, event.source)) {
 					Entity opponent = event.source.getEntity();
 					if (opponent != null && TargetUtils.isTargetInFrontOf(opponent, player, 60)) {
 						event.ammount = shield.onBlock(player, stack, event.source, event.ammount);
@@ -184,33 +187,35 @@ public class ZSSCombatEvents
 	 */
 	@SubscribeEvent(priority=EventPriority.LOWEST)
 	public void onHurt(LivingHurtEvent event) {
+		CombatContext context = CombatContext.get(event.entityLiving, event.source);
 		// handle armor break first, since it will post LivingHurtEvent once again
-		if (event.source.getEntity() instanceof EntityPlayer && !(event.source instanceof DamageSourceArmorBreak)) {
-			EntityPlayer player = (EntityPlayer) event.source.getEntity();
-			ZSSPlayerSkills skills = ZSSPlayerSkills.get(player);
+		EntityPlayer attacker = context.getAttackingPlayer();
+		if (attacker != null && !(event.source instanceof DamageSourceArmorBreak)) {
+			ZSSPlayerSkills skills = context.getAttackerSkills();
 			ICombo combo = skills.getComboSkill();
 			if (combo != null && combo.isComboInProgress()) {
 				event.ammount += combo.getCombo().getNumHits();
 			}
 			if (skills.isSkillActive(SkillBase.armorBreak)) {
 				//LogHelper.info("Entity hurt by armor break; player weapon pre-impact damage: " + player.getHeldItem().getItemDamage());
-				((ArmorBreak) skills.getPlayerSkill(SkillBase.armorBreak)).onImpact(player, event);
+				((ArmorBreak) skills.getPlayerSkill(SkillBase.armorBreak)).onImpact(attacker, event);
 				//LogHelper.info("Entity hurt by armor break; player weapon post-impact damage: " + player.getHeldItem().getItemDamage());
 				return;
 			} else if (skills.isSkillActive(SkillBase.mortalDraw)) {
-				((MortalDraw) skills.getPlayerSkill(SkillBase.mortalDraw)).onImpact(player, event);
+				((MortalDraw) skills.getPlayerSkill(SkillBase.mortalDraw)).onImpact(attacker, event);
 			}
-			if (player.getHeldItem() != null && player.getHeldItem().getItem() instanceof IArmorBreak && event.source.damageType.equals("player")) {
-				float damage = (event.ammount * ((IArmorBreak) player.getHeldItem().getItem()).getPercentArmorIgnored() * 0.01F);
+			ItemStack held = context.getAttackerHeldItem();
+			if (held != null && held.getItem() instanceof IArmorBreak && event.source.damageType.equals("player")) {
+				float damage = (event.ammount * ((IArmorBreak) held.getItem()).getPercentArmorIgnored() * 0.01F);
 				// use dirty accessor to avoid checking / setting hurt resistant time, which
 				// allows the current remaining damage to process normally and the armor break
 				// damage to be applied from the second event posted from #damageEntity
-				DirtyEntityAccessor.damageEntity(event.entityLiving, DamageUtils.causeIArmorBreakDamage(player), damage);
+				DirtyEntityAccessor.damageEntity(event.entityLiving, DamageUtils.causeIArmorBreakDamage(attacker), damage);
 				event.ammount -= damage; // subtract armor break damage
 			}
 		}
 
-		event.ammount = applyDamageModifiers(event.entityLiving, event.source, event.ammount);
+		event.ammount = context.applyDamageModifiers(event.ammount);
 
 		// apply magic armor and combo onHurt last, after other resistances
 		if (event.ammount > 0.0F && event.entity instanceof EntityPlayer) {
@@ -227,15 +232,15 @@ public class ZSSCombatEvents
 			if (event.isCanceled()) {
 				return;
 			}
-			ICombo combo = ZSSPlayerSkills.get(player).getComboSkill();
+			ICombo combo = context.getDefenderSkills().getComboSkill();
 			if (combo != null && event.ammount > 0) {
 				combo.onPlayerHurt(player, event);
 			}
 		}
 		// final call for active skills to modify damage
 		// update combo and last, after all resistances and weaknesses are accounted for
-		if (event.ammount > 0.0F && event.source.getEntity() instanceof EntityPlayer) {
-			ZSSPlayerSkills.get((EntityPlayer) event.source.getEntity()).onPostImpact(event);
+		if (event.ammount > 0.0F && attacker != null) {
+			context.getAttackerSkills().onPostImpact(event);
 		}
 		handleSecondaryEffects(event);
 	}
@@ -254,68 +259,32 @@ public class ZSSCombatEvents
 	}
 
 	/**
-	 * Returns the damage amount modified by both the attacker's and the defender's relevant buffs
+	 * Combat contexts are only reused within the tick in which they were created
 	 */
-	public static float applyDamageModifiers(EntityLivingBase defender, DamageSource source, float amount) {
-		if (source.getEntity() instanceof EntityLivingBase) {
-			EntityLivingBase entity = (EntityLivingBase) source.getEntity();
-			amount *= 1.0F - (ZSSEntityInfo.get(entity).getBuffAmplifier(Buff.ATTACK_DOWN) * 0.01F);
-			amount *= 1.0F + (ZSSEntityInfo.get(entity).getBuffAmplifier(Buff.ATTACK_UP) * 0.01F);
+	@SubscribeEvent
+	public void onServerTick(TickEvent.ServerTickEvent event) {
+		if (event.phase == TickEvent.Phase.END) {
+			CombatContext.clear();
 		}
-		amount = applyDamageWeaknesses(defender, source, amount);
-		amount = applyDamageResistances(defender, source, amount);
-		return amount;
 	}
 
-	/**
-	 * Returns modified damage amount based on the defender's resistances vs. the damage source
-	 */
-	private static float applyDamageResistances(EntityLivingBase defender, DamageSource source, float amount) {
-		ZSSEntityInfo info = ZSSEntityInfo.get(defender);
-		float defenseUp = info.getBuffAmplifier(Buff.DEFENSE_UP) * 0.01F;
-		float defenseDown = info.getBuffAmplifier(Buff.DEFENSE_DOWN) * 0.01F;
-		amount *= (1.0F + defenseDown - defenseUp);
-		if (source instanceof IDamageType && amount > 0.0F) {
-			Set<EnumDamageType> damageTypes = ((IDamageType) source).getEnumDamageTypes();
-			if (damageTypes != null) {
-				for (EnumDamageType type : damageTypes) {
-					if (EnumDamageType.damageResistMap.get(type) != null) {
-						amount *= 1.0F - (info.getBuffAmplifier(EnumDamageType.damageResistMap.get(type)) * 0.01F);
-					}
-				}
-			}
-		}
-		if (source.isFireDamage()) {
-			amount *= 1.0F - (info.getBuffAmplifier(Buff.RESIST_FIRE) * 0.01F);
-		}
-		if (source.isMagicDamage()) {
-			amount *= 1.0F - (info.getBuffAmplifier(Buff.RESIST_MAGIC) * 0.01F);
+	@SubscribeEvent
+	public void onClientTick(TickEvent.ClientTickEvent event) {
+		if (event.phase == TickEvent.Phase.END) {
+			CombatContext.clear();
 		}
-		return amount;
+	}
+
+	@SubscribeEvent
+	public void onWorldUnload(WorldEvent.Unload event) {
+		CombatContext.clear();
 	}
 
 	/**
-	 * Returns modified damage amount based on the defender's weaknesses to the damage source
+	 * Returns the damage amount modified by both the attacker's and the defender's relevant buffs
 	 */
-	private static float applyDamageWeaknesses(EntityLivingBase defender, DamageSource source, float amount) {
-		ZSSEntityInfo info = ZSSEntityInfo.get(defender);
-		if (source instanceof IDamageType) {
-			Set<EnumDamageType> damageTypes = ((IDamageType) source).getEnumDamageTypes();
-			if (damageTypes != null) {
-				for (EnumDamageType type : damageTypes) {
-					if (EnumDamageType.damageWeaknessMap.get(type) != null) {
-						amount *= 1.0F + (info.getBuffAmplifier(EnumDamageType.damageWeaknessMap.get(type)) * 0.01F);
-					}
-				}
-			}
-		}
-		if (source.isFireDamage()) {
-			amount *= 1.0F + (info.getBuffAmplifier(Buff.WEAKNESS_FIRE) * 0.01F);
-		}
-		if (source.isMagicDamage()) {
-			amount *= 1.0F + (info.getBuffAmplifier(Buff.WEAKNESS_MAGIC) * 0.01F);
-		}
-		return amount;
+	public static float applyDamageModifiers(EntityLivingBase defender, DamageSource source, float amount) {
+		return CombatContext.get(defender, source).applyDamageModifiers(amount);
 	}
 
 	/**
@@ -60,6 +60,8 @@ import zeldaswordskills.ref.Config;
 import zeldaswordskills.skills.SkillBase;
 import zeldaswordskills.skills.sword.LeapingBlow;
 import zeldaswordskills.util.PlayerUtils;
+import zeldaswordskills.util.TickProfiler;
+import zeldaswordskills.util.TickProfiler.Section;
 
 /**
  * 
@@ -169,7 +171,9 @@ public class ZSSEntityEvents
 	public void onLivingUpdate(LivingUpdateEvent event) {
 		if (event.entity instanceof EntityPlayer) {
 			EntityPlayer player = (EntityPlayer) event.entity;
+			long start = TickProfiler.start(player.worldObj);
 			ZSSPlayerInfo.get(player).onUpdate();
+			TickProfiler.end(Section.PLAYER_INFO, start, player);
 			if (player.motionY < -0.25D) {
 				boolean flag = player.getHeldItem() != null && player.getHeldItem().getItem() == ZSSItems.rocsFeather;
 				if (flag || (player.getCurrentArmor(ArmorIndex.WORN_HELM) != null && player.getCurrentArmor(ArmorIndex.WORN_HELM).getItem() == ZSSItems.maskDeku)) {
@@ -179,7 +183,9 @@ public class ZSSEntityEvents
 			}
 		}
 		if (event.entity instanceof EntityLivingBase) {
+			long start = TickProfiler.start(event.entity.worldObj);
 			ZSSEntityInfo.get((EntityLivingBase) event.entity).onUpdate();
+			TickProfiler.end(Section.ENTITY_INFO, start, event.entity);
 		}
 		if (event.entity instanceof EntityVillager) {
 			ZSSVillagerInfo.get((EntityVillager) event.entity).onUpdate();
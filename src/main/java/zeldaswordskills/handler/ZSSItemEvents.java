@@ -17,15 +17,17 @@
 
 package zeldaswordskills.handler;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Random;
 
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockBreakable;
 import net.minecraft.block.material.Material;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.EntityLivingBase;
-import net.minecraft.entity.boss.IBossDisplayData;
 import net.minecraft.entity.item.EntityItem;
 import net.minecraft.entity.monster.EntityBlaze;
 import net.minecraft.entity.monster.EntityCaveSpider;
@@ -40,7 +42,6 @@ import net.minecraft.entity.monster.EntitySkeleton;
 import net.minecraft.entity.monster.EntitySpider;
 import net.minecraft.entity.monster.EntityWitch;
 import net.minecraft.entity.monster.EntityZombie;
-import net.minecraft.entity.monster.IMob;
 import net.minecraft.entity.passive.EntityHorse;
 import net.minecraft.entity.passive.EntityOcelot;
 import net.minecraft.entity.player.EntityPlayer;
@@ -50,6 +51,7 @@ import net.minecraft.init.Items;
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemEnchantedBook;
 import net.minecraft.item.ItemStack;
+import net.minecraft.stats.Achievement;
 import net.minecraft.util.BlockPos;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.MathHelper;
@@ -75,6 +77,7 @@ import zeldaswordskills.api.item.ILiftBlock;
 import zeldaswordskills.api.item.ISmashBlock;
 import zeldaswordskills.api.item.IUnenchantable;
 import zeldaswordskills.block.tileentity.TileEntityDungeonCore;
+import zeldaswordskills.entity.EntityTraits;
 import zeldaswordskills.entity.mobs.EntityDarknut;
 import zeldaswordskills.entity.mobs.EntityKeese;
 import zeldaswordskills.entity.mobs.EntityOctorok;
@@ -99,6 +102,9 @@ import zeldaswordskills.util.WorldUtils;
  */
 public class ZSSItemEvents
 {
+	/** Minimum number of ticks between special drop sounds for mobs killed by the same player */
+	private static final int SPECIAL_DROP_SOUND_INTERVAL = 20;
+
 	/** Mapping of mobs to skill orb drops */
 	private static final Map<Class<? extends EntityLivingBase>, ItemStack> dropsList = new HashMap<Class<? extends EntityLivingBase>, ItemStack>();
 
@@ -119,13 +125,14 @@ public class ZSSItemEvents
 	 * this is not always the same as the stack stored in dropsList
 	 */
 	private static ItemStack getOrbDrop(EntityLivingBase mob, boolean isBoss) {
-		if (dropsList.get(mob.getClass()) != null && mob.worldObj.rand.nextFloat() > Config.getChanceForRandomDrop()) {
-			return dropsList.get(mob.getClass());
+		ItemStack drop = dropsList.get(mob.getClass());
+		if (drop != null && mob.worldObj.rand.nextFloat() > Config.getChanceForRandomDrop()) {
+			return drop;
 		} else {
 			ItemStack orb = null;
 			int id = mob.worldObj.rand.nextInt(SkillBase.getNumSkills());
 			if (SkillBase.doesSkillExist(id) && SkillBase.getSkill(id).canDrop()) {
-				if (dropsList.get(mob.getClass()) != null || isBoss || mob.worldObj.rand.nextFloat() < Config.getRandomMobDropChance()) {
+				if (drop != null || isBoss || mob.worldObj.rand.nextFloat() < Config.getRandomMobDropChance()) {
 					orb = (id == SkillBase.bonusHeart.getId() ? new ItemStack(ZSSItems.heartPiece) : new ItemStack(ZSSItems.skillOrb, 1, id));
 				}
 			}
@@ -138,47 +145,84 @@ public class ZSSItemEvents
 		if (event.source.getEntity() instanceof EntityPlayer) {
 			EntityPlayer player = (EntityPlayer) event.source.getEntity();
 			EntityLivingBase mob = event.entityLiving;
-			boolean isBoss = mob instanceof IBossDisplayData;
-			boolean flag = ZSSPlayerSkills.get(player).getSkillLevel(SkillBase.mortalDraw) == SkillBase.mortalDraw.getMaxLevel();
-			ItemStack orb = (isBoss && !flag ? new ItemStack(ZSSItems.skillOrb,1,SkillBase.mortalDraw.getId()) : getOrbDrop(mob, isBoss));
-			if (orb != null && Config.areOrbDropsEnabled()) {
-				ItemStack helm = (player).getCurrentArmor(ArmorIndex.WORN_HELM);
-				float f = (helm != null && helm.getItem() == ZSSItems.maskTruth ? 0.01F : 0.0F); 
-				float baseChance = Config.getDropChance(orb.getItem() == ZSSItems.heartPiece ? SkillBase.bonusHeart.getId() : orb.getItemDamage());
-				if (baseChance > 0.0F && (isBoss || mob.worldObj.rand.nextFloat() < (baseChance + f + (0.005F * event.lootingLevel)))) {
-					event.drops.add(new EntityItem(mob.worldObj, mob.posX, mob.posY, mob.posZ, orb.copy()));
-					mob.worldObj.playSoundEffect(mob.posX, mob.posY, mob.posZ, Sounds.SPECIAL_DROP, 1.0F, 1.0F);
-					player.triggerAchievement(ZSSAchievements.skillGain);
-					if (isBoss) {
-						player.triggerAchievement(ZSSAchievements.skillMortal);
-					}
-				}
+			List<ItemStack> drops = getMobDrops(player, mob, event.drops.size(), event.lootingLevel);
+			for (ItemStack stack : drops) {
+				event.drops.add(new EntityItem(mob.worldObj, mob.posX, mob.posY, mob.posZ, stack));
 			}
-			if (mob instanceof EntityCreeper && mob.worldObj.rand.nextFloat() < Config.getCreeperDropChance()) {
-				event.drops.add(new EntityItem(mob.worldObj, mob.posX, mob.posY, mob.posZ, new ItemStack(ZSSItems.bomb)));
+		}
+	}
+
+	/**
+	 * Rolls for all of the mod's drops for a mob killed by the player
+	 * @param numDrops Number of drops the mob already has, which lowers the chance of consumable drops
+	 */
+	private List<ItemStack> getMobDrops(EntityPlayer player, EntityLivingBase mob, int numDrops, int lootingLevel) {
+		List<ItemStack> drops = new ArrayList<ItemStack>();
+		Random rand = mob.worldObj.rand;
+		EntityTraits traits = EntityTraits.get(mob);
+		boolean isBoss = traits.isBoss;
+		boolean flag = ZSSPlayerSkills.get(player).getSkillLevel(SkillBase.mortalDraw) == SkillBase.mortalDraw.getMaxLevel();
+		ItemStack orb = (isBoss && !flag ? new ItemStack(ZSSItems.skillOrb,1,SkillBase.mortalDraw.getId()) : getOrbDrop(mob, isBoss));
+		if (orb != null && Config.areOrbDropsEnabled()) {
+			ItemStack helm = (player).getCurrentArmor(ArmorIndex.WORN_HELM);
+			float f = (helm != null && helm.getItem() == ZSSItems.maskTruth ? 0.01F : 0.0F); 
+			float baseChance = Config.getDropChance(orb.getItem() == ZSSItems.heartPiece ? SkillBase.bonusHeart.getId() : orb.getItemDamage());
+			if (baseChance > 0.0F && (isBoss || rand.nextFloat() < (baseChance + f + (0.005F * lootingLevel)))) {
+				drops.add(orb.copy());
+				++numDrops;
+				onSpecialDrop(player, mob, isBoss);
 			}
-			if (mob instanceof IMob && mob.worldObj.rand.nextInt(Config.getPowerDropRate()) == 0) {
-				event.drops.add(new EntityItem(mob.worldObj, mob.posX, mob.posY, mob.posZ, new ItemStack(ZSSItems.powerPiece)));
+		}
+		if (mob instanceof EntityCreeper && rand.nextFloat() < Config.getCreeperDropChance()) {
+			drops.add(new ItemStack(ZSSItems.bomb));
+			++numDrops;
+		}
+		if (traits.isMob && rand.nextInt(Config.getPowerDropRate()) == 0) {
+			drops.add(new ItemStack(ZSSItems.powerPiece));
+			++numDrops;
+		}
+		// Check for heart and magic jar drops
+		if (traits.isMob) {
+			// High-HP mobs have a better chance of dropping a Large Magic Jar;
+			// as a base line, Dark Nuts (50 HP) should have a 5-10% drop rate (caps at 25%)
+			float hp = mob.getMaxHealth();
+			float chance = MathHelper.clamp_float(((hp - 40F) / 100F), 0F, 0.25F);
+			if (hp > 100) { // add 5% per additional 100 HP to a max of 50% for a 500+ HP critter
+				chance = MathHelper.clamp_float(chance + (hp - 100F) / 2000F, 0F, 0.5F);
 			}
-			// Check for heart and magic jar drops
-			if (mob instanceof IMob) {
-				// High-HP mobs have a better chance of dropping a Large Magic Jar;
-				// as a base line, Dark Nuts (50 HP) should have a 5-10% drop rate (caps at 25%)
-				float hp = mob.getMaxHealth();
-				float chance = MathHelper.clamp_float(((hp - 40F) / 100F), 0F, 0.25F);
-				if (hp > 100) { // add 5% per additional 100 HP to a max of 50% for a 500+ HP critter
-					chance = MathHelper.clamp_float(chance + (hp - 100F) / 2000F, 0F, 0.5F);
-				}
-				if (mob.worldObj.rand.nextFloat() < chance) {
-					event.drops.add(new EntityItem(mob.worldObj, mob.posX, mob.posY, mob.posZ, new ItemStack(ZSSItems.magicJarBig)));
-				}
-				int consumable_chance = Config.getMobConsumableFrequency();
-				if (consumable_chance > 0 && mob.worldObj.rand.nextInt((event.drops.size() + 1) * (12 - consumable_chance)) == 0) {
-					ItemStack stack = new ItemStack(mob.worldObj.rand.nextInt(4) == 0 ? ZSSItems.magicJar : ZSSItems.smallHeart);
-					event.drops.add(new EntityItem(mob.worldObj, mob.posX, mob.posY, mob.posZ, stack));
-				}
+			if (rand.nextFloat() < chance) {
+				drops.add(new ItemStack(ZSSItems.magicJarBig));
+				++numDrops;
+			}
+			int consumable_chance = Config.getMobConsumableFrequency();
+			if (consumable_chance > 0 && rand.nextInt((numDrops + 1) * (12 - consumable_chance)) == 0) {
+				drops.add(new ItemStack(rand.nextInt(4) == 0 ? ZSSItems.magicJar : ZSSItems.smallHeart));
 			}
 		}
+		return drops;
+	}
+
+	/**
+	 * Plays the special drop sound, at most once per {@link #SPECIAL_DROP_SOUND_INTERVAL} for each
+	 * player's kills, and triggers any drop-related achievements the player does not yet have
+	 */
+	private void onSpecialDrop(EntityPlayer player, EntityLivingBase mob, boolean isBoss) {
+		ZSSPlayerInfo info = ZSSPlayerInfo.get(player);
+		long time = mob.worldObj.getTotalWorldTime();
+		if (time - info.lastSpecialDropTime >= SPECIAL_DROP_SOUND_INTERVAL || time < info.lastSpecialDropTime) {
+			info.lastSpecialDropTime = time;
+			mob.worldObj.playSoundEffect(mob.posX, mob.posY, mob.posZ, Sounds.SPECIAL_DROP, 1.0F, 1.0F);
+		}
+		if (!hasAchievement(player, ZSSAchievements.skillGain)) {
+			player.triggerAchievement(ZSSAchievements.skillGain);
+		}
+		if (isBoss && !hasAchievement(player, ZSSAchievements.skillMortal)) {
+			player.triggerAchievement(ZSSAchievements.skillMortal);
+		}
+	}
+
+	private static boolean hasAchievement(EntityPlayer player, Achievement achievement) {
+		return (player instanceof EntityPlayerMP && ((EntityPlayerMP) player).getStatFile().hasAchievementUnlocked(achievement));
 	}
 
 	@SubscribeEvent
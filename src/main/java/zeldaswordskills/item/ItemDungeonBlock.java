@@ -33,7 +33,6 @@ import net.minecraft.init.Blocks;
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
-import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.BlockPos;
 import net.minecraft.util.EnumChatFormatting;
 import net.minecraft.util.EnumFacing;
@@ -47,7 +46,6 @@ import zeldaswordskills.api.item.IDynamicItemBlock;
 import zeldaswordskills.block.BlockDungeonStone;
 import zeldaswordskills.block.BlockSecretStone;
 import zeldaswordskills.block.ZSSBlocks;
-import zeldaswordskills.block.tileentity.TileEntityDungeonStone;
 import zeldaswordskills.client.ISwapModel;
 import zeldaswordskills.client.render.item.ModelDynamicItemBlock;
 import zeldaswordskills.network.PacketDispatcher;
@@ -56,7 +54,7 @@ import zeldaswordskills.ref.ModInfo;
 
 /**
  * 
- * ItemBlock for any block that provides TileEntityDungeonBlock.
+ * ItemBlock for BlockDungeonStone and its subclasses.
  * 
  * Right-clicking any simple block while sneaking will alter the texture
  * of the itemblock to match, both while held and when placed. 
@@ -144,16 +142,13 @@ public class ItemDungeonBlock extends ItemBlockUnbreakable implements IDynamicIt
 				block = ((BlockSecretStone.EnumType) state.getValue(BlockSecretStone.VARIANT)).getDroppedBlock();
 				meta = state.getBlock().getMetaFromState(state);
 			} else if (block instanceof BlockDungeonStone) {
-				TileEntity te = world.getTileEntity(pos);
-				if (te instanceof TileEntityDungeonStone) {
-					IBlockState render = ((TileEntityDungeonStone) te).getRenderState();
-					if (render == null) {
-						render = ((BlockDungeonStone) block).getDefaultRenderState(stack.getItemDamage() > 7);
-					}
-					if (render != null) {
-						block = render.getBlock();
-						meta = block.getMetaFromState(render);
-					}
+				IBlockState render = ((BlockDungeonStone) block).getRenderState(world, pos);
+				if (render == null) {
+					render = ((BlockDungeonStone) block).getDefaultRenderState(stack.getItemDamage() > 7);
+				}
+				if (render != null) {
+					block = render.getBlock();
+					meta = block.getMetaFromState(render);
 				}
 			}
 			if ((block.isOpaqueCube() || block instanceof BlockIce) && Item.getItemFromBlock(block) != null) {
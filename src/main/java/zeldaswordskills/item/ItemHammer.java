@@ -31,11 +31,9 @@ import net.minecraft.entity.ai.attributes.AttributeModifier;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.item.EnumAction;
 import net.minecraft.item.ItemStack;
-import net.minecraft.util.BlockPos;
 import net.minecraft.util.DamageSource;
 import net.minecraft.util.EnumChatFormatting;
 import net.minecraft.util.EnumFacing;
-import net.minecraft.util.EnumParticleTypes;
 import net.minecraft.util.MathHelper;
 import net.minecraft.util.StatCollector;
 import net.minecraft.world.World;
@@ -56,13 +54,13 @@ import zeldaswordskills.api.item.WeaponRegistry;
 import zeldaswordskills.creativetab.ZSSCreativeTabs;
 import zeldaswordskills.entity.player.ZSSPlayerInfo;
 import zeldaswordskills.handler.ZSSCombatEvents;
-import zeldaswordskills.network.PacketDispatcher;
-import zeldaswordskills.network.client.PacketISpawnParticles;
+import zeldaswordskills.network.ParticleBroadcaster;
+import zeldaswordskills.network.client.GroundImpactPacket;
 import zeldaswordskills.ref.Sounds;
 import zeldaswordskills.util.WorldUtils;
 
 @Optional.Interface(iface="mods.battlegear2.api.weapons.IBattlegearWeapon", modid="battlegear2", striprefs=true)
-public class ItemHammer extends BaseModItem implements IArmorBreak, IParryModifier, ISmashBlock, ISpawnParticles, ISwingSpeed, IUnenchantable, IWeapon, IBattlegearWeapon
+public class ItemHammer extends BaseModItem implements IArmorBreak, IParryModifier, ISmashBlock, ISwingSpeed, IUnenchantable, IWeapon, IBattlegearWeapon
 {
 	/** Max resistance that a block may have and still be smashed */
 	private final BlockWeight strength;
@@ -173,7 +171,7 @@ public class ItemHammer extends BaseModItem implements IArmorBreak, IParryModifi
 			player.addExhaustion(charge * 2.0F);
 			if (charge > 0.25F) {
 				if (!player.worldObj.isRemote) {
-					PacketDispatcher.sendToAllAround(new PacketISpawnParticles(player, 4.0F), player, 64.0D);
+					ParticleBroadcaster.INSTANCE.send(new GroundImpactPacket(player.posX, player.posY, player.posZ, 4.0F, 0, world.rand.nextInt()), player, 64.0D);
 				}
 				player.swingItem();
 				ZSSCombatEvents.setPlayerAttackTime(player);
@@ -192,36 +190,6 @@ public class ItemHammer extends BaseModItem implements IArmorBreak, IParryModifi
 		}
 	}
 
-	@Override
-	@SideOnly(Side.CLIENT)
-	public void spawnParticles(World world, EntityPlayer player, ItemStack stack, double x, double y, double z, float radius) {
-		int r = MathHelper.ceiling_float_int(radius);
-		for (int i = 0; i < r; ++i) {
-			for (int k = 0; k < r; ++k) {
-				spawnParticlesAt(world, x + i, y, z + k);
-				spawnParticlesAt(world, x + i, y, z - k);
-				spawnParticlesAt(world, x - i, y, z + k);
-				spawnParticlesAt(world, x - i, y, z - k);
-			}
-		}
-	}
-
-	@SideOnly(Side.CLIENT)
-	private void spawnParticlesAt(World world, double x, double y, double z) {
-		int posY = MathHelper.floor_double(y);
-		IBlockState state = world.getBlockState(new BlockPos(MathHelper.floor_double(x), posY - 1, MathHelper.floor_double(z)));
-		Block block = state.getBlock();
-		if (block.getRenderType() != -1) {
-			int stateId = Block.getStateId(state);
-			for (int i = 0; i < 4; ++i) {
-				double dx = x + world.rand.nextFloat() - 0.5F;
-				double dy = posY + world.rand.nextFloat() * 0.2F;
-				double dz = z + world.rand.nextFloat() - 0.5F;
-				world.spawnParticle(EnumParticleTypes.BLOCK_CRACK, dx, dy, dz, world.rand.nextGaussian(), 0, world.rand.nextGaussian(), stateId);
-			}
-		}
-	}
-
 	@Override
 	public Multimap<String, AttributeModifier> getAttributeModifiers(ItemStack stack) {
 		Multimap<String, AttributeModifier> multimap = super.getAttributeModifiers(stack);
@@ -79,6 +79,7 @@ import zeldaswordskills.api.item.IUnenchantable;
 import zeldaswordskills.api.item.IZoom;
 import zeldaswordskills.block.tileentity.TileEntityDungeonCore;
 import zeldaswordskills.creativetab.ZSSCreativeTabs;
+import zeldaswordskills.entity.player.InventorySummary;
 import zeldaswordskills.entity.player.ZSSPlayerInfo;
 import zeldaswordskills.entity.projectile.EntityArrowBomb;
 import zeldaswordskills.entity.projectile.EntityArrowCustom;
@@ -262,19 +263,11 @@ IAllowItem, ISheathed, ISpecialBow
 	@Override
 	public ItemStack getRenderStackForMode(ItemStack stack, EntityPlayer player) {
 		Item item = getMode(stack).getArrowItem();
-		ItemStack ret = (item == null ? null : new ItemStack(item, 0));
-		if (ret != null) {
-			for (ItemStack inv : player.inventory.mainInventory) {
-				if (inv != null && inv.getItem() == ret.getItem()) {
-					ret.stackSize += inv.stackSize;
-					if (ret.stackSize > 98) {
-						ret.stackSize = 99;
-						break;
-					}
-				}
-			}
+		if (item == null) {
+			return null;
 		}
-		return ret;
+		int count = ZSSPlayerInfo.get(player).getInventorySummary().getCount(item);
+		return new ItemStack(item, Math.min(count, 99));
 	}
 
 	/**
@@ -460,12 +453,7 @@ IAllowItem, ISheathed, ISpecialBow
 		}
 		// Search specifically for the selected arrow type
 		if (modeArrow != null && canShootArrow(player, bow, new ItemStack(modeArrow))) {
-			for (ItemStack stack : player.inventory.mainInventory) {
-				if (stack != null && stack.getItem() == modeArrow) {
-					arrow = stack;
-					break;
-				}
-			}
+			arrow = ZSSPlayerInfo.get(player).getInventorySummary().getFirstStack(modeArrow);
 		}
 		// No mode selected or arrow could not be shot - search inventory for shootable arrow
 		if (arrow == null) {
@@ -500,12 +488,17 @@ IAllowItem, ISheathed, ISpecialBow
 	 */
 	private ItemStack getAutoBombArrow(ItemStack bow, EntityPlayer player) {
 		ItemStack arrow = null;
+		InventorySummary inventory = ZSSPlayerInfo.get(player).getInventorySummary();
+		// Nothing to search for if the player has no bombs or bomb arrows of any kind
+		boolean hasBombItem = (inventory.hasItem(ZSSItems.arrowBomb) || inventory.hasItem(ZSSItems.arrowBombFire) || inventory.hasItem(ZSSItems.arrowBombWater)
+				|| inventory.hasItem(ZSSItems.bomb) || inventory.hasItem(ZSSItems.bombBag));
+		int size = (hasBombItem ? player.inventory.getSizeInventory() : 0);
 		// Player must have a standard arrow to construct bomb arrow from bomb or bomb bag
-		boolean hasArrow = (player.capabilities.isCreativeMode || player.inventory.hasItem(Items.arrow));
+		boolean hasArrow = (player.capabilities.isCreativeMode || inventory.hasItem(Items.arrow));
 		// Flag whether the bomb arrow was already determined and items need not be consumed
 		boolean hasAutoArrow = ZSSPlayerInfo.get(player).hasAutoBombArrow;
 
-		for (int i = 0; i < player.inventory.getSizeInventory() && arrow == null; ++i) {
+		for (int i = 0; i < size && arrow == null; ++i) {
 			ItemStack stack = player.inventory.getStackInSlot(i);
 			if (stack != null) {
 				if (stack.getItem() == ZSSItems.arrowBomb || stack.getItem() == ZSSItems.arrowBombFire || stack.getItem() == ZSSItems.arrowBombWater) {
@@ -35,8 +35,6 @@ import net.minecraft.util.ChatComponentTranslation;
 import net.minecraft.util.DamageSource;
 import net.minecraft.util.EnumChatFormatting;
 import net.minecraft.util.MathHelper;
-import net.minecraft.util.MovingObjectPosition;
-import net.minecraft.util.MovingObjectPosition.MovingObjectType;
 import net.minecraft.util.StatCollector;
 import net.minecraft.util.Vec3;
 import net.minecraft.world.World;
@@ -56,7 +54,7 @@ import zeldaswordskills.entity.player.ZSSPlayerInfo;
 import zeldaswordskills.entity.projectile.EntityCyclone;
 import zeldaswordskills.entity.projectile.EntityMagicSpell;
 import zeldaswordskills.entity.projectile.EntityMobThrowable;
-import zeldaswordskills.network.PacketDispatcher;
+import zeldaswordskills.network.ParticleBroadcaster;
 import zeldaswordskills.network.client.PacketISpawnParticles;
 import zeldaswordskills.ref.Config;
 import zeldaswordskills.ref.Sounds;
@@ -221,12 +219,19 @@ public class ItemMagicRod extends BaseModItem implements IFairyUpgrade, ISacredF
 		if (isUpgraded(stack)) {
 			r *= 1.5F;
 		}
-		PacketDispatcher.sendToAllAround(new PacketISpawnParticles(player, r), player, 64.0D);
+		ParticleBroadcaster.INSTANCE.send(new PacketISpawnParticles(player, r), player, 64.0D, 1);
 		if (ticksInUse % 4 == 3) {
+			Vec3 look = player.getLookVec();
+			Vec3 start = new Vec3(player.posX, player.posY + player.getEyeHeight(), player.posZ);
+			Set<BlockPos> affectedBlocks = new HashSet<BlockPos>();
+			double length = WorldUtils.traceBlocksAlongRay(world, start, look, MathHelper.ceiling_float_int(r), affectedBlocks);
 			if (magicType != MagicType.FIRE || Config.getRodFireGriefing()) {
-				affectBlocks(world, player, r);
+				affectAllBlocks(world, affectedBlocks, magicType);
 			}
-			List<EntityLivingBase> targets = TargetUtils.acquireAllLookTargets(player, Math.round(r), 1.0F);
+			// beam continues slightly past the first solid block, as targets touching it should still be hit
+			length = Math.min(length + 1.0D, Math.round(r));
+			Vec3 end = start.addVector(look.xCoord * length, look.yCoord * length, look.zCoord * length);
+			List<EntityLivingBase> targets = TargetUtils.acquireAllTargetsAlong(player, start, end, 1.0D);
 			for (EntityLivingBase target : targets) {
 				target.attackEntityFrom(getDamageSource(player), r);
 				if (magicType == MagicType.FIRE && !target.isImmuneToFire()) {
@@ -239,39 +244,6 @@ public class ItemMagicRod extends BaseModItem implements IFairyUpgrade, ISacredF
 		}
 	}
 
-	/**
-	 * Affects blocks within the area of effect provided there is line of sight to the player
-	 */
-	private void affectBlocks(World world, EntityPlayer player, float radius) {
-		Set<BlockPos> affectedBlocks = new HashSet<BlockPos>();
-		Vec3 vec3 = player.getLookVec();
-		double x = player.posX + vec3.xCoord;
-		double y = player.posY + player.getEyeHeight() + vec3.yCoord;
-		double z = player.posZ + vec3.zCoord;
-		int r = MathHelper.ceiling_float_int(radius);
-		for (int n = 0; n < r; ++n) {
-			int i = MathHelper.floor_double(x);
-			int j = MathHelper.floor_double(y);
-			int k = MathHelper.floor_double(z);
-			if (canAddBlockPosition(world, player, i, j, k)) {
-				affectedBlocks.add(new BlockPos(i, j, k));
-			}
-			x += vec3.xCoord;
-			y += vec3.yCoord;
-			z += vec3.zCoord;
-		}
-
-		affectAllBlocks(world, affectedBlocks, magicType);
-	}
-
-	private boolean canAddBlockPosition(World world, EntityPlayer player, int i, int j, int k) {
-		Vec3 vec31 = new Vec3(player.posX, player.posY + player.getEyeHeight(), player.posZ);
-		Vec3 vec32 = new Vec3(i, j, k);
-		MovingObjectPosition mop = world.rayTraceBlocks(vec31, vec32);
-		return (mop == null || (mop.typeOfHit == MovingObjectType.BLOCK && (mop.getBlockPos().getX() == i && mop.getBlockPos().getY() == j && mop.getBlockPos().getZ() == k)
-				|| !world.getBlockState(mop.getBlockPos()).getBlock().getMaterial().blocksLight()));
-	}
-
 	/**
 	 * Affects all blocks in the set of chunk positions with the magic type's effect (freeze, thaw, etc.)
 	 */
@@ -26,7 +26,6 @@ import net.minecraft.entity.SharedMonsterAttributes;
 import net.minecraft.entity.ai.attributes.AttributeModifier;
 import net.minecraft.entity.passive.EntityVillager;
 import net.minecraft.entity.player.EntityPlayer;
-import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.potion.PotionEffect;
@@ -52,8 +51,6 @@ import zeldaswordskills.entity.player.quests.IQuest;
 import zeldaswordskills.entity.player.quests.QuestMaskSales;
 import zeldaswordskills.entity.player.quests.ZSSQuests;
 import zeldaswordskills.entity.projectile.EntityBomb;
-import zeldaswordskills.network.PacketDispatcher;
-import zeldaswordskills.network.client.SyncQuestPacket;
 import zeldaswordskills.ref.Sounds;
 import zeldaswordskills.util.PlayerUtils;
 import zeldaswordskills.util.TimedChatDialogue;
@@ -151,8 +148,8 @@ public class ItemMask extends ItemModArmor implements IUnenchantable, IZoomHelpe
 			EntityVillager villager = (EntityVillager) entity;
 			if (quest != null && ZSSVillagerInfo.get(villager).getMaskDesired() == this) {
 				// send extra parameter for left-click, then check if it needs to be sync'ed
-				if (quest.update(player, this, true) && quest.requiresSync() && player instanceof EntityPlayerMP) {
-					PacketDispatcher.sendTo(new SyncQuestPacket(quest), (EntityPlayerMP) player);
+				if (quest.update(player, this, true) && quest.requiresSync()) {
+					ZSSQuests.get(player).sync(quest);
 				}
 			} else {
 				PlayerUtils.sendTranslatedChat(player, "chat.zss.mask.refuse." + player.worldObj.rand.nextInt(4));
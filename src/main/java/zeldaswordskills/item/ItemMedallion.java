@@ -19,7 +19,6 @@ package zeldaswordskills.item;
 
 import java.util.List;
 
-import net.minecraft.block.Block;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.creativetab.CreativeTabs;
 import net.minecraft.entity.EntityLivingBase;
@@ -42,10 +41,11 @@ import net.minecraftforge.fml.relauncher.SideOnly;
 import zeldaswordskills.api.block.IQuakeBlock;
 import zeldaswordskills.api.damage.DamageUtils.DamageSourceQuakeIndirect;
 import zeldaswordskills.block.BlockAncientTablet;
+import zeldaswordskills.client.particle.GroundImpactEffect;
 import zeldaswordskills.creativetab.ZSSCreativeTabs;
 import zeldaswordskills.entity.EntityEtherLightning;
 import zeldaswordskills.entity.player.ZSSPlayerInfo;
-import zeldaswordskills.network.PacketDispatcher;
+import zeldaswordskills.network.ParticleBroadcaster;
 import zeldaswordskills.network.client.PacketISpawnParticles;
 import zeldaswordskills.ref.Config;
 import zeldaswordskills.ref.ModInfo;
@@ -125,7 +125,7 @@ public class ItemMedallion extends BaseModItem implements ISpawnParticles
 			break;
 		case QUAKE:
 			world.playSoundEffect(player.posX, player.posY, player.posZ, Sounds.ROCK_FALL, 1.0F, 1.0F);
-			PacketDispatcher.sendToAllAround(new PacketISpawnParticles(player, 8.0F), player, 64.0D);
+			ParticleBroadcaster.INSTANCE.send(new PacketISpawnParticles(player, 8.0F), player, 64.0D);
 			affectBlocks(world, player, type, 8.0F);
 			affectEntities(world, player, type, 8.0F);
 			break;
@@ -176,7 +176,7 @@ public class ItemMedallion extends BaseModItem implements ISpawnParticles
 	}
 
 	/**
-	 * Affects blocks on both sides (only used by Quake Medallion)
+	 * Affects blocks on the server (only used by Quake Medallion); see {@link #spawnParticles} for the client
 	 */
 	private void affectBlocks(World world, EntityPlayer player, BlockAncientTablet.EnumType type, float radius) {
 		if (type != BlockAncientTablet.EnumType.QUAKE) {
@@ -200,13 +200,9 @@ public class ItemMedallion extends BaseModItem implements ISpawnParticles
 	 * Affects a single block position (only used for Quake Medallion)
 	 */
 	private void affectBlockAt(World world, EntityPlayer player, BlockPos pos) {
-		if (world.isRemote) {
-			spawnParticlesAt(world, pos);
-		} else { // check for special block interactions on server
-			IBlockState state = world.getBlockState(pos);
-			if (state.getBlock() instanceof IQuakeBlock) {
-				((IQuakeBlock) state.getBlock()).handleQuakeEffect(world, pos, state, player);
-			}
+		IBlockState state = world.getBlockState(pos);
+		if (state.getBlock() instanceof IQuakeBlock) {
+			((IQuakeBlock) state.getBlock()).handleQuakeEffect(world, pos, state, player);
 		}
 	}
 
@@ -216,32 +212,12 @@ public class ItemMedallion extends BaseModItem implements ISpawnParticles
 		if (stack.getItemDamage() != BlockAncientTablet.EnumType.QUAKE.ordinal()) {
 			return;
 		}
-		// affect all blocks and entities client side for particle effects
-		affectBlocks(world, player, BlockAncientTablet.EnumType.QUAKE, r);
+		// spawn ground particles and affect all entities client side for particle effects
+		int ry = Math.max(1, (MathHelper.ceiling_float_int(r) / 2));
+		GroundImpactEffect.spawn(world, player.posX, player.posY, player.posZ, r, ry, world.rand.nextLong());
 		affectEntities(world, player, BlockAncientTablet.EnumType.QUAKE, r);
 	}
 
-	@SideOnly(Side.CLIENT)
-	private void spawnParticlesAt(World world, BlockPos pos) {
-		if (!world.isAirBlock(pos)) {
-			return;
-		}
-		IBlockState state = world.getBlockState(pos.down());
-		Block block = state.getBlock();
-		if (block.getRenderType() != -1) {
-			int stateId = Block.getStateId(state);
-			for (int n = 0; n < 4; ++n) {
-				double dx = pos.getX() + world.rand.nextFloat() - 0.5F;
-				double dy = pos.getY() + world.rand.nextFloat() * 0.2F;
-				double dz = pos.getZ() + world.rand.nextFloat() - 0.5F;
-				world.spawnParticle(EnumParticleTypes.BLOCK_CRACK, dx, dy, dz, world.rand.nextGaussian(), 0, world.rand.nextGaussian(), stateId);
-			}
-			if (world.rand.nextInt(8) == 0) {
-				world.playSoundEffect(pos.getX(), pos.getY(), pos.getZ(), Sounds.ROCK_FALL, 1.0F, 1.0F);
-			}
-		}
-	}
-
 	@Override
 	@SideOnly(Side.CLIENT)
 	public void getSubItems(Item item, CreativeTabs tab, List<ItemStack> list) {
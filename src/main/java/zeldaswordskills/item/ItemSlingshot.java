@@ -48,6 +48,7 @@ import zeldaswordskills.api.item.IUnenchantable;
 import zeldaswordskills.api.item.IZoom;
 import zeldaswordskills.block.tileentity.TileEntityDungeonCore;
 import zeldaswordskills.creativetab.ZSSCreativeTabs;
+import zeldaswordskills.entity.player.InventorySummary;
 import zeldaswordskills.entity.player.ZSSPlayerInfo;
 import zeldaswordskills.entity.player.ZSSPlayerSkills;
 import zeldaswordskills.entity.projectile.EntitySeedShot;
@@ -190,16 +191,8 @@ public class ItemSlingshot extends BaseModItem implements ICyclableItem, IFairyU
 	public ItemStack getRenderStackForMode(ItemStack stack, EntityPlayer player) {
 		ItemStack ret = getMode(player).getSeedStack();
 		if (ret != null) {
-			ret.stackSize = 0;
-			for (ItemStack inv : player.inventory.mainInventory) {
-				if (inv != null && inv.getItem() == ret.getItem() && inv.getItemDamage() == ret.getItemDamage()) {
-					ret.stackSize += inv.stackSize;
-					if (ret.stackSize > 98) {
-						ret.stackSize = 99;
-						break;
-					}
-				}
-			}
+			int count = ZSSPlayerInfo.get(player).getInventorySummary().getCount(ret.getItem(), ret.getItemDamage());
+			ret.stackSize = Math.min(count, 99);
 		}
 		return ret;
 	}
@@ -313,6 +306,12 @@ public class ItemSlingshot extends BaseModItem implements ICyclableItem, IFairyU
 			ItemSlingshot.initializeSeeds();
 		}
 		SeedType selected = getMode(player).type;
+		if (selected != null) {
+			InventorySummary inventory = ZSSPlayerInfo.get(player).getInventorySummary();
+			Item seed = typeToSeed.get(selected);
+			ItemStack stack = (selected == SeedType.COCOA ? inventory.getFirstStack(seed, 3) : inventory.getFirstStack(seed));
+			return (stack != null || player.capabilities.isCreativeMode ? selected : SeedType.NONE);
+		}
 		for (ItemStack stack : player.inventory.mainInventory) {
 			if (stack != null && seedToType.containsKey(stack.getItem())) {
 				SeedType type = seedToType.get(stack.getItem());
@@ -48,7 +48,7 @@ import zeldaswordskills.creativetab.ZSSCreativeTabs;
 import zeldaswordskills.entity.ZSSEntityInfo;
 import zeldaswordskills.entity.buff.Buff;
 import zeldaswordskills.entity.player.ZSSPlayerInfo;
-import zeldaswordskills.network.PacketDispatcher;
+import zeldaswordskills.network.ParticleBroadcaster;
 import zeldaswordskills.network.client.PacketISpawnParticles;
 import zeldaswordskills.ref.Config;
 import zeldaswordskills.ref.Sounds;
@@ -200,7 +200,7 @@ public class ItemSpiritCrystal extends BaseModItem implements ISacredFlame, ISpa
 		}
 		float radius = 5.0F;
 		if (!world.isRemote) {
-			PacketDispatcher.sendToAllAround(new PacketISpawnParticles(player, radius), player, 64.0D);
+			ParticleBroadcaster.INSTANCE.send(new PacketISpawnParticles(player, radius), player, 64.0D);
 			affectDinBlocks(world, player, radius);
 		}
 		affectDinEntities(world, player, radius);
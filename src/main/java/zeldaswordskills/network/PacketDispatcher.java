@@ -38,6 +38,7 @@ import zeldaswordskills.network.bidirectional.LearnSongPacket;
 import zeldaswordskills.network.bidirectional.PlayRecordPacket;
 import zeldaswordskills.network.bidirectional.PlaySoundPacket;
 import zeldaswordskills.network.client.AttackBlockedPacket;
+import zeldaswordskills.network.client.GroundImpactPacket;
 import zeldaswordskills.network.client.InLiquidPacket;
 import zeldaswordskills.network.client.MortalDrawPacket;
 import zeldaswordskills.network.client.OpenGossipStoneEditorPacket;
@@ -48,6 +49,7 @@ import zeldaswordskills.network.client.SetNockedArrowPacket;
 import zeldaswordskills.network.client.SpawnNayruParticlesPacket;
 import zeldaswordskills.network.client.SyncConfigPacket;
 import zeldaswordskills.network.client.SyncCurrentMagicPacket;
+import zeldaswordskills.network.client.SyncDungeonStonePacket;
 import zeldaswordskills.network.client.SyncEntityInfoPacket;
 import zeldaswordskills.network.client.SyncPlayerInfoPacket;
 import zeldaswordskills.network.client.SyncQuestPacket;
@@ -67,11 +69,14 @@ import zeldaswordskills.network.server.GetBombPacket;
 import zeldaswordskills.network.server.HeldBlockColorPacket;
 import zeldaswordskills.network.server.OpenGuiPacket;
 import zeldaswordskills.network.server.RefreshSpinPacket;
+import zeldaswordskills.network.server.RequestComboSyncPacket;
 import zeldaswordskills.network.server.RequestCurrentMagicPacket;
 import zeldaswordskills.network.server.SetGossipStoneMessagePacket;
 import zeldaswordskills.network.server.TargetIdPacket;
 import zeldaswordskills.network.server.ZeldaSongPacket;
 import zeldaswordskills.ref.ModInfo;
+import zeldaswordskills.util.TickProfiler;
+import zeldaswordskills.util.TickProfiler.Section;
 
 /**
  * 
@@ -98,6 +103,7 @@ public class PacketDispatcher
 
 		// Packets handled on CLIENT
 		registerMessage(AttackBlockedPacket.class);
+		registerMessage(GroundImpactPacket.class);
 		registerMessage(InLiquidPacket.class);
 		registerMessage(MortalDrawPacket.class);
 		registerMessage(OpenGossipStoneEditorPacket.class);
@@ -108,6 +114,7 @@ public class PacketDispatcher
 		registerMessage(SpawnNayruParticlesPacket.class);
 		registerMessage(SyncConfigPacket.class);
 		registerMessage(SyncCurrentMagicPacket.class);
+		registerMessage(SyncDungeonStonePacket.class);
 		registerMessage(SyncEntityInfoPacket.class);
 		registerMessage(SyncPlayerInfoPacket.class);
 		registerMessage(SyncQuestPacket.class);
@@ -129,6 +136,7 @@ public class PacketDispatcher
 		registerMessage(HeldBlockColorPacket.class);
 		registerMessage(OpenGuiPacket.class);
 		registerMessage(RefreshSpinPacket.class);
+		registerMessage(RequestComboSyncPacket.class);
 		registerMessage(RequestCurrentMagicPacket.class);
 		registerMessage(SetGossipStoneMessagePacket.class);
 		registerMessage(TargetIdPacket.class);
@@ -154,7 +162,9 @@ public class PacketDispatcher
 	 * See {@link SimpleNetworkWrapper#sendTo(IMessage, EntityPlayerMP)}
 	 */
 	public static final void sendTo(IMessage message, EntityPlayerMP player) {
+		long start = TickProfiler.start();
 		PacketDispatcher.dispatcher.sendTo(message, player);
+		TickProfiler.end(Section.PACKETS, start, player);
 	}
 
 	/**
@@ -163,7 +173,7 @@ public class PacketDispatcher
 	public static void sendToPlayers(IMessage message, Collection<? extends EntityPlayer> players) {
 		for (EntityPlayer player : players) {
 			if (player instanceof EntityPlayerMP) {
-				PacketDispatcher.dispatcher.sendTo(message, (EntityPlayerMP) player);
+				PacketDispatcher.sendTo(message, (EntityPlayerMP) player);
 			}
 		}
 	}
@@ -173,7 +183,9 @@ public class PacketDispatcher
 	 * See {@link SimpleNetworkWrapper#sendToAll(IMessage)}
 	 */
 	public static void sendToAll(IMessage message) {
+		long start = TickProfiler.start();
 		PacketDispatcher.dispatcher.sendToAll(message);
+		TickProfiler.end(Section.PACKETS, start);
 	}
 
 	/**
@@ -181,7 +193,9 @@ public class PacketDispatcher
 	 * See {@link SimpleNetworkWrapper#sendToAllAround(IMessage, NetworkRegistry.TargetPoint)}
 	 */
 	public static final void sendToAllAround(IMessage message, NetworkRegistry.TargetPoint point) {
+		long start = TickProfiler.start();
 		PacketDispatcher.dispatcher.sendToAllAround(message, point);
+		TickProfiler.end(Section.PACKETS, start, point.dimension, point.x, point.y, point.z);
 	}
 
 	/**
@@ -205,7 +219,9 @@ public class PacketDispatcher
 	 * See {@link SimpleNetworkWrapper#sendToDimension(IMessage, int)}
 	 */
 	public static final void sendToDimension(IMessage message, int dimensionId) {
+		long start = TickProfiler.start();
 		PacketDispatcher.dispatcher.sendToDimension(message, dimensionId);
+		TickProfiler.end(Section.PACKETS, start);
 	}
 
 	/**
@@ -221,7 +237,9 @@ public class PacketDispatcher
 	 */
 	public static void sendTo(Packet<?> packet, EntityPlayer player) {
 		if (player instanceof EntityPlayerMP) {
+			long start = TickProfiler.start();
 			((EntityPlayerMP) player).playerNetServerHandler.sendPacket(packet);
+			TickProfiler.end(Section.PACKETS, start, player);
 		}
 	}
 
@@ -230,9 +248,7 @@ public class PacketDispatcher
 	 */
 	public static void sendToPlayers(Packet<?> packet, Collection<? extends EntityPlayer> players) {
 		for (EntityPlayer player : players) {
-			if (player instanceof EntityPlayerMP) {
-				((EntityPlayerMP) player).playerNetServerHandler.sendPacket(packet);
-			}
+			PacketDispatcher.sendTo(packet, player);
 		}
 	}
 
@@ -241,8 +257,8 @@ public class PacketDispatcher
 	 */
 	public static void sendToPlayersExcept(Packet<?> packet, EntityPlayer player, Collection<? extends EntityPlayer> players) {
 		for (EntityPlayer p : players) {
-			if (p != player && p instanceof EntityPlayerMP) {
-				((EntityPlayerMP) p).playerNetServerHandler.sendPacket(packet);
+			if (p != player) {
+				PacketDispatcher.sendTo(packet, p);
 			}
 		}
 	}
@@ -252,11 +268,13 @@ public class PacketDispatcher
 	 */
 	public static void sendToAll(Packet<?> packet, World world) {
 		if (world instanceof WorldServer) {
+			long start = TickProfiler.start();
 			for (Object o : ((WorldServer) world).playerEntities) {
 				if (o instanceof EntityPlayerMP) {
 					((EntityPlayerMP) o).playerNetServerHandler.sendPacket(packet);
 				}
 			}
+			TickProfiler.end(Section.PACKETS, start);
 		}
 	}
 
@@ -266,6 +284,7 @@ public class PacketDispatcher
 	public static void sendToAllAround(Packet<?> packet, Entity entity, int range) {
 		int rangeSq = (range * range);
 		if (entity.worldObj instanceof WorldServer) {
+			long start = TickProfiler.start();
 			for (Object o : ((WorldServer) entity.worldObj).playerEntities) {
 				if (o instanceof EntityPlayerMP) {
 					EntityPlayerMP player = (EntityPlayerMP) o;
@@ -274,6 +293,7 @@ public class PacketDispatcher
 					}
 				}
 			}
+			TickProfiler.end(Section.PACKETS, start, entity);
 		}
 	}
 }
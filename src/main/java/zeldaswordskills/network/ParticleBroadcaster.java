@@ -0,0 +1,200 @@
+/**
+    Copyright (C) <2015> <coolAlias>
+
+    This file is part of coolAlias' Zelda Sword Skills Minecraft Mod; as such,
+    you can redistribute it and/or modify it under the terms of the GNU
+    General Public License as published by the Free Software Foundation,
+    either version 3 of the License, or (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package zeldaswordskills.network;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.world.WorldServer;
+import net.minecraftforge.common.DimensionManager;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent;
+import net.minecraftforge.fml.common.network.simpleimpl.IMessage;
+
+/**
+ *
+ * Server-side service for particle packets that are sent to every player near their source.
+ *
+ * Messages are queued rather than sent immediately; all messages of the same type queued
+ * by the same source during a tick are merged by keeping only the latest, and the result
+ * is sent to each nearby player once at the end of the tick.
+ *
+ * Effects that repeat every few ticks, e.g. while an item is in use, should give a minimum
+ * interval: players farther away from the source are then sent updates less frequently,
+ * as per {@link #getInterval}, since they can hardly make out individual particles anyway.
+ *
+ */
+public class ParticleBroadcaster
+{
+	public static final ParticleBroadcaster INSTANCE = new ParticleBroadcaster();
+
+	/** Number of ticks after which a source that has not queued anything is forgotten */
+	private static final int HISTORY_EXPIRY = 100;
+
+	/** Messages queued during the current tick */
+	private final Map<Key, Pending> pending = new LinkedHashMap<Key, Pending>();
+
+	/** Tick at which each recent source last sent its message to each viewer, by viewer entity id */
+	private final Map<Key, History> history = new HashMap<Key, History>();
+
+	private long tick;
+
+	private ParticleBroadcaster() {}
+
+	/**
+	 * Queues a one-off effect, e.g. an explosion, to be sent to every player within range of the source
+	 */
+	public void send(IMessage message, Entity source, double range) {
+		send(message, source, range, 0);
+	}
+
+	/**
+	 * Queues a repeating effect to be sent to every player within range of the source
+	 * @param interval	Minimum number of ticks between messages of this type from the source to the
+	 * 					same nearby player; 0 sends every message to every player in range
+	 */
+	public void send(IMessage message, Entity source, double range, int interval) {
+		if (!(source.worldObj instanceof WorldServer)) {
+			return;
+		}
+		Key key = new Key(source.worldObj.provider.getDimensionId(), source.getEntityId(), message.getClass());
+		pending.put(key, new Pending(message, source.posX, source.posY, source.posZ, range, interval));
+	}
+
+	/**
+	 * Returns the minimum number of ticks between messages for a viewer at the given distance,
+	 * doubled for players beyond a quarter of the range and doubled again beyond half of it
+	 */
+	private static int getInterval(int interval, double distanceSq, double range) {
+		if (interval < 1 || distanceSq <= range * range * 0.0625D) {
+			return interval;
+		}
+		return (distanceSq <= range * range * 0.25D ? interval * 2 : interval * 4);
+	}
+
+	@SubscribeEvent
+	public void onServerTick(TickEvent.ServerTickEvent event) {
+		if (event.phase != TickEvent.Phase.END) {
+			return;
+		}
+		++tick;
+		for (Map.Entry<Key, Pending> entry : pending.entrySet()) {
+			flush(entry.getKey(), entry.getValue());
+		}
+		pending.clear();
+		if (tick % HISTORY_EXPIRY == 0) {
+			Iterator<History> iterator = history.values().iterator();
+			while (iterator.hasNext()) {
+				if (tick - iterator.next().lastUsed > HISTORY_EXPIRY) {
+					iterator.remove();
+				}
+			}
+		}
+	}
+
+	private void flush(Key key, Pending message) {
+		WorldServer world = DimensionManager.getWorld(key.dimension);
+		if (world == null) {
+			return;
+		}
+		History sent = null;
+		if (message.interval > 0) {
+			sent = history.get(key);
+			if (sent == null) {
+				sent = new History();
+				history.put(key, sent);
+			}
+			sent.lastUsed = tick;
+		}
+		double rangeSq = message.range * message.range;
+		for (Object o : world.playerEntities) {
+			if (!(o instanceof EntityPlayerMP)) {
+				continue;
+			}
+			EntityPlayerMP player = (EntityPlayerMP) o;
+			double distanceSq = player.getDistanceSq(message.x, message.y, message.z);
+			if (distanceSq > rangeSq) {
+				continue;
+			} else if (sent != null) {
+				Long last = sent.viewers.get(player.getEntityId());
+				if (last != null && tick - last < getInterval(message.interval, distanceSq, message.range)) {
+					continue;
+				}
+				sent.viewers.put(player.getEntityId(), tick);
+			}
+			PacketDispatcher.sendTo(message.message, player);
+		}
+	}
+
+	/** Identifies messages of one type from one source */
+	private static final class Key
+	{
+		private final int dimension;
+		private final int entityId;
+		private final Class<?> type;
+
+		private Key(int dimension, int entityId, Class<?> type) {
+			this.dimension = dimension;
+			this.entityId = entityId;
+			this.type = type;
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * (31 * dimension + entityId) + type.hashCode();
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			} else if (!(o instanceof Key)) {
+				return false;
+			}
+			Key other = (Key) o;
+			return dimension == other.dimension && entityId == other.entityId && type == other.type;
+		}
+	}
+
+	private static final class Pending
+	{
+		private final IMessage message;
+		private final double x, y, z;
+		private final double range;
+		private final int interval;
+
+		private Pending(IMessage message, double x, double y, double z, double range, int interval) {
+			this.message = message;
+			this.x = x;
+			this.y = y;
+			this.z = z;
+			this.range = range;
+			this.interval = interval;
+		}
+	}
+
+	private static final class History
+	{
+		private final Map<Integer, Long> viewers = new HashMap<Integer, Long>();
+		private long lastUsed;
+	}
+}
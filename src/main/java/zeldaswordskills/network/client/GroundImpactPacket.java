@@ -0,0 +1,82 @@
+/**
+    Copyright (C) <2015> <coolAlias>
+
+    This file is part of coolAlias' Zelda Sword Skills Minecraft Mod; as such,
+    you can redistribute it and/or modify it under the terms of the GNU
+    General Public License as published by the Free Software Foundation,
+    either version 3 of the License, or (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package zeldaswordskills.network.client;
+
+import java.io.IOException;
+
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.network.PacketBuffer;
+import net.minecraftforge.fml.relauncher.Side;
+import zeldaswordskills.client.particle.GroundImpactEffect;
+import zeldaswordskills.network.AbstractMessage.AbstractClientMessage;
+
+/**
+ * 
+ * Spawns a {@link GroundImpactEffect} on client worlds
+ *
+ */
+public class GroundImpactPacket extends AbstractClientMessage<GroundImpactPacket>
+{
+	/** Center of the impact */
+	private double x, y, z;
+
+	/** Horizontal radius of the affected area */
+	private float radius;
+
+	/** Number of blocks above and below the center to search for the surface */
+	private byte height;
+
+	/** Seed used to select the positions at which to spawn particles */
+	private int seed;
+
+	public GroundImpactPacket() {}
+
+	public GroundImpactPacket(double x, double y, double z, float radius, int height, int seed) {
+		this.x = x;
+		this.y = y;
+		this.z = z;
+		this.radius = radius;
+		this.height = (byte) height;
+		this.seed = seed;
+	}
+
+	@Override
+	protected void read(PacketBuffer buffer) throws IOException {
+		x = buffer.readDouble();
+		y = buffer.readDouble();
+		z = buffer.readDouble();
+		radius = buffer.readFloat();
+		height = buffer.readByte();
+		seed = buffer.readInt();
+	}
+
+	@Override
+	protected void write(PacketBuffer buffer) throws IOException {
+		buffer.writeDouble(x);
+		buffer.writeDouble(y);
+		buffer.writeDouble(z);
+		buffer.writeFloat(radius);
+		buffer.writeByte(height);
+		buffer.writeInt(seed);
+	}
+
+	@Override
+	protected void process(EntityPlayer player, Side side) {
+		GroundImpactEffect.spawn(player.worldObj, x, y, z, radius, height, seed);
+	}
+}
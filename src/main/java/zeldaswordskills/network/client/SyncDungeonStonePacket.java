@@ -0,0 +1,66 @@
+/**
+    Copyright (C) <2015> <coolAlias>
+
+    This file is part of coolAlias' Zelda Sword Skills Minecraft Mod; as such,
+    you can redistribute it and/or modify it under the terms of the GNU
+    General Public License as published by the Free Software Foundation,
+    either version 3 of the License, or (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package zeldaswordskills.network.client;
+
+import java.io.IOException;
+
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.network.PacketBuffer;
+import net.minecraftforge.fml.relauncher.Side;
+import zeldaswordskills.network.AbstractMessage.AbstractClientMessage;
+import zeldaswordskills.world.DungeonStoneRenderStates;
+import zeldaswordskills.world.DungeonStoneRenderStates.ChunkStates;
+
+/**
+ * 
+ * Sends all of the dungeon stone render states for a chunk, replacing any the client had before.
+ *
+ */
+public class SyncDungeonStonePacket extends AbstractClientMessage<SyncDungeonStonePacket>
+{
+	private int chunkX, chunkZ;
+
+	private ChunkStates states;
+
+	public SyncDungeonStonePacket() {}
+
+	public SyncDungeonStonePacket(int chunkX, int chunkZ, ChunkStates states) {
+		this.chunkX = chunkX;
+		this.chunkZ = chunkZ;
+		this.states = states;
+	}
+
+	@Override
+	protected void read(PacketBuffer buffer) throws IOException {
+		chunkX = buffer.readInt();
+		chunkZ = buffer.readInt();
+		states = ChunkStates.readFromBuffer(buffer);
+	}
+
+	@Override
+	protected void write(PacketBuffer buffer) throws IOException {
+		buffer.writeInt(chunkX);
+		buffer.writeInt(chunkZ);
+		states.writeToBuffer(buffer);
+	}
+
+	@Override
+	protected void process(EntityPlayer player, Side side) {
+		DungeonStoneRenderStates.INSTANCE.onStatesReceived(player.worldObj, chunkX, chunkZ, states);
+	}
+}
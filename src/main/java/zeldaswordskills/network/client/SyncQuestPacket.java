@@ -17,42 +17,52 @@
 
 package zeldaswordskills.network.client;
 
+import io.netty.buffer.Unpooled;
+
 import java.io.IOException;
 
 import net.minecraft.entity.player.EntityPlayer;
-import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.network.PacketBuffer;
 import net.minecraftforge.fml.relauncher.Side;
+import zeldaswordskills.ZSSMain;
 import zeldaswordskills.entity.player.quests.IQuest;
 import zeldaswordskills.entity.player.quests.QuestBase;
 import zeldaswordskills.entity.player.quests.ZSSQuests;
 import zeldaswordskills.network.AbstractMessage.AbstractClientMessage;
 
+/**
+ * 
+ * Sends a single quest to the client, as encoded by {@link QuestBase#writeQuest};
+ * see {@link ZSSQuests#sync}.
+ *
+ */
 public class SyncQuestPacket extends AbstractClientMessage<SyncQuestPacket>
 {
-	private NBTTagCompound compound;
+	private byte[] data;
 
 	public SyncQuestPacket() {}
 
-	public SyncQuestPacket(IQuest quest) {
-		compound = QuestBase.saveToNBT(quest);
+	public SyncQuestPacket(byte[] data) {
+		this.data = data;
 	}
 
 	@Override
 	protected void read(PacketBuffer buffer) throws IOException {
-		compound = buffer.readNBTTagCompoundFromBuffer();
+		data = buffer.readByteArray();
 	}
 
 	@Override
 	protected void write(PacketBuffer buffer) throws IOException {
-		buffer.writeNBTTagCompoundToBuffer(compound);
+		buffer.writeByteArray(data);
 	}
 
 	@Override
 	protected void process(EntityPlayer player, Side side) {
-		IQuest quest = QuestBase.loadFromNBT(compound);
-		if (quest != null) {
+		try {
+			IQuest quest = QuestBase.readQuest(new PacketBuffer(Unpooled.wrappedBuffer(data)));
 			ZSSQuests.get(player).update(quest);
+		} catch (IOException e) {
+			ZSSMain.logger.warn("Failed to read synced quest: " + e.getMessage());
 		}
 	}
 }
@@ -17,38 +17,72 @@
 
 package zeldaswordskills.network.client;
 
+import io.netty.buffer.Unpooled;
+
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
 import net.minecraft.entity.player.EntityPlayer;
-import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.item.Item;
 import net.minecraft.network.PacketBuffer;
 import net.minecraftforge.fml.relauncher.Side;
+import zeldaswordskills.ZSSMain;
+import zeldaswordskills.entity.player.quests.IQuest;
+import zeldaswordskills.entity.player.quests.QuestBase;
 import zeldaswordskills.entity.player.quests.ZSSQuests;
 import zeldaswordskills.network.AbstractMessage.AbstractClientMessage;
 
+/**
+ * 
+ * Sends the borrowed mask and all quests requiring sync to the client; see {@link ZSSQuests#syncAll}.
+ *
+ */
 public class SyncQuestsPacket extends AbstractClientMessage<SyncQuestsPacket>
 {
-	private NBTTagCompound compound;
+	/** Item id of the borrowed mask plus one, or 0 if none */
+	private int maskId;
+
+	/** Each quest as encoded by {@link QuestBase#writeQuest} */
+	private List<byte[]> quests;
 
 	public SyncQuestsPacket() {}
 
-	public SyncQuestsPacket(ZSSQuests quests) {
-		compound = new NBTTagCompound();
-		quests.writeToNBT(compound, true);
+	public SyncQuestsPacket(Item borrowedMask, List<byte[]> quests) {
+		this.maskId = (borrowedMask == null ? 0 : Item.getIdFromItem(borrowedMask) + 1);
+		this.quests = quests;
 	}
 
 	@Override
 	protected void read(PacketBuffer buffer) throws IOException {
-		compound = buffer.readNBTTagCompoundFromBuffer();
+		maskId = buffer.readVarIntFromBuffer();
+		int n = buffer.readVarIntFromBuffer();
+		quests = new ArrayList<byte[]>(n);
+		for (int i = 0; i < n; ++i) {
+			quests.add(buffer.readByteArray());
+		}
 	}
 
 	@Override
 	protected void write(PacketBuffer buffer) throws IOException {
-		buffer.writeNBTTagCompoundToBuffer(compound);
+		buffer.writeVarIntToBuffer(maskId);
+		buffer.writeVarIntToBuffer(quests.size());
+		for (byte[] data : quests) {
+			buffer.writeByteArray(data);
+		}
 	}
 
 	@Override
 	protected void process(EntityPlayer player, Side side) {
-		ZSSQuests.get(player).loadNBTData(compound);
+		ZSSQuests info = ZSSQuests.get(player);
+		info.setBorrowedMask(maskId == 0 ? null : Item.getItemById(maskId - 1));
+		for (byte[] data : quests) {
+			try {
+				IQuest quest = QuestBase.readQuest(new PacketBuffer(Unpooled.wrappedBuffer(data)));
+				info.update(quest);
+			} catch (IOException e) {
+				ZSSMain.logger.warn("Failed to read synced quest: " + e.getMessage());
+			}
+		}
 	}
 }
@@ -20,7 +20,6 @@ package zeldaswordskills.network.client;
 import java.io.IOException;
 
 import net.minecraft.entity.player.EntityPlayer;
-import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.network.PacketBuffer;
 import net.minecraftforge.fml.relauncher.Side;
 import zeldaswordskills.entity.player.ZSSPlayerSkills;
@@ -30,6 +29,8 @@ import zeldaswordskills.skills.SkillBase;
 /**
  * 
  * Synchronizes the client-side version of a skill with the server-side data.
+ * 
+ * A skill's only mutable data is its level, so that is all that is sent.
  *
  */
 public class SyncSkillPacket extends AbstractClientMessage<SyncSkillPacket>
@@ -37,8 +38,8 @@ public class SyncSkillPacket extends AbstractClientMessage<SyncSkillPacket>
 	/** The ID of the skill to update */
 	private byte id;
 
-	/** Stores the skill's data */
-	private NBTTagCompound compound;
+	/** The skill's current level */
+	private byte level;
 
 	public SyncSkillPacket() {}
 
@@ -48,24 +49,23 @@ public class SyncSkillPacket extends AbstractClientMessage<SyncSkillPacket>
 	 */
 	public SyncSkillPacket(SkillBase skill) {
 		id = skill.getId();
-		compound = new NBTTagCompound();
-		skill.writeToNBT(compound);
+		level = skill.getLevel();
 	}
 
 	@Override
 	protected void read(PacketBuffer buffer) throws IOException {
 		id = buffer.readByte();
-		compound = buffer.readNBTTagCompoundFromBuffer();
+		level = buffer.readByte();
 	}
 
 	@Override
 	protected void write(PacketBuffer buffer) throws IOException {
 		buffer.writeByte(id);
-		buffer.writeNBTTagCompoundToBuffer(compound);
+		buffer.writeByte(level);
 	}
 
 	@Override
 	protected void process(EntityPlayer player, Side side) {
-		ZSSPlayerSkills.get(player).syncClientSideSkill(id, compound);
+		ZSSPlayerSkills.get(player).syncClientSideSkill(id, level);
 	}
 }
@@ -18,29 +18,33 @@
 package zeldaswordskills.network.client;
 
 import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
 
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityLivingBase;
 import net.minecraft.entity.player.EntityPlayer;
-import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.network.PacketBuffer;
 import net.minecraftforge.fml.relauncher.Side;
 import zeldaswordskills.entity.ZSSEntityInfo;
+import zeldaswordskills.entity.buff.Buff;
 import zeldaswordskills.entity.buff.BuffBase;
 import zeldaswordskills.network.AbstractMessage.AbstractClientMessage;
 
 /**
  * 
- * Updates a buff on the client side, either adding or removing it from the activeBuffs map
+ * Updates any number of buffs for a single entity on the client side, either setting
+ * or removing each one in the activeBuffs map; buffs sent are always the server's current
+ * state, so they replace rather than combine with any the client already has
  *
  */
 public class UpdateBuffPacket extends AbstractClientMessage<UpdateBuffPacket>
 {
-	/** The buff to be applied or removed */
-	private BuffBase buff;
+	/** Flag set on the buff id of each buff to be removed */
+	private static final int REMOVE_FLAG = 0x80;
 
-	/** Whether to apply or remove the specified buff */
-	private boolean remove;
+	/** The buffs to be applied, or mapped to null to be removed */
+	private Map<Buff, BuffBase> changes;
 
 	/** ID of entity to update, or -1 for the player */
 	private int entityId;
@@ -50,31 +54,51 @@ public class UpdateBuffPacket extends AbstractClientMessage<UpdateBuffPacket>
 	/**
 	 * Constructs update packet for a player entity
 	 */
-	public UpdateBuffPacket(BuffBase buff, boolean remove) {
-		this(buff, null, remove);
+	public UpdateBuffPacket(Map<Buff, BuffBase> changes) {
+		this(null, changes);
 	}
 
 	/**
 	 * Constructs update packet for any EntityLivingBase
+	 * @param changes	Each buff to be applied, or mapped to null if it is to be removed
 	 */
-	public UpdateBuffPacket(BuffBase buff, EntityLivingBase entity, boolean remove) {
-		this.buff = buff;
-		this.remove = remove;
+	public UpdateBuffPacket(EntityLivingBase entity, Map<Buff, BuffBase> changes) {
+		this.changes = changes;
 		this.entityId = (entity == null ? -1 : entity.getEntityId());
 	}
 
 	@Override
 	protected void read(PacketBuffer buffer) throws IOException {
-		this.buff = BuffBase.readFromNBT(buffer.readNBTTagCompoundFromBuffer());
-		this.remove = buffer.readBoolean();
-		this.entityId = buffer.readInt();
+		this.entityId = buffer.readVarIntFromBuffer() - 1;
+		this.changes = new EnumMap<Buff, BuffBase>(Buff.class);
+		int n = buffer.readUnsignedByte();
+		for (int i = 0; i < n; ++i) {
+			int id = buffer.readUnsignedByte();
+			Buff buff = Buff.values()[id & ~REMOVE_FLAG];
+			if ((id & REMOVE_FLAG) != 0) {
+				changes.put(buff, null);
+			} else {
+				int amplifier = buffer.readByte();
+				int duration = buffer.readVarIntFromBuffer();
+				changes.put(buff, new BuffBase(buff, duration, amplifier));
+			}
+		}
 	}
 
 	@Override
 	protected void write(PacketBuffer buffer) throws IOException {
-		buffer.writeNBTTagCompoundToBuffer(buff.writeToNBT(new NBTTagCompound()));
-		buffer.writeBoolean(remove);
-		buffer.writeInt(entityId);
+		buffer.writeVarIntToBuffer(entityId + 1);
+		buffer.writeByte(changes.size());
+		for (Map.Entry<Buff, BuffBase> entry : changes.entrySet()) {
+			BuffBase buff = entry.getValue();
+			if (buff == null) {
+				buffer.writeByte(entry.getKey().ordinal() | REMOVE_FLAG);
+			} else {
+				buffer.writeByte(entry.getKey().ordinal());
+				buffer.writeByte(buff.getAmplifier());
+				buffer.writeVarIntToBuffer(buff.getDuration());
+			}
+		}
 	}
 
 	@Override
@@ -83,10 +107,13 @@ public class UpdateBuffPacket extends AbstractClientMessage<UpdateBuffPacket>
 		if (!(entity instanceof EntityLivingBase)) {
 			return;
 		}
-		if (remove) {
-			ZSSEntityInfo.get((EntityLivingBase) entity).removeBuff(buff.getBuff());
-		} else {
-			ZSSEntityInfo.get((EntityLivingBase) entity).applyBuff(buff);
+		ZSSEntityInfo info = ZSSEntityInfo.get((EntityLivingBase) entity);
+		for (Map.Entry<Buff, BuffBase> entry : changes.entrySet()) {
+			if (entry.getValue() == null) {
+				info.removeBuff(entry.getKey());
+			} else {
+				info.setBuff(entry.getValue());
+			}
 		}
 	}
 }
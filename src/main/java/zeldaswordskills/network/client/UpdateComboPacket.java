@@ -20,52 +20,151 @@ package zeldaswordskills.network.client;
 import java.io.IOException;
 
 import net.minecraft.entity.player.EntityPlayer;
-import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.network.PacketBuffer;
 import net.minecraftforge.fml.relauncher.Side;
 import zeldaswordskills.ZSSMain;
 import zeldaswordskills.entity.player.ZSSPlayerSkills;
 import zeldaswordskills.network.AbstractMessage.AbstractClientMessage;
+import zeldaswordskills.network.PacketDispatcher;
+import zeldaswordskills.network.server.RequestComboSyncPacket;
 import zeldaswordskills.skills.Combo;
 import zeldaswordskills.skills.ICombo;
 
 /**
  * 
  * Packet responsible for keeping attack Combos synchronized between server and client.
+ * 
+ * The entire combo is only sent when it starts or ends, or when the client requests it;
+ * otherwise only the changes made by the latest hit are sent. If the client's combo does
+ * not match the one the changes were made to, a {@link RequestComboSyncPacket} is sent.
  *
  */
 public class UpdateComboPacket extends AbstractClientMessage<UpdateComboPacket>
 {
-	/** Stores data of combo to be updated */
-	private NBTTagCompound compound;
+	/** Packet contains the entire combo */
+	private static final byte FULL = 0;
+
+	/** Packet contains a new hit added to the combo */
+	private static final byte HIT = 1;
+
+	/** Packet contains the combo's new damage total */
+	private static final byte DAMAGE = 2;
+
+	private byte mode;
+
+	/** Copy of the combo to be sent, or the combo received, for FULL updates */
+	private Combo combo;
+
+	private byte skillId;
+
+	/** Number of hits in the server's combo, used to verify the client combo is up to date */
+	private int numHits;
+
+	private float damage;
+
+	private float totalDamage;
+
+	private int entityId;
+
+	private int consecutiveHits;
 
 	public UpdateComboPacket() {}
 
+	/**
+	 * Sends the entire combo
+	 */
 	public UpdateComboPacket(Combo combo) {
-		compound = combo.writeToNBT();
+		this.mode = FULL;
+		this.combo = combo.copy();
+	}
+
+	private UpdateComboPacket(byte mode, Combo combo) {
+		this.mode = mode;
+		this.skillId = combo.getSkill();
+		this.numHits = combo.getNumHits();
+		this.totalDamage = combo.getDamage();
+	}
+
+	/**
+	 * Sends only the most recent hit added to the combo
+	 */
+	public static UpdateComboPacket forLastHit(Combo combo) {
+		UpdateComboPacket packet = new UpdateComboPacket(HIT, combo);
+		packet.damage = combo.getDamageList().get(combo.getNumHits() - 1);
+		packet.entityId = (combo.getLastEntityHit() != null ? combo.getLastEntityHit().getEntityId() : 0);
+		packet.consecutiveHits = combo.getConsecutiveHits();
+		return packet;
+	}
+
+	/**
+	 * Sends only the combo's current damage total
+	 */
+	public static UpdateComboPacket forDamage(Combo combo) {
+		return new UpdateComboPacket(DAMAGE, combo);
 	}
 
 	@Override
 	protected void read(PacketBuffer buffer) throws IOException {
-		compound = buffer.readNBTTagCompoundFromBuffer();
+		mode = buffer.readByte();
+		if (mode == FULL) {
+			combo = Combo.readFromBuffer(buffer);
+			return;
+		}
+		skillId = buffer.readByte();
+		numHits = buffer.readVarIntFromBuffer();
+		totalDamage = buffer.readFloat();
+		if (mode == HIT) {
+			damage = buffer.readFloat();
+			entityId = buffer.readInt();
+			consecutiveHits = buffer.readVarIntFromBuffer();
+		}
 	}
 
 	@Override
 	protected void write(PacketBuffer buffer) throws IOException {
-		buffer.writeNBTTagCompoundToBuffer(compound);
+		buffer.writeByte(mode);
+		if (mode == FULL) {
+			combo.writeToBuffer(buffer);
+			return;
+		}
+		buffer.writeByte(skillId);
+		buffer.writeVarIntToBuffer(numHits);
+		buffer.writeFloat(totalDamage);
+		if (mode == HIT) {
+			buffer.writeFloat(damage);
+			buffer.writeInt(entityId);
+			buffer.writeVarIntToBuffer(consecutiveHits);
+		}
 	}
 
 	@Override
 	protected void process(EntityPlayer player, Side side) {
-		Combo combo = Combo.readFromNBT(compound);
+		byte id = (mode == FULL ? combo.getSkill() : skillId);
+		ICombo skill;
 		try {
-			ICombo skill = (ICombo) ZSSPlayerSkills.get(player).getPlayerSkill(combo.getSkill());
-			if (skill != null) {
-				combo.getEntityFromWorld(player.worldObj);
-				skill.setCombo(combo);
-			}
+			skill = (ICombo) ZSSPlayerSkills.get(player).getPlayerSkill(id);
 		} catch (ClassCastException e) {
-			ZSSMain.logger.error("Class Cast Exception from invalid Combo skill id of " + combo.getSkill());
+			ZSSMain.logger.error("Class Cast Exception from invalid Combo skill id of " + id);
+			return;
+		}
+		if (skill == null) {
+			return;
+		} else if (mode == FULL) {
+			combo.getEntityFromWorld(player.worldObj);
+			skill.setCombo(combo);
+			return;
+		}
+		Combo current = skill.getCombo();
+		boolean applied = (current != null && current.getSkill() == skillId);
+		if (applied) {
+			if (mode == HIT) {
+				applied = current.applyHit(player.worldObj, numHits, damage, totalDamage, entityId, consecutiveHits);
+			} else {
+				applied = current.applyDamage(numHits, totalDamage);
+			}
+		}
+		if (!applied) {
+			PacketDispatcher.sendToServer(new RequestComboSyncPacket(skillId));
 		}
 	}
 }
@@ -0,0 +1,69 @@
+/**
+    Copyright (C) <2015> <coolAlias>
+
+    This file is part of coolAlias' Zelda Sword Skills Minecraft Mod; as such,
+    you can redistribute it and/or modify it under the terms of the GNU
+    General Public License as published by the Free Software Foundation,
+    either version 3 of the License, or (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package zeldaswordskills.network.server;
+
+import java.io.IOException;
+
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.network.PacketBuffer;
+import net.minecraftforge.fml.relauncher.Side;
+import zeldaswordskills.entity.player.ZSSPlayerSkills;
+import zeldaswordskills.network.AbstractMessage.AbstractServerMessage;
+import zeldaswordskills.network.PacketDispatcher;
+import zeldaswordskills.network.client.UpdateComboPacket;
+import zeldaswordskills.skills.ICombo;
+import zeldaswordskills.skills.SkillBase;
+
+/**
+ * 
+ * Sent when the client receives a combo update that does not match its current combo,
+ * so that the server can send the entire combo again.
+ *
+ */
+public class RequestComboSyncPacket extends AbstractServerMessage<RequestComboSyncPacket>
+{
+	/** Id of skill that implements ICombo */
+	private byte id;
+
+	public RequestComboSyncPacket() {}
+
+	public RequestComboSyncPacket(byte skillId) {
+		this.id = skillId;
+	}
+
+	@Override
+	protected void read(PacketBuffer buffer) throws IOException {
+		id = buffer.readByte();
+	}
+
+	@Override
+	protected void write(PacketBuffer buffer) throws IOException {
+		buffer.writeByte(id);
+	}
+
+	@Override
+	protected void process(EntityPlayer player, Side side) {
+		if (player instanceof EntityPlayerMP && SkillBase.getSkill(id) instanceof ICombo) {
+			ICombo skill = (ICombo) ZSSPlayerSkills.get(player).getPlayerSkill(id);
+			if (skill != null && skill.getCombo() != null) {
+				PacketDispatcher.sendTo(new UpdateComboPacket(skill.getCombo()), (EntityPlayerMP) player);
+			}
+		}
+	}
+}
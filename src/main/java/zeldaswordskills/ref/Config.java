@@ -20,10 +20,9 @@ package zeldaswordskills.ref;
 import java.io.File;
 import java.util.Arrays;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
-import java.util.Set;
 
+import net.minecraft.network.PacketBuffer;
 import net.minecraft.util.MathHelper;
 import net.minecraftforge.common.config.Configuration;
 import net.minecraftforge.common.config.Property;
@@ -35,7 +34,6 @@ import zeldaswordskills.client.gui.IGuiOverlay.HALIGN;
 import zeldaswordskills.client.gui.IGuiOverlay.VALIGN;
 import zeldaswordskills.entity.ZSSEntities;
 import zeldaswordskills.item.ZSSItems;
-import zeldaswordskills.network.client.SyncConfigPacket;
 import zeldaswordskills.skills.BonusHeart;
 import zeldaswordskills.skills.SkillBase;
 import zeldaswordskills.songs.AbstractZeldaSong;
@@ -50,11 +48,17 @@ import zeldaswordskills.util.WarpPoint;
  * to the server. In some cases this is because the field is mainly used
  * on the client (e.g. attack speed), in others because the field is used on
  * both sides and may result in inconsistencies if not synced (e.g. whip length).
+ * 
+ * Synced fields and derived lookups are read through the current {@link Settings}
+ * snapshot, which is rebuilt each time the config is loaded and replaced wholesale
+ * when the server's settings are received.
  *
  */
 public class Config
 {
 	public static Configuration config;
+	/** Current settings snapshot; replaced, never modified */
+	private static volatile Settings settings;
 	/*================== GENERAL =====================*/
 	/** [SYNC] Whether players can be stunned; if false, item use is still interrupted */
 	private static boolean enableStunPlayer;
@@ -383,8 +387,8 @@ public class Config
 	smallKeyWeight;
 	/** Loot weight for items in locked chests */
 	private static int lockedLootWeight;
-	/** [Skill Orbs] Whether this skill may appear as random loot, such as in Boss chests */
-	private static Set<Byte> lootableOrbs = new HashSet<Byte>();
+	/** [Skill Orbs] Whether each skill, by id, may appear as random loot, such as in Boss chests */
+	private static boolean[] lootableOrbs = new boolean[0];
 	/*================== DROPS =====================*/
 	/** Chance of grass dropping loot (set to zero to disable) */
 	private static float grassDropChance;
@@ -400,8 +404,8 @@ public class Config
 	private static float randomDropChance;
 	/** [Skill Orbs] Chance for unmapped mob to drop an orb */
 	private static float genericMobDropChance;
-	/** [Skill Orbs] Individual drop chances for skill orbs and heart pieces */
-	private static Map<Byte, Float> orbDropChance;
+	/** [Skill Orbs] Individual drop chances for skill orbs and heart pieces, by skill id */
+	private static float[] orbDropChance = new float[0];
 	/** [Piece of Power] Approximate number of enemies you need to kill before a piece of power drops */
 	private static int powerDropRate;
 	/** [Whip] Chance that loot may be snatched from various vanilla mobs, using a whip (0 to disable)[0-100] */
@@ -701,14 +705,15 @@ public class Config
 		enableOrbDrops = config.get("Drops", "[Skill Orbs] Enable skill orbs to drop as loot from mobs", true).getBoolean(true);
 		randomDropChance = 0.01F * (float) MathHelper.clamp_int(config.get("Drops", "[Skill Orbs] Chance (as a percent) for specified mobs to drop a random orb [0-100]", 10).getInt(), 0, 100);
 		genericMobDropChance = 0.01F * (float) MathHelper.clamp_int(config.get("Drops", "[Skill Orbs] Chance (as a percent) for random mobs to drop a random orb [0-100]", 1).getInt(), 0, 100);
-		orbDropChance = new HashMap<Byte, Float>(SkillBase.getNumSkills());
+		orbDropChance = new float[SkillBase.getNumSkills()];
+		lootableOrbs = new boolean[SkillBase.getNumSkills()];
 		for (SkillBase skill : SkillBase.getSkills()) {
 			if (skill.canDrop()) {
 				int i = MathHelper.clamp_int(config.get("drops", "Chance (in tenths of a percent) for " + skill.getDisplayName() + " (0 to disable)", 5).getInt(), 0, 10);
-				orbDropChance.put(skill.getId(), (0.001F * (float) i));
+				orbDropChance[skill.getId()] = (0.001F * (float) i);
 			}
 			if (skill.isLoot() && config.getBoolean("[Skill Orbs] " + skill.getDisplayName() + " Orbs are Lootable", "loot", true, "Whether " + skill.getDisplayName() + " orbs may appear as random loot, such as in Boss chests", skill.getTranslationString() + ".loot")) {
-				lootableOrbs.add(skill.getId());
+				lootableOrbs[skill.getId()] = true;
 			}
 		}
 		powerDropRate = Math.max(config.get("Drops", "[Piece of Power] Approximate number of enemies you need to kill before a piece of power drops [minimum 20]", 50).getInt(), 20);
@@ -742,6 +747,7 @@ public class Config
 		if (config.hasChanged()) {
 			config.save();
 		}
+		settings = new Settings();
 	}
 
 	public static void postInit(){
@@ -802,14 +808,14 @@ public class Config
 	public static boolean toggleTargetPlayers() { canTargetPlayers = !canTargetPlayers; return canTargetPlayers; }
 	public static int getNoteResetInterval() { return resetNotesInterval; }
 	/*================== MOD INTER-COMPATIBILITY =====================*/
-	public static boolean allowOffhandMaster() { return enableOffhandMaster; }
+	public static boolean allowOffhandMaster() { return settings.enableOffhandMaster; }
 	/*================== GENERAL =====================*/
-	public static boolean canPlayersBeStunned() { return enableStunPlayer; }
-	public static boolean affectAllSwings() { return enableSwingSpeed; }
-	public static int getBaseSwingSpeed() { return baseSwingSpeed; }
-	public static boolean canLiftSecretStone() { return enableSecretStoneLift; }
-	public static boolean canLiftVanilla() { return enableVanillaLift; }
-	public static boolean canSmashVanilla() { return enableVanillaSmash; }
+	public static boolean canPlayersBeStunned() { return settings.enableStunPlayer; }
+	public static boolean affectAllSwings() { return settings.enableSwingSpeed; }
+	public static int getBaseSwingSpeed() { return settings.baseSwingSpeed; }
+	public static boolean canLiftSecretStone() { return settings.enableSecretStoneLift; }
+	public static boolean canLiftVanilla() { return settings.enableVanillaLift; }
+	public static boolean canSmashVanilla() { return settings.enableVanillaSmash; }
 	public static boolean alwaysPickupHearts() { return alwaysPickupHearts; }
 	public static boolean isHardcoreZeldaFan() { return enableHardcoreZeldaFanMode; }
 	public static float getBossHealthFactor() { return bossHealthFactor; }
@@ -829,29 +835,29 @@ public class Config
 	public static boolean getArrowsConsumeFlame() { return arrowsConsumeFlame; }
 	public static boolean onlyBombSecretStone() { return onlyBombSecretStone; }
 	public static boolean canGriefAdventure() { return bombsGriefAdventure; }
-	public static int getBombFuseTime() { return bombFuseTime; }
+	public static int getBombFuseTime() { return settings.bombFuseTime; }
 	public static boolean canDekuDenude() { return enableDekuDenude; }
 	public static boolean isDinIgniteEnabled() { return enableDinIgnite; }
 	public static boolean isDinMeltEnabled() { return enableDinMelt; }
-	public static boolean areUnenchantablesDisabled() { return disableAllUnenchantables; }
+	public static boolean areUnenchantablesDisabled() { return settings.disableAllUnenchantables; }
 	public static boolean allowMegaSmashQuakeStone() { return enableMegaSmashQuake; }
 	public static int getHeroBowUpgradeCost() { return heroBowUpgradeCost; }
 	public static boolean enableFireArrowIgnite() { return enableFireArrowIgnite; }
 	public static boolean enableFireArrowMelt() { return enableFireArrowMelt; }
 	public static boolean enableLightArrowNoClip() { return enableLightArrowNoClip; }
 	public static boolean enableAutoBombArrows() { return enableAutoBombArrows; }
-	public static int getHookshotRange() { return hookshotRange; }
-	public static boolean allowHookableOnly() { return enableHookableOnly; }
+	public static int getHookshotRange() { return settings.hookshotRange; }
+	public static boolean allowHookableOnly() { return settings.enableHookableOnly; }
 	public static boolean canHookshotBreakBlocks() { return enableHookshotBreakBlocks; }
 	public static boolean doMedallionsDamagePlayers() { return medallionsAffectPlayers; }
 	public static int getRodUpgradeCost() { return rodUpgradeCost; }
 	public static boolean getRodFireGriefing() { return rodFireGriefing; }
 	public static int getRequiredKills() { return temperedRequiredKills - 1; }
-	public static boolean getMasterSwordsProvidePower() { return allMasterSwordsProvidePower; }
+	public static boolean getMasterSwordsProvidePower() { return settings.allMasterSwordsProvidePower; }
 	public static int getNumSkelKeyUses() { return numSkelKeyUses; }
 	public static int getSlingshotCostOne() { return slingshotUpgradeOne; }
 	public static int getSlingshotCostTwo() { return slingshotUpgradeTwo; }
-	public static int getWhipRange() { return whipRange; }
+	public static int getWhipRange() { return settings.whipRange; }
 	/*================== SKILLS =====================*/
 	public static byte getMaxBonusHearts() { return (byte) maxBonusHearts; }
 	public static boolean canDisarmorPlayers() { return allowDisarmorPlayer; }
@@ -861,7 +867,7 @@ public class Config
 	public static int getMaxMagicPoints() { return maxMagicPoints; }
 	/** Returns amount of health that may be missing and still be able to activate certain skills (e.g. Sword Beam) */
 	public static float getHealthAllowance(int level) {
-		return (requireFullHealth ? 0.0F : (0.6F * level));
+		return (settings.requireFullHealth ? 0.0F : (0.6F * level));
 	}
 	/*================== SONGS =====================*/
 	public static int getMinIntervalStorm() { return minSongIntervalStorm; }
@@ -871,10 +877,8 @@ public class Config
 	 * Returns true if structure/feature generation is enabled for the given chunk coordinates
 	 */
 	public static boolean isGenEnabledAt(int chunkX, int chunkZ) {
-		if (disableStructureGen) {
-			return chunkX < noGenX || chunkZ < noGenZ;
-		}
-		return true;
+		Settings current = settings;
+		return chunkX < current.noGenX || chunkZ < current.noGenZ;
 	}
 	public static boolean avoidModBlocks() { return avoidModBlocks; }
 	public static boolean areWindowsEnabled() { return enableWindows; }
@@ -926,7 +930,8 @@ public class Config
 	public static int getSmallKeyWeight() { return smallKeyWeight; }
 	public static int getLockedLootWeight() { return lockedLootWeight; }
 	public static boolean isLootableSkill(SkillBase skill) {
-		return lootableOrbs.contains(skill.getId());
+		boolean[] lootable = settings.lootableOrbs;
+		return skill.getId() < lootable.length && lootable[skill.getId()];
 	}
 	/*================== DROPS =====================*/
 	public static float getGrassDropChance() { return grassDropChance; }
@@ -937,7 +942,8 @@ public class Config
 	public static float getChanceForRandomDrop() { return randomDropChance; }
 	public static float getRandomMobDropChance() { return genericMobDropChance; }
 	public static float getDropChance(int orbID) {
-		return (orbDropChance.containsKey((byte) orbID) ? orbDropChance.get((byte) orbID) : 0.0F);
+		float[] chances = settings.orbDropChance;
+		return (orbID >= 0 && orbID < chances.length ? chances[orbID] : 0.0F);
 	}
 	public static int getPowerDropRate() { return powerDropRate; }
 	public static float getVanillaWhipLootChance() { return vanillaWhipLootChance; }
@@ -996,27 +1002,126 @@ public class Config
 		}
 	}
 
+	/**
+	 * Returns the current settings snapshot; this should be retrieved once and reused rather
+	 * than retrieved again for each value when more than one value is needed at a time
+	 */
+	public static Settings getSettings() {
+		return settings;
+	}
+
 	/**
 	 * Updates client settings from server packet
 	 */
-	public static void syncClientSettings(SyncConfigPacket msg) {
-		if (!msg.isMessageValid()) {
+	public static void syncClientSettings(Settings synced) {
+		if (synced == null) {
 			ZSSMain.logger.error("Invalid SyncConfigPacket attempting to process!");
 			return;
 		}
-		Config.enableOffhandMaster = msg.enableOffhandMaster;
-		Config.enableStunPlayer = msg.enableStunPlayer;
-		Config.enableSwingSpeed = msg.enableSwingSpeed;
-		Config.enableSecretStoneLift = msg.enableSecretStoneLift;
-		Config.enableVanillaLift = msg.enableVanillaLift;
-		Config.enableVanillaSmash = msg.enableVanillaSmash;
-		Config.disableAllUnenchantables = msg.disableAllUnenchantables;
-		Config.enableHookableOnly = msg.enableHookableOnly;
-		Config.requireFullHealth = msg.requireFullHealth;
-		Config.baseSwingSpeed = msg.baseSwingSpeed;
-		Config.bombFuseTime = msg.bombFuseTime;
-		Config.hookshotRange = msg.hookshotRange;
-		Config.whipRange = msg.whipRange;
-		Config.allMasterSwordsProvidePower = msg.allMasterSwordsProvidePower;
+		settings = synced;
+	}
+
+	/**
+	 * 
+	 * Immutable snapshot of the [SYNC] settings plus any lookups that would otherwise need
+	 * to be derived each time they are used, e.g. per-skill drop chances.
+	 *
+	 */
+	public static final class Settings
+	{
+		public final boolean enableOffhandMaster;
+		public final boolean enableStunPlayer;
+		public final boolean enableSwingSpeed;
+		public final boolean enableVanillaLift;
+		public final boolean enableVanillaSmash;
+		public final boolean disableAllUnenchantables;
+		public final boolean enableHookableOnly;
+		public final boolean requireFullHealth;
+		public final boolean allMasterSwordsProvidePower;
+		public final boolean enableSecretStoneLift;
+		public final int baseSwingSpeed;
+		public final int bombFuseTime;
+		public final int hookshotRange;
+		public final int whipRange;
+		/** Structure generation is disabled for chunks at or beyond both of these coordinates */
+		private final int noGenX, noGenZ;
+		/** Orb drop chance indexed by skill id */
+		private final float[] orbDropChance;
+		/** Whether each skill's orb is lootable, indexed by skill id */
+		private final boolean[] lootableOrbs;
+
+		/** Creates a snapshot of the settings as loaded from the config file */
+		private Settings() {
+			this.enableOffhandMaster = Config.enableOffhandMaster;
+			this.enableStunPlayer = Config.enableStunPlayer;
+			this.enableSwingSpeed = Config.enableSwingSpeed;
+			this.enableVanillaLift = Config.enableVanillaLift;
+			this.enableVanillaSmash = Config.enableVanillaSmash;
+			this.disableAllUnenchantables = Config.disableAllUnenchantables;
+			this.enableHookableOnly = Config.enableHookableOnly;
+			this.requireFullHealth = Config.requireFullHealth;
+			this.allMasterSwordsProvidePower = Config.allMasterSwordsProvidePower;
+			this.enableSecretStoneLift = Config.enableSecretStoneLift;
+			this.baseSwingSpeed = Config.baseSwingSpeed;
+			this.bombFuseTime = Config.bombFuseTime;
+			this.hookshotRange = Config.hookshotRange;
+			this.whipRange = Config.whipRange;
+			this.noGenX = (Config.disableStructureGen ? Config.noGenX : Integer.MAX_VALUE);
+			this.noGenZ = (Config.disableStructureGen ? Config.noGenZ : Integer.MAX_VALUE);
+			this.orbDropChance = Config.orbDropChance;
+			this.lootableOrbs = Config.lootableOrbs;
+		}
+
+		/** Creates a copy of the local settings with the synced values read from the buffer */
+		private Settings(Settings local, PacketBuffer buffer) {
+			short bits = buffer.readShort();
+			this.enableOffhandMaster = (bits & 0x1) > 0;
+			this.enableStunPlayer = (bits & (0x1 << 1)) > 0;
+			this.enableSwingSpeed = (bits & (0x1 << 2)) > 0;
+			this.enableVanillaLift = (bits & (0x1 << 3)) > 0;
+			this.enableVanillaSmash = (bits & (0x1 << 4)) > 0;
+			this.disableAllUnenchantables = (bits & (0x1 << 5)) > 0;
+			this.enableHookableOnly = (bits & (0x1 << 6)) > 0;
+			this.requireFullHealth = (bits & (0x1 << 7)) > 0;
+			this.allMasterSwordsProvidePower = (bits & (0x1 << 8)) > 0;
+			this.enableSecretStoneLift = (bits & (0x1 << 9)) > 0;
+			this.baseSwingSpeed = buffer.readInt();
+			this.bombFuseTime = buffer.readInt();
+			this.hookshotRange = buffer.readInt();
+			this.whipRange = buffer.readInt();
+			this.noGenX = local.noGenX;
+			this.noGenZ = local.noGenZ;
+			this.orbDropChance = local.orbDropChance;
+			this.lootableOrbs = local.lootableOrbs;
+		}
+
+		/**
+		 * Returns a copy of these settings with the [SYNC] values replaced by those read from the buffer
+		 */
+		public Settings readSynced(PacketBuffer buffer) {
+			return new Settings(this, buffer);
+		}
+
+		/**
+		 * Writes the [SYNC] values to the buffer
+		 */
+		public void writeSynced(PacketBuffer buffer) {
+			short bits = 0;
+			bits |= (enableOffhandMaster ? 0x1 : 0x0);
+			bits |= (enableStunPlayer ? (0x1 << 1) : 0x0);
+			bits |= (enableSwingSpeed ? (0x1 << 2) : 0x0);
+			bits |= (enableVanillaLift ? (0x1 << 3) : 0x0);
+			bits |= (enableVanillaSmash ? (0x1 << 4) : 0x0);
+			bits |= (disableAllUnenchantables ? (0x1 << 5) : 0x0);
+			bits |= (enableHookableOnly ? (0x1 << 6) : 0x0);
+			bits |= (requireFullHealth ? (0x1 << 7) : 0x0);
+			bits |= (allMasterSwordsProvidePower ? (0x1 << 8) : 0x0);
+			bits |= (enableSecretStoneLift ? (0x1 << 9) : 0x0);
+			buffer.writeShort(bits);
+			buffer.writeInt(baseSwingSpeed);
+			buffer.writeInt(bombFuseTime);
+			buffer.writeInt(hookshotRange);
+			buffer.writeInt(whipRange);
+		}
 	}
 }
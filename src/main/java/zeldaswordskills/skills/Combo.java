@@ -25,6 +25,7 @@ import net.minecraft.entity.Entity;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.network.PacketBuffer;
 import net.minecraft.util.StatCollector;
 import net.minecraft.world.World;
 import net.minecraftforge.fml.relauncher.Side;
@@ -46,6 +47,10 @@ import zeldaswordskills.network.client.UpdateComboPacket;
  * Each instance should be updated every tick from within its containing class' update method 
  * Determining when to add damage or end the combo prematurely must be handled extraneously.
  * Only self-synchronizing when UpdateComboPacket class is kept up-to-date 
+ * 
+ * The client is sent the full combo only when it starts or ends; each hit in between
+ * only sends what that hit changed, and the client asks for the full combo again if it
+ * is ever found to be out of step with the server.
  *
  */
 public class Combo
@@ -114,6 +119,19 @@ public class Combo
 		this.timeLimit = timeLimit;
 	}
 
+	/**
+	 * Returns a copy of this combo's current state, e.g. for sending in a packet
+	 */
+	public Combo copy() {
+		Combo copy = new Combo(skillId, maxComboSize, timeLimit);
+		copy.damageList.addAll(damageList);
+		copy.comboDamage = comboDamage;
+		copy.lastEntityHit = lastEntityHit;
+		copy.consecutiveHits = consecutiveHits;
+		copy.isFinished = isFinished;
+		return copy;
+	}
+
 	/** Returns the skill id associated with this Combo */
 	public byte getSkill() { return skillId; }
 
@@ -181,13 +199,13 @@ public class Combo
 			case 12: player.triggerAchievement(ZSSAchievements.comboLegend); break;
 			}
 			comboDamage += damage;
-			if (player instanceof EntityPlayerMP) {
-				PacketDispatcher.sendTo(new UpdateComboPacket(this), (EntityPlayerMP) player);
-			}
 			if (getNumHits() == maxComboSize) {
 				endCombo(player);
 			} else {
 				comboTimer = timeLimit;
+				if (player instanceof EntityPlayerMP) {
+					PacketDispatcher.sendTo(UpdateComboPacket.forLastHit(this), (EntityPlayerMP) player);
+				}
 			}
 		} else {
 			endCombo(player);
@@ -209,7 +227,7 @@ public class Combo
 				comboTimer = timeLimit;
 			}
 			if (player instanceof EntityPlayerMP) {
-				PacketDispatcher.sendTo(new UpdateComboPacket(this), (EntityPlayerMP) player);
+				PacketDispatcher.sendTo(UpdateComboPacket.forDamage(this), (EntityPlayerMP) player);
 			}
 		}
 	}
@@ -236,6 +254,72 @@ public class Combo
 		lastEntityHit = world.getEntityByID(entityId);
 	}
 
+	/**
+	 * Applies a hit sent from the server's {@link #add} method to this client-side combo
+	 * @param numHits Number of hits in the server's combo including this one
+	 * @param damage  Damage stored for this hit
+	 * @return false if this combo was not in the state the server expected, in which case nothing is changed
+	 */
+	@SideOnly(Side.CLIENT)
+	public boolean applyHit(World world, int numHits, float damage, float totalDamage, int entityId, int consecutiveHits) {
+		if (isFinished || numHits != getNumHits() + 1) {
+			return false;
+		}
+		damageList.add(damage);
+		comboDamage = totalDamage;
+		this.entityId = entityId;
+		this.consecutiveHits = consecutiveHits;
+		getEntityFromWorld(world);
+		return true;
+	}
+
+	/**
+	 * Applies the new damage total sent from the server's {@link #addDamageOnly} method to this client-side combo
+	 * @param numHits Number of hits in the server's combo
+	 * @return false if this combo was not in the state the server expected, in which case nothing is changed
+	 */
+	@SideOnly(Side.CLIENT)
+	public boolean applyDamage(int numHits, float totalDamage) {
+		if (isFinished || numHits != getNumHits()) {
+			return false;
+		}
+		comboDamage = totalDamage;
+		return true;
+	}
+
+	/**
+	 * Writes the complete combo to the buffer; see {@link #readFromBuffer}
+	 */
+	public final void writeToBuffer(PacketBuffer buffer) {
+		buffer.writeByte(skillId);
+		buffer.writeVarIntToBuffer(maxComboSize);
+		buffer.writeVarIntToBuffer(timeLimit);
+		buffer.writeVarIntToBuffer(getNumHits());
+		for (int i = 0; i < getNumHits(); ++i) {
+			buffer.writeFloat(damageList.get(i));
+		}
+		buffer.writeFloat(comboDamage);
+		buffer.writeInt(lastEntityHit != null ? lastEntityHit.getEntityId() : 0);
+		buffer.writeVarIntToBuffer(consecutiveHits);
+		buffer.writeBoolean(isFinished);
+	}
+
+	/**
+	 * Creates a new combo from data written by {@link #writeToBuffer}
+	 */
+	public static final Combo readFromBuffer(PacketBuffer buffer) {
+		Combo combo = new Combo(buffer.readByte(), buffer.readVarIntFromBuffer(), buffer.readVarIntFromBuffer());
+		int size = buffer.readVarIntFromBuffer();
+		for (int i = 0; i < size; ++i) {
+			combo.damageList.add(buffer.readFloat());
+		}
+		combo.comboDamage = buffer.readFloat();
+		combo.entityId = buffer.readInt();
+		combo.consecutiveHits = buffer.readVarIntFromBuffer();
+		combo.isFinished = buffer.readBoolean();
+		return combo;
+	}
+
 	/**
 	 * Writes this combo to NBT and returns the tag compound
 	 */
@@ -43,6 +43,7 @@ import net.minecraftforge.fml.relauncher.SideOnly;
 import zeldaswordskills.api.entity.IEntityBackslice;
 import zeldaswordskills.api.item.ArmorIndex;
 import zeldaswordskills.client.ZSSKeyHandler;
+import zeldaswordskills.entity.EntityTraits;
 import zeldaswordskills.entity.mobs.EntityChu;
 import zeldaswordskills.entity.player.ZSSPlayerSkills;
 import zeldaswordskills.handler.ZSSCombatEvents;
@@ -312,11 +313,12 @@ public class BackSlice extends SkillActive
 			if (targeting != null && targeting.getCurrentTarget() == entity) {
 				if (!TargetUtils.isTargetInFrontOf(entity, player, getAttackAngle())) {
 					boolean flag = false;
-					boolean isIBackEntity = (entity instanceof IEntityBackslice);
+					EntityTraits traits = EntityTraits.get(entity);
+					boolean isIBackEntity = traits.isBackslice;
 					// IEntityBackside takes priority over default immunities
 					if (isIBackEntity) {
 						flag = ((IEntityBackslice) entity).allowDamageMultiplier(player);
-					} else if (!isEntityImmune(entity)) {
+					} else if (!traits.isBacksliceImmune) {
 						flag = true;
 					}
 					// damage multiplier:
@@ -344,12 +346,13 @@ public class BackSlice extends SkillActive
 	}
 
 	/**
-	 * Returns true if the given entity inherits from any of the classes marked
+	 * Returns true if the given class inherits from any of the classes marked
 	 * as immune to back damage multipliers, such as EntitySlime
 	 */
-	private static boolean isEntityImmune(EntityLivingBase entity) {
+	public static boolean isImmuneClass(Class<?> entityClass) {
+		init();
 		for (Class<? extends EntityLivingBase> clazz : immuneEntities) {
-			if (clazz.isAssignableFrom(entity.getClass())) {
+			if (clazz.isAssignableFrom(entityClass)) {
 				return true;
 			}
 		}
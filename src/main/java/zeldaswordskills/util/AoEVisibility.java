@@ -0,0 +1,220 @@
+/**
+    Copyright (C) <2015> <coolAlias>
+
+    This file is part of coolAlias' Zelda Sword Skills Minecraft Mod; as such,
+    you can redistribute it and/or modify it under the terms of the GNU
+    General Public License as published by the Free Software Foundation,
+    either version 3 of the License, or (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package zeldaswordskills.util;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.entity.Entity;
+import net.minecraft.util.AxisAlignedBB;
+import net.minecraft.util.BlockPos;
+import net.minecraft.util.MathHelper;
+import net.minecraft.util.Vec3;
+import net.minecraft.world.World;
+
+/**
+ *
+ * Resolves whether an area of effect, e.g. from an {@link zeldaswordskills.api.damage.IDamageAoE IDamageAoE} damage source,
+ * can reach each target from its point of origin without passing through any block
+ * collision box.
+ *
+ * Rather than ray tracing against the world for every target, each resolver keeps a
+ * small occupancy grid around the origin that is filled in lazily as lines of sight
+ * are traced through it, so blocks shared by several paths are only looked up once.
+ * Blocks with a full collision box stop every line passing through them; partial boxes,
+ * e.g. slabs or chests, are tested against each line individually. Targets standing in
+ * the same block share a single result unless a partial box had to be tested.
+ *
+ * A resolver is only meant to be used for a single impact, i.e. within one tick.
+ *
+ */
+public class AoEVisibility
+{
+	private static final byte UNKNOWN = 0, OPEN = 1, BLOCKED = 2, PARTIAL = 3;
+
+	private final World world;
+
+	private final Vec3 origin;
+
+	/** Minimum block coordinates covered by the occupancy grid */
+	private final int minX, minY, minZ;
+
+	/** Length of each side of the occupancy grid */
+	private final int size;
+
+	/** Cached state of each block in the grid; blocks outside of it are looked up every time */
+	private final byte[] grid;
+
+	/** Collision boxes of the {@link #PARTIAL} blocks in the grid, keyed by grid index */
+	private final Map<Integer, AxisAlignedBB> partialBoxes = new HashMap<Integer, AxisAlignedBB>();
+
+	/** Results for each target block position that has already been resolved */
+	private final Map<BlockPos, Boolean> results = new HashMap<BlockPos, Boolean>();
+
+	/** True if the current trace tested a partial collision box, i.e. its result only applies to that exact line */
+	private boolean testedPartial;
+
+	/**
+	 * @param radius Distance from the origin within which blocks are cached; should cover all targets
+	 */
+	public AoEVisibility(World world, Vec3 origin, double radius) {
+		int r = MathHelper.ceiling_double_int(radius) + 1;
+		this.world = world;
+		this.origin = origin;
+		this.size = r * 2 + 1;
+		this.minX = MathHelper.floor_double(origin.xCoord) - r;
+		this.minY = MathHelper.floor_double(origin.yCoord) - r;
+		this.minZ = MathHelper.floor_double(origin.zCoord) - r;
+		this.grid = new byte[size * size * size];
+	}
+
+	/**
+	 * Returns true if no block collision boxes lie between the origin and the entity's position
+	 */
+	public boolean canReach(Entity entity) {
+		return canReach(new Vec3(entity.posX, entity.posY, entity.posZ));
+	}
+
+	/**
+	 * Returns true if no block collision boxes lie between the origin and the target position
+	 */
+	public boolean canReach(Vec3 target) {
+		BlockPos key = new BlockPos(target);
+		Boolean result = results.get(key);
+		if (result == null) {
+			testedPartial = false;
+			result = trace(target);
+			if (!testedPartial) {
+				results.put(key, result);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Walks every block from the origin up to, but not including, the block containing
+	 * the target, until one is found to be blocked; the target's own block never blocks it,
+	 * e.g. when standing on a slab or soul sand.
+	 */
+	private boolean trace(Vec3 target) {
+		double dx = target.xCoord - origin.xCoord;
+		double dy = target.yCoord - origin.yCoord;
+		double dz = target.zCoord - origin.zCoord;
+		double length = Math.sqrt(dx * dx + dy * dy + dz * dz);
+		int x = MathHelper.floor_double(origin.xCoord);
+		int y = MathHelper.floor_double(origin.yCoord);
+		int z = MathHelper.floor_double(origin.zCoord);
+		int endX = MathHelper.floor_double(target.xCoord);
+		int endY = MathHelper.floor_double(target.yCoord);
+		int endZ = MathHelper.floor_double(target.zCoord);
+		// number of block boundaries crossed on the way; the last step lands in the target's block
+		int steps = Math.abs(endX - x) + Math.abs(endY - y) + Math.abs(endZ - z);
+		if (steps == 0) {
+			return true;
+		} else if (isBlocked(x, y, z, target)) {
+			return false;
+		}
+		dx /= length;
+		dy /= length;
+		dz /= length;
+		int stepX = (endX > x ? 1 : (endX < x ? -1 : 0));
+		int stepY = (endY > y ? 1 : (endY < y ? -1 : 0));
+		int stepZ = (endZ > z ? 1 : (endZ < z ? -1 : 0));
+		double deltaX = (stepX == 0 ? Double.MAX_VALUE : Math.abs(1.0D / dx));
+		double deltaY = (stepY == 0 ? Double.MAX_VALUE : Math.abs(1.0D / dy));
+		double deltaZ = (stepZ == 0 ? Double.MAX_VALUE : Math.abs(1.0D / dz));
+		double nextX = (stepX == 0 ? Double.MAX_VALUE : (stepX > 0 ? x + 1 - origin.xCoord : origin.xCoord - x) * deltaX);
+		double nextY = (stepY == 0 ? Double.MAX_VALUE : (stepY > 0 ? y + 1 - origin.yCoord : origin.yCoord - y) * deltaY);
+		double nextZ = (stepZ == 0 ? Double.MAX_VALUE : (stepZ > 0 ? z + 1 - origin.zCoord : origin.zCoord - z) * deltaZ);
+		for (int i = 1; i < steps; ++i) {
+			if (nextX < nextY && nextX < nextZ) {
+				x += stepX;
+				nextX += deltaX;
+			} else if (nextY < nextZ) {
+				y += stepY;
+				nextY += deltaY;
+			} else {
+				z += stepZ;
+				nextZ += deltaZ;
+			}
+			if (isBlocked(x, y, z, target)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Returns true if the block at x/y/z has a collision box that the line from the origin to the target passes through
+	 */
+	private boolean isBlocked(int x, int y, int z, Vec3 target) {
+		int i = x - minX, j = y - minY, k = z - minZ;
+		AxisAlignedBB box;
+		if (i < 0 || j < 0 || k < 0 || i >= size || j >= size || k >= size) {
+			BlockPos pos = new BlockPos(x, y, z);
+			if (!world.isBlockLoaded(pos)) {
+				return true;
+			}
+			box = getCollisionBox(pos);
+			if (box == null) {
+				return false;
+			} else if (isFullBlock(box, pos)) {
+				return true;
+			}
+		} else {
+			int index = (j * size + k) * size + i;
+			if (grid[index] == UNKNOWN) {
+				grid[index] = lookUp(index, new BlockPos(x, y, z));
+			}
+			if (grid[index] != PARTIAL) {
+				return grid[index] == BLOCKED;
+			}
+			box = partialBoxes.get(index);
+		}
+		testedPartial = true;
+		return box.calculateIntercept(origin, target) != null;
+	}
+
+	/**
+	 * Unloaded blocks are considered to be blocked so that tracing never causes chunks to load
+	 */
+	private byte lookUp(int index, BlockPos pos) {
+		if (!world.isBlockLoaded(pos)) {
+			return BLOCKED;
+		}
+		AxisAlignedBB box = getCollisionBox(pos);
+		if (box == null) {
+			return OPEN;
+		} else if (isFullBlock(box, pos)) {
+			return BLOCKED;
+		}
+		partialBoxes.put(index, box);
+		return PARTIAL;
+	}
+
+	private AxisAlignedBB getCollisionBox(BlockPos pos) {
+		IBlockState state = world.getBlockState(pos);
+		return state.getBlock().getCollisionBoundingBox(world, pos, state);
+	}
+
+	private static boolean isFullBlock(AxisAlignedBB box, BlockPos pos) {
+		return box.minX <= pos.getX() && box.minY <= pos.getY() && box.minZ <= pos.getZ()
+				&& box.maxX >= pos.getX() + 1 && box.maxY >= pos.getY() + 1 && box.maxZ >= pos.getZ() + 1;
+	}
+}
@@ -0,0 +1,172 @@
+/**
+    Copyright (C) <2015> <coolAlias>
+
+    This file is part of coolAlias' Zelda Sword Skills Minecraft Mod; as such,
+    you can redistribute it and/or modify it under the terms of the GNU
+    General Public License as published by the Free Software Foundation,
+    either version 3 of the License, or (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package zeldaswordskills.util;
+
+import java.util.Arrays;
+
+import net.minecraft.entity.Entity;
+import net.minecraft.nbt.NBTTagCompound;
+
+/**
+ *
+ * Set of entity ids already struck by a projectile or other multi-target attack, so that
+ * each target is only affected once.
+ *
+ * Ids are kept in a primitive open-addressing table, so checking a target costs the same
+ * however many have already been hit and neither checks nor NBT storage box any values.
+ * The table is saved as a plain int array, compatible with the lists previously stored
+ * under the same keys.
+ *
+ */
+public class HitTracker
+{
+	/** Marks unused table slots; tracked separately in the unlikely event that it is added as an id */
+	private static final int EMPTY = Integer.MIN_VALUE;
+
+	private int[] table;
+
+	private int size;
+
+	private boolean hasEmptyId;
+
+	public HitTracker() {
+		this(8);
+	}
+
+	/**
+	 * @param expected	Number of ids expected to be tracked; the table grows as needed
+	 */
+	public HitTracker(int expected) {
+		int capacity = 8;
+		while (capacity < expected * 2) {
+			capacity <<= 1;
+		}
+		this.table = new int[capacity];
+		Arrays.fill(table, EMPTY);
+	}
+
+	/** Returns true if the entity has already been hit */
+	public boolean contains(Entity entity) {
+		return contains(entity.getEntityId());
+	}
+
+	/** Returns true if the entity id has already been hit */
+	public boolean contains(int id) {
+		if (id == EMPTY) {
+			return hasEmptyId;
+		}
+		int mask = table.length - 1;
+		for (int i = mix(id) & mask; table[i] != EMPTY; i = (i + 1) & mask) {
+			if (table[i] == id) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/** Marks the entity as hit, returning false if it already was */
+	public boolean add(Entity entity) {
+		return add(entity.getEntityId());
+	}
+
+	/** Marks the entity id as hit, returning false if it already was */
+	public boolean add(int id) {
+		if (id == EMPTY) {
+			if (hasEmptyId) {
+				return false;
+			}
+			hasEmptyId = true;
+			++size;
+			return true;
+		}
+		int mask = table.length - 1;
+		int i = mix(id) & mask;
+		for (; table[i] != EMPTY; i = (i + 1) & mask) {
+			if (table[i] == id) {
+				return false;
+			}
+		}
+		table[i] = id;
+		if (++size * 2 > table.length) {
+			rehash(table.length << 1);
+		}
+		return true;
+	}
+
+	/** Number of ids tracked */
+	public int size() {
+		return size;
+	}
+
+	public void clear() {
+		Arrays.fill(table, EMPTY);
+		size = 0;
+		hasEmptyId = false;
+	}
+
+	/** Returns all tracked ids, in no particular order */
+	public int[] toArray() {
+		int[] ids = new int[size];
+		int n = 0;
+		if (hasEmptyId) {
+			ids[n++] = EMPTY;
+		}
+		for (int id : table) {
+			if (id != EMPTY) {
+				ids[n++] = id;
+			}
+		}
+		return ids;
+	}
+
+	public void writeToNBT(NBTTagCompound compound, String key) {
+		compound.setIntArray(key, toArray());
+	}
+
+	/**
+	 * Replaces the current contents with the ids stored under the key, if any
+	 */
+	public void readFromNBT(NBTTagCompound compound, String key) {
+		clear();
+		for (int id : compound.getIntArray(key)) {
+			add(id);
+		}
+	}
+
+	private void rehash(int capacity) {
+		int[] old = table;
+		table = new int[capacity];
+		Arrays.fill(table, EMPTY);
+		int mask = capacity - 1;
+		for (int id : old) {
+			if (id != EMPTY) {
+				int i = mix(id) & mask;
+				while (table[i] != EMPTY) {
+					i = (i + 1) & mask;
+				}
+				table[i] = id;
+			}
+		}
+	}
+
+	/** Spreads sequential entity ids across the table */
+	private static int mix(int id) {
+		int h = id * 0x9E3779B9;
+		return h ^ (h >>> 16);
+	}
+}
@@ -0,0 +1,124 @@
+/**
+    Copyright (C) <2015> <coolAlias>
+
+    This file is part of coolAlias' Zelda Sword Skills Minecraft Mod; as such,
+    you can redistribute it and/or modify it under the terms of the GNU
+    General Public License as published by the Free Software Foundation,
+    either version 3 of the License, or (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package zeldaswordskills.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import net.minecraft.entity.EntityLivingBase;
+import net.minecraft.util.AxisAlignedBB;
+import net.minecraft.util.MathHelper;
+import net.minecraft.world.World;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+
+/**
+ *
+ * Per-tick snapshot of the living entities in each 16x16x16 cell of a server world, so that
+ * several mobs searching overlapping areas during the same tick, e.g. Darknuts and Withered
+ * Dekus in a dungeon, share one entity query per cell instead of each making their own.
+ *
+ * Each entity is stored only in the cell containing its position when the cell was first
+ * queried that tick; lookups check the neighbouring cells as well, plus an extra cell below
+ * for entities taller than {@link #MAX_ENTITY_RADIUS}, so entities whose bounding boxes extend
+ * across cell boundaries are still found. Client worlds are never cached.
+ *
+ */
+public class NearbyEntityCache
+{
+	public static final NearbyEntityCache INSTANCE = new NearbyEntityCache();
+
+	/** Largest distance that an entity's bounding box is expected to extend from its position, other than upwards */
+	private static final double MAX_ENTITY_RADIUS = 2.0D;
+
+	private final Map<World, WorldCache> worlds = new HashMap<World, WorldCache>();
+
+	private NearbyEntityCache() {}
+
+	/**
+	 * Returns a new list of all living entities whose bounding boxes intersect the box, as per
+	 * {@link World#getEntitiesWithinAABB}, but using this tick's shared snapshot when possible
+	 */
+	public List<EntityLivingBase> getLivingEntitiesWithin(World world, AxisAlignedBB box) {
+		if (world.isRemote) {
+			return world.getEntitiesWithinAABB(EntityLivingBase.class, box);
+		}
+		WorldCache cache = worlds.get(world);
+		if (cache == null) {
+			cache = new WorldCache();
+			worlds.put(world, cache);
+		}
+		long time = world.getTotalWorldTime();
+		if (cache.time != time) {
+			cache.time = time;
+			cache.cells.clear();
+		}
+		List<EntityLivingBase> found = new ArrayList<EntityLivingBase>();
+		int minX = MathHelper.floor_double(box.minX - MAX_ENTITY_RADIUS) >> 4;
+		int maxX = MathHelper.floor_double(box.maxX + MAX_ENTITY_RADIUS) >> 4;
+		// entities extend upwards from their position, so tall ones may be stored a whole cell below the box
+		int minY = (MathHelper.floor_double(box.minY - MAX_ENTITY_RADIUS) >> 4) - 1;
+		int maxY = MathHelper.floor_double(box.maxY + MAX_ENTITY_RADIUS) >> 4;
+		int minZ = MathHelper.floor_double(box.minZ - MAX_ENTITY_RADIUS) >> 4;
+		int maxZ = MathHelper.floor_double(box.maxZ + MAX_ENTITY_RADIUS) >> 4;
+		for (int cx = minX; cx <= maxX; ++cx) {
+			for (int cy = minY; cy <= maxY; ++cy) {
+				for (int cz = minZ; cz <= maxZ; ++cz) {
+					for (EntityLivingBase entity : cache.getCell(world, cx, cy, cz)) {
+						if (entity.getEntityBoundingBox().intersectsWith(box)) {
+							found.add(entity);
+						}
+					}
+				}
+			}
+		}
+		return found;
+	}
+
+	@SubscribeEvent
+	public void onWorldUnload(WorldEvent.Unload event) {
+		worlds.remove(event.world);
+	}
+
+	private static class WorldCache
+	{
+		/** World time at which the current cells were snapshot */
+		private long time = -1L;
+
+		private final Map<Long, List<EntityLivingBase>> cells = new HashMap<Long, List<EntityLivingBase>>();
+
+		private List<EntityLivingBase> getCell(World world, int cx, int cy, int cz) {
+			Long key = ((long) cx & 0x3FFFFFFL) << 38 | ((long) cz & 0x3FFFFFFL) << 12 | ((long) cy & 0xFFFL);
+			List<EntityLivingBase> cell = cells.get(key);
+			if (cell == null) {
+				double x = cx << 4, y = cy << 4, z = cz << 4;
+				AxisAlignedBB bb = new AxisAlignedBB(x, y, z, x + 16.0D, y + 16.0D, z + 16.0D);
+				cell = new ArrayList<EntityLivingBase>();
+				for (EntityLivingBase entity : world.getEntitiesWithinAABB(EntityLivingBase.class, bb)) {
+					if (MathHelper.floor_double(entity.posX) >> 4 == cx && MathHelper.floor_double(entity.posY) >> 4 == cy && MathHelper.floor_double(entity.posZ) >> 4 == cz) {
+						cell.add(entity);
+					}
+				}
+				cells.put(key, cell);
+			}
+			return cell;
+		}
+	}
+}
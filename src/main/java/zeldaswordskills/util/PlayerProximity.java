@@ -0,0 +1,165 @@
+/**
+    Copyright (C) <2015> <coolAlias>
+
+    This file is part of coolAlias' Zelda Sword Skills Minecraft Mod; as such,
+    you can redistribute it and/or modify it under the terms of the GNU
+    General Public License as published by the Free Software Foundation,
+    either version 3 of the License, or (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package zeldaswordskills.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.util.BlockPos;
+import net.minecraft.util.EntitySelectors;
+import net.minecraft.util.MathHelper;
+import net.minecraft.world.ChunkCoordIntPair;
+import net.minecraft.world.World;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+
+/**
+ *
+ * Replacement for {@link World#getClosestPlayer} and {@link World#getClosestPlayerToEntity}
+ * for mobs and tile entities that look for players frequently.
+ *
+ * The first query made in a server world each tick sorts that world's players into a grid
+ * of chunk columns; every query that tick then only looks at players in the chunks within
+ * range, rather than at every player in the world. Results are the same as the vanilla
+ * methods, including ignoring spectators, except that players who have died or left the world
+ * since the grid was built are also ignored. Client worlds simply use the vanilla methods.
+ *
+ * Callers that do not need to check every tick can use {@link #isStaggeredTick} so that
+ * their checks are spread out over several ticks rather than all falling on the same one.
+ *
+ */
+public class PlayerProximity
+{
+	public static final PlayerProximity INSTANCE = new PlayerProximity();
+
+	/** Extra distance searched to allow for players that have moved since the grid was built */
+	private static final double MARGIN = 2.0D;
+
+	private final Map<World, PlayerGrid> worlds = new HashMap<World, PlayerGrid>();
+
+	private PlayerProximity() {}
+
+	/**
+	 * Returns true if this is the tick on which the entity should perform a check made once
+	 * every interval ticks; different entities are offset from each other by their id
+	 */
+	public static boolean isStaggeredTick(Entity entity, int interval) {
+		return interval < 2 || (entity.ticksExisted + entity.getEntityId()) % interval == 0;
+	}
+
+	/**
+	 * Returns true if this is the tick on which a check made at the position once every
+	 * interval ticks should be performed; different positions are offset from each other
+	 */
+	public static boolean isStaggeredTick(World world, BlockPos pos, int interval) {
+		return interval < 2 || ((world.getTotalWorldTime() + (pos.hashCode() & Integer.MAX_VALUE)) % interval) == 0;
+	}
+
+	/**
+	 * Returns the closest player to the entity within the given distance, as per {@link World#getClosestPlayerToEntity}
+	 */
+	public EntityPlayer getClosestPlayerToEntity(Entity entity, double distance) {
+		return getClosestPlayer(entity.worldObj, entity.posX, entity.posY, entity.posZ, distance);
+	}
+
+	/**
+	 * Returns the closest player within the given distance, as per {@link World#getClosestPlayer};
+	 * a negative distance does not limit the search
+	 */
+	public EntityPlayer getClosestPlayer(World world, double x, double y, double z, double distance) {
+		if (world.isRemote || distance < 0.0D) {
+			return world.getClosestPlayer(x, y, z, distance);
+		}
+		EntityPlayer closest = null;
+		double closestSq = -1.0D;
+		double maxSq = distance * distance;
+		PlayerGrid grid = getGrid(world);
+		int minX = MathHelper.floor_double(x - distance - MARGIN) >> 4, maxX = MathHelper.floor_double(x + distance + MARGIN) >> 4;
+		int minZ = MathHelper.floor_double(z - distance - MARGIN) >> 4, maxZ = MathHelper.floor_double(z + distance + MARGIN) >> 4;
+		for (int cx = minX; cx <= maxX; ++cx) {
+			for (int cz = minZ; cz <= maxZ; ++cz) {
+				List<EntityPlayer> players = grid.chunks.get(ChunkCoordIntPair.chunkXZ2Int(cx, cz));
+				if (players == null) {
+					continue;
+				}
+				for (EntityPlayer player : players) {
+					// the grid is only built once per tick, so players may have died or left the world since
+					if (player.worldObj == world && !player.isDead && EntitySelectors.NOT_SPECTATING.apply(player)) {
+						double d = player.getDistanceSq(x, y, z);
+						if (d < maxSq && (closestSq < 0.0D || d < closestSq)) {
+							closest = player;
+							closestSq = d;
+						}
+					}
+				}
+			}
+		}
+		return closest;
+	}
+
+	/**
+	 * Returns true if any player, not counting spectators, is within the given distance of the position
+	 */
+	public boolean isPlayerWithin(World world, double x, double y, double z, double distance) {
+		return getClosestPlayer(world, x, y, z, distance) != null;
+	}
+
+	@SubscribeEvent
+	public void onWorldUnload(WorldEvent.Unload event) {
+		worlds.remove(event.world);
+	}
+
+	/**
+	 * Returns the world's player grid, rebuilding it first if it was built on an earlier tick
+	 */
+	private PlayerGrid getGrid(World world) {
+		PlayerGrid grid = worlds.get(world);
+		if (grid == null) {
+			grid = new PlayerGrid();
+			worlds.put(world, grid);
+		}
+		long time = world.getTotalWorldTime();
+		if (grid.time != time) {
+			grid.time = time;
+			grid.chunks.clear();
+			for (EntityPlayer player : world.playerEntities) {
+				long key = ChunkCoordIntPair.chunkXZ2Int(MathHelper.floor_double(player.posX) >> 4, MathHelper.floor_double(player.posZ) >> 4);
+				List<EntityPlayer> players = grid.chunks.get(key);
+				if (players == null) {
+					players = new ArrayList<EntityPlayer>(2);
+					grid.chunks.put(key, players);
+				}
+				players.add(player);
+			}
+		}
+		return grid;
+	}
+
+	private static class PlayerGrid
+	{
+		/** World time at which the grid was last built */
+		private long time = -1L;
+
+		/** Players in each chunk column, keyed by chunk coordinates */
+		private final Map<Long, List<EntityPlayer>> chunks = new HashMap<Long, List<EntityPlayer>>();
+	}
+}
@@ -0,0 +1,68 @@
+/**
+    Copyright (C) <2015> <coolAlias>
+
+    This file is part of coolAlias' Zelda Sword Skills Minecraft Mod; as such,
+    you can redistribute it and/or modify it under the terms of the GNU
+    General Public License as published by the Free Software Foundation,
+    either version 3 of the License, or (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package zeldaswordskills.util;
+
+import net.minecraft.entity.Entity;
+import net.minecraft.util.BlockPos;
+import net.minecraft.util.MathHelper;
+
+/**
+ *
+ * Remembers whether an entity could see the sky from the block it was last checked in,
+ * so that {@link TargetUtils#canSeeSky} only needs to be called again once the entity
+ * moves into a different block or the result has expired, e.g. due to blocks placed
+ * or broken overhead.
+ *
+ * Each entity needs its own instance.
+ *
+ */
+public class SkyExposure
+{
+	/** Number of ticks for which a result remains valid while the entity stays in the same block */
+	private final int expiry;
+
+	private int lastX, lastY, lastZ;
+
+	/** World time at which the current result expires; Long.MIN_VALUE while there is no result */
+	private long expiresAt = Long.MIN_VALUE;
+
+	private boolean canSeeSky;
+
+	public SkyExposure(int expiry) {
+		this.expiry = expiry;
+	}
+
+	/**
+	 * Returns true if the entity has an unimpeded view of the sky, using the previous
+	 * result if the entity is still in the same block and it has not yet expired
+	 */
+	public boolean canSeeSky(Entity entity) {
+		int x = MathHelper.floor_double(entity.posX);
+		int y = MathHelper.floor_double(entity.posY);
+		int z = MathHelper.floor_double(entity.posZ);
+		long time = entity.worldObj.getTotalWorldTime();
+		if (time >= expiresAt || x != lastX || y != lastY || z != lastZ) {
+			canSeeSky = TargetUtils.canSeeSky(entity.worldObj, new BlockPos(x, y, z));
+			lastX = x;
+			lastY = y;
+			lastZ = z;
+			expiresAt = time + expiry;
+		}
+		return canSeeSky;
+	}
+}
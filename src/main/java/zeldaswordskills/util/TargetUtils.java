@@ -20,6 +20,8 @@ package zeldaswordskills.util;
 import java.util.ArrayList;
 import java.util.List;
 
+import net.minecraft.block.Block;
+import net.minecraft.block.material.Material;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.client.Minecraft;
 import net.minecraft.enchantment.Enchantment;
@@ -36,6 +38,7 @@ import net.minecraft.util.MathHelper;
 import net.minecraft.util.MovingObjectPosition;
 import net.minecraft.util.Vec3;
 import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
 import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
 
@@ -220,6 +223,68 @@ public class TargetUtils
 		return targets;
 	}
 
+	/**
+	 * Returns those of the candidates that {@link #acquireAllLookTargets} would find, without
+	 * querying the world; use when the possible targets are already known, e.g. each tick of
+	 * an attack whose targets were chosen when it began. Sight is only checked for candidates
+	 * crossed by the seeker's line of sight.
+	 */
+	public static final List<EntityLivingBase> filterLookTargets(EntityLivingBase seeker, List<? extends EntityLivingBase> candidates, int distance, double radius) {
+		List<EntityLivingBase> targets = new ArrayList<EntityLivingBase>();
+		if (candidates.isEmpty()) {
+			return targets;
+		}
+		if (distance < 0 || distance > MAX_DISTANCE) {
+			distance = MAX_DISTANCE;
+		}
+		Vec3 vec3 = seeker.getLookVec();
+		double step = vec3.lengthVector();
+		for (EntityLivingBase target : candidates) {
+			if (target == seeker || !target.canBeCollidedWith()) {
+				continue;
+			}
+			AxisAlignedBB bb = target.getEntityBoundingBox().expand(radius, radius, radius);
+			double targetX = seeker.posX;
+			double targetY = seeker.posY + seeker.getEyeHeight() - 0.10000000149011612D;
+			double targetZ = seeker.posZ;
+			double distanceTraveled = 0;
+			while ((int) distanceTraveled < distance) {
+				targetX += vec3.xCoord;
+				targetY += vec3.yCoord;
+				targetZ += vec3.zCoord;
+				distanceTraveled += step;
+				if (targetX > bb.minX && targetX < bb.maxX && targetY > bb.minY && targetY < bb.maxY && targetZ > bb.minZ && targetZ < bb.maxZ) {
+					if (isTargetInSight(vec3, seeker, target)) {
+						targets.add(target);
+					}
+					break;
+				}
+			}
+		}
+		return targets;
+	}
+
+	/**
+	 * Returns all living entities that the seeker can see whose bounding boxes, expanded by the radius
+	 * given, are crossed by the line segment from start to end. Only a single entity query covering the
+	 * segment is made, so the segment should already be limited to what the seeker can reach, e.g. by
+	 * {@link WorldUtils#traceBlocksAlongRay}.
+	 */
+	public static final List<EntityLivingBase> acquireAllTargetsAlong(EntityLivingBase seeker, Vec3 start, Vec3 end, double radius) {
+		List<EntityLivingBase> targets = new ArrayList<EntityLivingBase>();
+		AxisAlignedBB bb = new AxisAlignedBB(start.xCoord, start.yCoord, start.zCoord, end.xCoord, end.yCoord, end.zCoord).expand(radius, radius, radius);
+		List<EntityLivingBase> list = seeker.worldObj.getEntitiesWithinAABB(EntityLivingBase.class, bb);
+		for (EntityLivingBase target : list) {
+			if (target != seeker && target.canBeCollidedWith()) {
+				AxisAlignedBB box = target.getEntityBoundingBox().expand(radius, radius, radius);
+				if ((box.isVecInside(start) || box.calculateIntercept(start, end) != null) && seeker.canEntityBeSeen(target)) {
+					targets.add(target);
+				}
+			}
+		}
+		return targets;
+	}
+
 	/**
 	 * Returns whether the target is in the seeker's field of view based on relative position
 	 * @param fov seeker's field of view; a wider angle returns true more often
@@ -321,12 +386,30 @@ public class TargetUtils
 	 * Returns true if the entity has an unimpeded view of the sky
 	 */
 	public static boolean canEntitySeeSky(World world, Entity entity) {
-		BlockPos pos = new BlockPos(entity);
-		while (pos.getY() < world.getActualHeight()) {
-			if (!world.isAirBlock(pos)) {
+		return canSeeSky(world, new BlockPos(entity));
+	}
+
+	/**
+	 * Returns true if there are only air blocks from the position given (inclusive) to the top of the world.
+	 * Anything below the chunk's height map has an opaque block above it, and every storage section above
+	 * the highest filled one is empty, so at most the blocks in between need to be checked individually.
+	 */
+	public static boolean canSeeSky(World world, BlockPos pos) {
+		int maxY = world.getActualHeight();
+		if (pos.getY() >= maxY) {
+			return true;
+		}
+		int x = pos.getX(), z = pos.getZ();
+		Chunk chunk = world.getChunkFromBlockCoords(pos);
+		if (pos.getY() < chunk.getHeightValue(x & 15, z & 15)) {
+			return false;
+		}
+		maxY = Math.min(maxY, chunk.getTopFilledSegment() + 16);
+		for (int y = Math.max(pos.getY(), 0); y < maxY; ++y) {
+			Block block = chunk.getBlock(x & 15, y, z & 15);
+			if (block.getMaterial() != Material.air && !block.isAir(world, new BlockPos(x, y, z))) {
 				return false;
 			}
-			pos = pos.up();
 		}
 		return true;
 	}
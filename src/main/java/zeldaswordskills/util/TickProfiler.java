@@ -0,0 +1,349 @@
+/**
+    Copyright (C) <2015> <coolAlias>
+
+    This file is part of coolAlias' Zelda Sword Skills Minecraft Mod; as such,
+    you can redistribute it and/or modify it under the terms of the GNU
+    General Public License as published by the Free Software Foundation,
+    either version 3 of the License, or (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package zeldaswordskills.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import net.minecraft.entity.Entity;
+import net.minecraft.util.BlockPos;
+import net.minecraft.world.World;
+
+/**
+ *
+ * Lightweight timing counters for the mod's own server-side work, so that operators
+ * can see which part of the mod is costing tick time (see /zssprofiler).
+ *
+ * Usage is always a pair of calls around the profiled code:
+ *
+ * 		long start = TickProfiler.start(world);
+ * 		... // do work
+ * 		TickProfiler.end(Section.SOMETHING, start, world, pos);
+ *
+ * While the profiler is not running, {@link #start} returns 0 and {@link #end} does
+ * nothing, so the cost of an idle profiler is a single field read per call site.
+ * Client worlds are never profiled.
+ *
+ */
+public class TickProfiler
+{
+	/** Maximum number of distinct positions tracked per section; further positions are only counted in the totals */
+	private static final int MAX_LOCATIONS = 4096;
+
+	public static enum Section {
+		WORLD_GEN("worldgen", true),
+		DUNGEON_CORE("dungeon_core", false),
+		CERAMIC_JAR("ceramic_jar", false),
+		ENTITY_INFO("entity_info", true),
+		PLAYER_INFO("player_info", true),
+		EXPLOSION("explosion", true),
+		PACKETS("packets", true);
+
+		/** Name used in commands and reports */
+		public final String name;
+
+		/** Whether positions are grouped by chunk rather than tracked per block, e.g. for moving entities */
+		public final boolean byChunk;
+
+		private Section(String name, boolean byChunk) {
+			this.name = name;
+			this.byChunk = byChunk;
+		}
+
+		/** Returns the section matching the name given, or null */
+		public static Section fromName(String name) {
+			for (Section section : values()) {
+				if (section.name.equalsIgnoreCase(name)) {
+					return section;
+				}
+			}
+			return null;
+		}
+	}
+
+	private static volatile boolean enabled;
+
+	/** Time at which the current profiling session started */
+	private static long startedAt;
+
+	/** Time at which the last profiling session stopped, or 0 while running */
+	private static long stoppedAt;
+
+	private static final SectionStats[] stats = new SectionStats[Section.values().length];
+
+	static {
+		for (int i = 0; i < stats.length; ++i) {
+			stats[i] = new SectionStats();
+		}
+	}
+
+	private TickProfiler() {}
+
+	/** Clears all previous results and begins profiling */
+	public static synchronized void startProfiling() {
+		for (SectionStats s : stats) {
+			s.reset();
+		}
+		startedAt = System.nanoTime();
+		stoppedAt = 0L;
+		enabled = true;
+	}
+
+	/** Stops profiling; results remain available until the next session is started */
+	public static synchronized void stopProfiling() {
+		if (enabled) {
+			enabled = false;
+			stoppedAt = System.nanoTime();
+		}
+	}
+
+	public static boolean isProfiling() {
+		return enabled;
+	}
+
+	/** Returns true if there are results from a current or previous session */
+	public static boolean hasResults() {
+		return startedAt != 0L;
+	}
+
+	/** Returns the length of the current or last profiling session, in seconds */
+	public static double getElapsedSeconds() {
+		long end = (stoppedAt == 0L ? System.nanoTime() : stoppedAt);
+		return Math.max(end - startedAt, 1L) / 1.0E9D;
+	}
+
+	/**
+	 * Returns the start time to pass to one of the #end methods, or 0 if the profiler is not running
+	 */
+	public static long start() {
+		return (enabled ? System.nanoTime() : 0L);
+	}
+
+	/**
+	 * Returns the start time to pass to one of the #end methods, or 0 if the profiler is
+	 * not running or the world is a client world
+	 */
+	public static long start(World world) {
+		return (enabled && !world.isRemote ? System.nanoTime() : 0L);
+	}
+
+	/**
+	 * Records the time elapsed since start without any position information
+	 */
+	public static void end(Section section, long start) {
+		if (start != 0L) {
+			record(section, System.nanoTime() - start, null, 0);
+		}
+	}
+
+	/**
+	 * Records the time elapsed since start against the entity's current position
+	 */
+	public static void end(Section section, long start, Entity entity) {
+		if (start != 0L) {
+			record(section, System.nanoTime() - start, new BlockPos(entity), entity.dimension);
+		}
+	}
+
+	/**
+	 * Records the time elapsed since start against the given world position
+	 */
+	public static void end(Section section, long start, World world, BlockPos pos) {
+		if (start != 0L) {
+			record(section, System.nanoTime() - start, pos, world.provider.getDimensionId());
+		}
+	}
+
+	/**
+	 * Records the time elapsed since start against the given world coordinates
+	 */
+	public static void end(Section section, long start, World world, double x, double y, double z) {
+		if (start != 0L) {
+			record(section, System.nanoTime() - start, new BlockPos(x, y, z), world.provider.getDimensionId());
+		}
+	}
+
+	/**
+	 * Records the time elapsed since start against the given coordinates in the dimension
+	 */
+	public static void end(Section section, long start, int dimension, double x, double y, double z) {
+		if (start != 0L) {
+			record(section, System.nanoTime() - start, new BlockPos(x, y, z), dimension);
+		}
+	}
+
+	private static void record(Section section, long nanos, BlockPos pos, int dimension) {
+		if (pos != null && section.byChunk) {
+			pos = new BlockPos((pos.getX() >> 4) << 4, 0, (pos.getZ() >> 4) << 4);
+		}
+		stats[section.ordinal()].add(nanos, pos, dimension);
+	}
+
+	/**
+	 * Returns a snapshot of the results for the section
+	 */
+	public static Result getResult(Section section) {
+		return stats[section.ordinal()].toResult(section);
+	}
+
+	/**
+	 * Returns up to max locations for the section, sorted by total time spent, highest first
+	 */
+	public static List<Location> getWorstOffenders(Section section, int max) {
+		List<Location> list = stats[section.ordinal()].copyLocations();
+		Collections.sort(list, Location.BY_TIME);
+		return (list.size() > max ? list.subList(0, max) : list);
+	}
+
+	/**
+	 * Immutable snapshot of one section's totals
+	 */
+	public static class Result
+	{
+		public final Section section;
+		public final long calls;
+		public final long totalNanos;
+		public final long maxNanos;
+
+		private Result(Section section, long calls, long totalNanos, long maxNanos) {
+			this.section = section;
+			this.calls = calls;
+			this.totalNanos = totalNanos;
+			this.maxNanos = maxNanos;
+		}
+
+		/** Average number of calls per second over the profiling session */
+		public double getCallsPerSecond() {
+			return calls / getElapsedSeconds();
+		}
+
+		/** Average milliseconds of tick time spent per second over the profiling session */
+		public double getMillisPerSecond() {
+			return (totalNanos / 1.0E6D) / getElapsedSeconds();
+		}
+
+		/** Average cost of a single call, in microseconds */
+		public double getAverageMicros() {
+			return (calls == 0 ? 0.0D : (totalNanos / 1.0E3D) / calls);
+		}
+	}
+
+	/**
+	 * Accumulated time for one position in one dimension
+	 */
+	public static class Location
+	{
+		private static final Comparator<Location> BY_TIME = new Comparator<Location>() {
+			@Override
+			public int compare(Location a, Location b) {
+				return (a.totalNanos < b.totalNanos ? 1 : a.totalNanos > b.totalNanos ? -1 : 0);
+			}
+		};
+
+		public final int dimension;
+		public final BlockPos pos;
+		private long calls;
+		private long totalNanos;
+
+		private Location(int dimension, BlockPos pos) {
+			this.dimension = dimension;
+			this.pos = pos;
+		}
+
+		private Location(Location copy) {
+			this(copy.dimension, copy.pos);
+			this.calls = copy.calls;
+			this.totalNanos = copy.totalNanos;
+		}
+
+		public long getCalls() {
+			return calls;
+		}
+
+		public long getTotalNanos() {
+			return totalNanos;
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * pos.hashCode() + dimension;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			} else if (!(o instanceof Location)) {
+				return false;
+			}
+			Location other = (Location) o;
+			return dimension == other.dimension && pos.equals(other.pos);
+		}
+	}
+
+	private static class SectionStats
+	{
+		private long calls;
+		private long totalNanos;
+		private long maxNanos;
+		private final Map<Location, Location> locations = new HashMap<Location, Location>();
+
+		synchronized void reset() {
+			calls = 0;
+			totalNanos = 0;
+			maxNanos = 0;
+			locations.clear();
+		}
+
+		synchronized void add(long nanos, BlockPos pos, int dimension) {
+			++calls;
+			totalNanos += nanos;
+			if (nanos > maxNanos) {
+				maxNanos = nanos;
+			}
+			if (pos != null) {
+				Location key = new Location(dimension, pos);
+				Location location = locations.get(key);
+				if (location == null && locations.size() < MAX_LOCATIONS) {
+					location = key;
+					locations.put(key, key);
+				}
+				if (location != null) {
+					++location.calls;
+					location.totalNanos += nanos;
+				}
+			}
+		}
+
+		synchronized Result toResult(Section section) {
+			return new Result(section, calls, totalNanos, maxNanos);
+		}
+
+		synchronized List<Location> copyLocations() {
+			List<Location> list = new ArrayList<Location>(locations.size());
+			for (Location location : locations.values()) {
+				list.add(new Location(location));
+			}
+			return list;
+		}
+	}
+}
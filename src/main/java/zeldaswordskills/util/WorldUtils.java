@@ -18,6 +18,7 @@
 package zeldaswordskills.util;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Random;
@@ -366,6 +367,62 @@ public class WorldUtils
 		return hashset;
 	}
 
+	/**
+	 * Adds every block the ray passes through to the collection, in order, using a single voxel traversal
+	 * (Amanatides-Woo) rather than one ray trace per block. The block containing the start position is
+	 * not included. The ray stops after the first non-liquid block whose material blocks light, which is
+	 * included, or upon reaching an unloaded block. Liquids never stop the ray, just as they are ignored
+	 * by {@link World#rayTraceBlocks}, so e.g. a beam cast into water passes through every water block.
+	 * @param dir		Normalized direction of the ray
+	 * @param blocks	Collection to which block positions are added; may be null if only the distance is needed
+	 * @return			Distance along the ray at which it was stopped, or maxDistance if it was not
+	 */
+	public static double traceBlocksAlongRay(World world, Vec3 start, Vec3 dir, double maxDistance, Collection<BlockPos> blocks) {
+		int x = MathHelper.floor_double(start.xCoord);
+		int y = MathHelper.floor_double(start.yCoord);
+		int z = MathHelper.floor_double(start.zCoord);
+		int stepX = (dir.xCoord > 0.0D ? 1 : (dir.xCoord < 0.0D ? -1 : 0));
+		int stepY = (dir.yCoord > 0.0D ? 1 : (dir.yCoord < 0.0D ? -1 : 0));
+		int stepZ = (dir.zCoord > 0.0D ? 1 : (dir.zCoord < 0.0D ? -1 : 0));
+		// distance along the ray needed to cross one whole block on each axis
+		double deltaX = (stepX == 0 ? Double.MAX_VALUE : Math.abs(1.0D / dir.xCoord));
+		double deltaY = (stepY == 0 ? Double.MAX_VALUE : Math.abs(1.0D / dir.yCoord));
+		double deltaZ = (stepZ == 0 ? Double.MAX_VALUE : Math.abs(1.0D / dir.zCoord));
+		// distance along the ray at which the next block boundary on each axis is crossed
+		double nextX = (stepX == 0 ? Double.MAX_VALUE : (stepX > 0 ? x + 1 - start.xCoord : start.xCoord - x) * deltaX);
+		double nextY = (stepY == 0 ? Double.MAX_VALUE : (stepY > 0 ? y + 1 - start.yCoord : start.yCoord - y) * deltaY);
+		double nextZ = (stepZ == 0 ? Double.MAX_VALUE : (stepZ > 0 ? z + 1 - start.zCoord : start.zCoord - z) * deltaZ);
+		while (true) {
+			double t;
+			if (nextX < nextY && nextX < nextZ) {
+				t = nextX;
+				x += stepX;
+				nextX += deltaX;
+			} else if (nextY < nextZ) {
+				t = nextY;
+				y += stepY;
+				nextY += deltaY;
+			} else {
+				t = nextZ;
+				z += stepZ;
+				nextZ += deltaZ;
+			}
+			if (t > maxDistance) {
+				return maxDistance;
+			}
+			BlockPos pos = new BlockPos(x, y, z);
+			if (!world.isBlockLoaded(pos)) {
+				return t;
+			} else if (blocks != null) {
+				blocks.add(pos);
+			}
+			Material material = world.getBlockState(pos).getBlock().getMaterial();
+			if (material.blocksLight() && !material.isLiquid()) {
+				return t;
+			}
+		}
+	}
+
 	/**
 	 * Returns a list of all Tile Entities matching the class given within the bounding box
 	 */
@@ -0,0 +1,589 @@
+/**
+    Copyright (C) <2015> <coolAlias>
+
+    This file is part of coolAlias' Zelda Sword Skills Minecraft Mod; as such,
+    you can redistribute it and/or modify it under the terms of the GNU
+    General Public License as published by the Free Software Foundation,
+    either version 3 of the License, or (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package zeldaswordskills.world;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import net.minecraft.block.Block;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
+import net.minecraft.network.PacketBuffer;
+import net.minecraft.server.management.PlayerManager;
+import net.minecraft.util.BlockPos;
+import net.minecraft.world.ChunkCoordIntPair;
+import net.minecraft.world.IBlockAccess;
+import net.minecraft.world.World;
+import net.minecraft.world.WorldServer;
+import net.minecraftforge.common.util.Constants;
+import net.minecraftforge.event.world.ChunkDataEvent;
+import net.minecraftforge.event.world.ChunkEvent;
+import net.minecraftforge.event.world.ChunkWatchEvent;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent;
+import zeldaswordskills.block.BlockDungeonStone;
+import zeldaswordskills.network.PacketDispatcher;
+import zeldaswordskills.network.client.SyncDungeonStonePacket;
+import zeldaswordskills.ref.ModInfo;
+
+/**
+ *
+ * Stores the render state of every {@link BlockDungeonStone} as a per-chunk palette
+ * instead of in a tile entity for each block.
+ *
+ * Each chunk's states are saved alongside the chunk data and sent to each player as they
+ * start watching the chunk, as well as at the end of any world tick in which they changed.
+ * Tile entities from before this storage was used are converted as their chunk is loaded.
+ *
+ * Server data is only accessed from the server thread and is modified in place, while client
+ * data may also be read from the chunk render threads and so is only ever replaced, never modified.
+ *
+ */
+public class DungeonStoneRenderStates
+{
+	public static final DungeonStoneRenderStates INSTANCE = new DungeonStoneRenderStates();
+
+	/** Tag in the chunk data under which each chunk's render states are saved */
+	private static final String TAG_NAME = "zssDungeonStone";
+
+	/** Id of the tile entity previously used to store each dungeon stone's render state */
+	private static final String LEGACY_TILE_ID = ModInfo.ID + ":tileEntityDungeonStone";
+
+	/** Render states for each server world, only for chunks that contain any */
+	private final Map<World, WorldData> serverWorlds = new HashMap<World, WorldData>();
+
+	/** Render states for each chunk in the client world that contains any */
+	private final Map<Long, ChunkStates> clientChunks = new ConcurrentHashMap<Long, ChunkStates>();
+
+	private DungeonStoneRenderStates() {}
+
+	/**
+	 * Returns the render state stored for the position, or null if there isn't one
+	 */
+	public IBlockState getRenderState(IBlockAccess world, BlockPos pos) {
+		if (pos.getY() < 0 || pos.getY() > 255) {
+			return null;
+		}
+		long key = ChunkCoordIntPair.chunkXZ2Int(pos.getX() >> 4, pos.getZ() >> 4);
+		if (isServerWorld(world)) {
+			WorldData data = serverWorlds.get(world);
+			MutableChunkStates states = (data == null ? null : data.loaded.get(key));
+			return (states == null ? null : states.get(pack(pos)));
+		}
+		ChunkStates states = clientChunks.get(key);
+		return (states == null ? null : states.get(pack(pos)));
+	}
+
+	/**
+	 * Sets the render state for the position, or removes it if the state is null;
+	 * server-side changes are saved with the chunk and sent to all watching players
+	 * at the end of the tick
+	 */
+	public void setRenderState(World world, BlockPos pos, IBlockState state) {
+		if (pos.getY() < 0 || pos.getY() > 255) {
+			return;
+		}
+		int chunkX = pos.getX() >> 4;
+		int chunkZ = pos.getZ() >> 4;
+		long key = ChunkCoordIntPair.chunkXZ2Int(chunkX, chunkZ);
+		if (!isServerWorld(world)) {
+			setClientRenderState(key, pack(pos), state);
+			return;
+		}
+		WorldData data = getWorldData(world);
+		MutableChunkStates states = data.loaded.get(key);
+		if (states == null) {
+			if (state == null) {
+				return;
+			}
+			states = new MutableChunkStates();
+			data.loaded.put(key, states);
+		}
+		if (!states.set(pack(pos), state)) {
+			return;
+		} else if (states.isEmpty()) {
+			data.loaded.remove(key);
+		}
+		world.getChunkFromChunkCoords(chunkX, chunkZ).setChunkModified();
+		data.dirty.add(key);
+	}
+
+	/**
+	 * Client-side changes are rare, as the server sends the states for the whole chunk,
+	 * so each one simply replaces the chunk's states with an updated copy
+	 */
+	private void setClientRenderState(long key, int packed, IBlockState state) {
+		ChunkStates states = clientChunks.get(key);
+		if (states == null) {
+			if (state == null) {
+				return;
+			}
+			states = ChunkStates.EMPTY;
+		}
+		ChunkStates updated = (state == null ? states.without(packed) : states.with(packed, state));
+		if (updated == states) {
+			return;
+		} else if (updated.isEmpty()) {
+			clientChunks.remove(key);
+		} else {
+			clientChunks.put(key, updated);
+		}
+	}
+
+	/**
+	 * Sends the current states of each chunk changed during the tick to every player watching it
+	 */
+	@SubscribeEvent
+	public void onWorldTick(TickEvent.WorldTickEvent event) {
+		if (event.phase != TickEvent.Phase.END || !(event.world instanceof WorldServer)) {
+			return;
+		}
+		WorldData data = serverWorlds.get(event.world);
+		if (data == null || data.dirty.isEmpty()) {
+			return;
+		}
+		PlayerManager manager = ((WorldServer) event.world).getPlayerManager();
+		for (Long key : data.dirty) {
+			int chunkX = (int) key.longValue();
+			int chunkZ = (int) (key.longValue() >> 32);
+			SyncDungeonStonePacket packet = null;
+			for (EntityPlayer player : event.world.playerEntities) {
+				if (player instanceof EntityPlayerMP && manager.isPlayerWatchingChunk((EntityPlayerMP) player, chunkX, chunkZ)) {
+					if (packet == null) {
+						MutableChunkStates states = data.loaded.get(key);
+						packet = new SyncDungeonStonePacket(chunkX, chunkZ, (states == null ? ChunkStates.EMPTY : states.toChunkStates()));
+					}
+					PacketDispatcher.sendTo(packet, (EntityPlayerMP) player);
+				}
+			}
+		}
+		data.dirty.clear();
+	}
+
+	/**
+	 * Replaces the client's render states for the chunk with those received from the server
+	 */
+	public void onStatesReceived(World world, int chunkX, int chunkZ, ChunkStates states) {
+		long key = ChunkCoordIntPair.chunkXZ2Int(chunkX, chunkZ);
+		if (states.isEmpty()) {
+			clientChunks.remove(key);
+		} else {
+			clientChunks.put(key, states);
+		}
+		world.markBlockRangeForRenderUpdate(chunkX << 4, 0, chunkZ << 4, (chunkX << 4) + 15, 255, (chunkZ << 4) + 15);
+	}
+
+	@SubscribeEvent
+	public void onChunkDataLoad(ChunkDataEvent.Load event) {
+		NBTTagCompound data = event.getData();
+		MutableChunkStates states = null;
+		if (data.hasKey(TAG_NAME, Constants.NBT.TAG_COMPOUND)) {
+			states = new MutableChunkStates(ChunkStates.readFromNBT(data.getCompoundTag(TAG_NAME)));
+		}
+		// convert any tile entities from before render states were stored per chunk
+		boolean converted = false;
+		NBTTagList tiles = data.getCompoundTag("Level").getTagList("TileEntities", Constants.NBT.TAG_COMPOUND);
+		for (int i = 0; i < tiles.tagCount(); ++i) {
+			NBTTagCompound tag = tiles.getCompoundTagAt(i);
+			if (LEGACY_TILE_ID.equals(tag.getString("id"))) {
+				int blockId = (tag.hasKey("renderBlock") ? tag.getInteger("renderBlock") : -1);
+				Block block = (blockId > -1 ? Block.getBlockById(blockId) : null);
+				int y = tag.getInteger("y");
+				if (block != null && y >= 0 && y < 256) {
+					if (states == null) {
+						states = new MutableChunkStates();
+					}
+					states.set(pack(tag.getInteger("x"), y, tag.getInteger("z")), block.getStateFromMeta(tag.getInteger("renderMetadata")));
+					converted = true;
+				}
+			}
+		}
+		if (converted) {
+			event.getChunk().setChunkModified();
+		}
+		if (states != null && !states.isEmpty()) {
+			getWorldData(event.world).loaded.put(ChunkCoordIntPair.chunkXZ2Int(event.getChunk().xPosition, event.getChunk().zPosition), states);
+		}
+	}
+
+	@SubscribeEvent
+	public void onChunkDataSave(ChunkDataEvent.Save event) {
+		WorldData data = serverWorlds.get(event.world);
+		if (data != null) {
+			long key = ChunkCoordIntPair.chunkXZ2Int(event.getChunk().xPosition, event.getChunk().zPosition);
+			MutableChunkStates states = data.loaded.get(key);
+			if (states == null) {
+				// chunks are saved after they unload
+				states = data.unloading.remove(key);
+			}
+			if (states != null) {
+				NBTTagCompound tag = new NBTTagCompound();
+				states.toChunkStates().writeToNBT(tag);
+				event.getData().setTag(TAG_NAME, tag);
+			}
+		}
+	}
+
+	@SubscribeEvent
+	public void onChunkUnload(ChunkEvent.Unload event) {
+		long key = ChunkCoordIntPair.chunkXZ2Int(event.getChunk().xPosition, event.getChunk().zPosition);
+		if (event.world.isRemote) {
+			clientChunks.remove(key);
+		} else {
+			WorldData data = serverWorlds.get(event.world);
+			MutableChunkStates states = (data == null ? null : data.loaded.remove(key));
+			if (states != null) {
+				data.unloading.put(key, states);
+			}
+			if (data != null) {
+				data.dirty.remove(key);
+			}
+		}
+	}
+
+	@SubscribeEvent
+	public void onChunkWatch(ChunkWatchEvent.Watch event) {
+		WorldData data = serverWorlds.get(event.player.worldObj);
+		MutableChunkStates states = (data == null ? null : data.loaded.get(ChunkCoordIntPair.chunkXZ2Int(event.chunk.chunkXPos, event.chunk.chunkZPos)));
+		if (states != null) {
+			PacketDispatcher.sendTo(new SyncDungeonStonePacket(event.chunk.chunkXPos, event.chunk.chunkZPos, states.toChunkStates()), event.player);
+		}
+	}
+
+	@SubscribeEvent
+	public void onWorldUnload(WorldEvent.Unload event) {
+		if (event.world.isRemote) {
+			clientChunks.clear();
+		} else {
+			serverWorlds.remove(event.world);
+		}
+	}
+
+	/**
+	 * Returns true for server worlds; anything else is assumed to be the client world or a render cache of it
+	 */
+	private static boolean isServerWorld(IBlockAccess world) {
+		return world instanceof World && !((World) world).isRemote;
+	}
+
+	private WorldData getWorldData(World world) {
+		WorldData data = serverWorlds.get(world);
+		if (data == null) {
+			data = new WorldData();
+			serverWorlds.put(world, data);
+		}
+		return data;
+	}
+
+	/** Returns the chunk-relative position packed into the lowest 16 bits */
+	private static int pack(BlockPos pos) {
+		return pack(pos.getX(), pos.getY(), pos.getZ());
+	}
+
+	private static int pack(int x, int y, int z) {
+		return (y & 255) << 8 | (z & 15) << 4 | (x & 15);
+	}
+
+	private static class WorldData
+	{
+		/** States for currently loaded chunks */
+		final Map<Long, MutableChunkStates> loaded = new HashMap<Long, MutableChunkStates>();
+		/** States for chunks that have unloaded but not yet been saved */
+		final Map<Long, MutableChunkStates> unloading = new HashMap<Long, MutableChunkStates>();
+		/** Chunks whose states have changed since the end of the last tick */
+		final Set<Long> dirty = new HashSet<Long>();
+	}
+
+	/**
+	 *
+	 * Server-side render states for a single chunk, modified in place. The palette only ever grows
+	 * while the chunk is loaded; unused entries are dropped from each {@link ChunkStates} snapshot.
+	 *
+	 */
+	private static final class MutableChunkStates
+	{
+		private final List<IBlockState> palette = new ArrayList<IBlockState>();
+
+		private final Map<IBlockState, Integer> paletteIds = new HashMap<IBlockState, Integer>();
+
+		/** Packed chunk-relative positions, in ascending order, up to size */
+		private int[] positions;
+
+		/** Palette index of the render state for each position */
+		private int[] indices;
+
+		private int size;
+
+		/** Snapshot of the current states, or null if changed since the last one was taken */
+		private ChunkStates snapshot;
+
+		MutableChunkStates() {
+			this.positions = new int[16];
+			this.indices = new int[16];
+		}
+
+		MutableChunkStates(ChunkStates states) {
+			int n = states.positions.length;
+			this.positions = Arrays.copyOf(states.positions, Math.max(n, 16));
+			this.indices = Arrays.copyOf(states.indices, Math.max(n, 16));
+			this.size = n;
+			for (IBlockState state : states.palette) {
+				paletteIds.put(state, palette.size());
+				palette.add(state);
+			}
+			this.snapshot = states;
+		}
+
+		boolean isEmpty() {
+			return size == 0;
+		}
+
+		/** Returns the render state at the packed position, or null */
+		IBlockState get(int packed) {
+			int i = Arrays.binarySearch(positions, 0, size, packed);
+			return (i < 0 ? null : palette.get(indices[i]));
+		}
+
+		/**
+		 * Sets the render state at the packed position, or removes it if the state is null
+		 * @return false if nothing changed
+		 */
+		boolean set(int packed, IBlockState state) {
+			int i = Arrays.binarySearch(positions, 0, size, packed);
+			if (state == null) {
+				if (i < 0) {
+					return false;
+				}
+				System.arraycopy(positions, i + 1, positions, i, size - i - 1);
+				System.arraycopy(indices, i + 1, indices, i, size - i - 1);
+				--size;
+			} else {
+				Integer id = paletteIds.get(state);
+				if (id == null) {
+					id = palette.size();
+					paletteIds.put(state, id);
+					palette.add(state);
+				}
+				if (i >= 0) {
+					if (indices[i] == id) {
+						return false;
+					}
+					indices[i] = id;
+				} else {
+					i = -(i + 1);
+					if (size == positions.length) {
+						positions = Arrays.copyOf(positions, size * 2);
+						indices = Arrays.copyOf(indices, size * 2);
+					}
+					System.arraycopy(positions, i, positions, i + 1, size - i);
+					System.arraycopy(indices, i, indices, i + 1, size - i);
+					positions[i] = packed;
+					indices[i] = id;
+					++size;
+				}
+			}
+			snapshot = null;
+			return true;
+		}
+
+		/** Returns an immutable copy of the current states, e.g. to send or save */
+		ChunkStates toChunkStates() {
+			if (snapshot == null) {
+				int[] remap = new int[palette.size()];
+				Arrays.fill(remap, -1);
+				List<IBlockState> used = new ArrayList<IBlockState>();
+				int[] newIndices = new int[size];
+				for (int i = 0; i < size; ++i) {
+					int id = indices[i];
+					if (remap[id] < 0) {
+						remap[id] = used.size();
+						used.add(palette.get(id));
+					}
+					newIndices[i] = remap[id];
+				}
+				snapshot = new ChunkStates(used.toArray(new IBlockState[used.size()]), Arrays.copyOf(positions, size), newIndices);
+			}
+			return snapshot;
+		}
+	}
+
+	/**
+	 *
+	 * Immutable set of render states for a single chunk, stored as a palette of the
+	 * distinct states used plus a sorted list of positions with a palette index for each.
+	 *
+	 */
+	public static final class ChunkStates
+	{
+		public static final ChunkStates EMPTY = new ChunkStates(new IBlockState[0], new int[0], new int[0]);
+
+		/** Each distinct render state used in the chunk */
+		private final IBlockState[] palette;
+
+		/** Packed chunk-relative positions, in ascending order */
+		private final int[] positions;
+
+		/** Palette index of the render state for each position */
+		private final int[] indices;
+
+		private ChunkStates(IBlockState[] palette, int[] positions, int[] indices) {
+			this.palette = palette;
+			this.positions = positions;
+			this.indices = indices;
+		}
+
+		/**
+		 * Builds a new instance from parallel arrays of positions, in ascending order, and states
+		 */
+		private static ChunkStates create(int[] positions, IBlockState[] states) {
+			Map<IBlockState, Integer> ids = new HashMap<IBlockState, Integer>();
+			IBlockState[] palette = new IBlockState[states.length];
+			int[] indices = new int[states.length];
+			for (int i = 0; i < states.length; ++i) {
+				Integer id = ids.get(states[i]);
+				if (id == null) {
+					id = ids.size();
+					ids.put(states[i], id);
+					palette[id] = states[i];
+				}
+				indices[i] = id;
+			}
+			return new ChunkStates(Arrays.copyOf(palette, ids.size()), positions, indices);
+		}
+
+		public boolean isEmpty() {
+			return positions.length == 0;
+		}
+
+		/** Returns the render state at the packed position, or null */
+		private IBlockState get(int packed) {
+			int i = Arrays.binarySearch(positions, packed);
+			return (i < 0 ? null : palette[indices[i]]);
+		}
+
+		/** Returns a copy with the render state at the packed position set to the state given */
+		private ChunkStates with(int packed, IBlockState state) {
+			int i = Arrays.binarySearch(positions, packed);
+			if (i >= 0 && palette[indices[i]] == state) {
+				return this;
+			}
+			int n = positions.length + (i < 0 ? 1 : 0);
+			int insert = (i < 0 ? -(i + 1) : i);
+			int[] newPositions = new int[n];
+			IBlockState[] newStates = new IBlockState[n];
+			for (int j = 0, k = 0; j < n; ++j) {
+				if (j == insert) {
+					newPositions[j] = packed;
+					newStates[j] = state;
+					if (i >= 0) {
+						++k; // replaced existing entry
+					}
+				} else {
+					newPositions[j] = positions[k];
+					newStates[j] = palette[indices[k++]];
+				}
+			}
+			return create(newPositions, newStates);
+		}
+
+		/** Returns a copy without any render state at the packed position */
+		private ChunkStates without(int packed) {
+			int i = Arrays.binarySearch(positions, packed);
+			if (i < 0) {
+				return this;
+			}
+			int[] newPositions = new int[positions.length - 1];
+			IBlockState[] newStates = new IBlockState[positions.length - 1];
+			for (int j = 0, k = 0; j < positions.length; ++j) {
+				if (j != i) {
+					newPositions[k] = positions[j];
+					newStates[k++] = palette[indices[j]];
+				}
+			}
+			return create(newPositions, newStates);
+		}
+
+		private void writeToNBT(NBTTagCompound compound) {
+			int[] ids = new int[palette.length];
+			for (int i = 0; i < palette.length; ++i) {
+				ids[i] = Block.getStateId(palette[i]);
+			}
+			compound.setIntArray("Palette", ids);
+			compound.setIntArray("Positions", positions);
+			compound.setIntArray("Indices", indices);
+		}
+
+		private static ChunkStates readFromNBT(NBTTagCompound compound) {
+			int[] ids = compound.getIntArray("Palette");
+			int[] positions = compound.getIntArray("Positions");
+			int[] indices = compound.getIntArray("Indices");
+			if (positions.length != indices.length) {
+				return EMPTY;
+			}
+			IBlockState[] palette = new IBlockState[ids.length];
+			for (int i = 0; i < ids.length; ++i) {
+				palette[i] = Block.getStateById(ids[i]);
+			}
+			IBlockState[] states = new IBlockState[positions.length];
+			for (int i = 0; i < positions.length; ++i) {
+				if (indices[i] < 0 || indices[i] >= palette.length || (i > 0 && positions[i] <= positions[i - 1])) {
+					return EMPTY;
+				}
+				states[i] = palette[indices[i]];
+			}
+			return create(positions, states);
+		}
+
+		public void writeToBuffer(PacketBuffer buffer) {
+			buffer.writeVarIntToBuffer(palette.length);
+			for (IBlockState state : palette) {
+				buffer.writeVarIntToBuffer(Block.getStateId(state));
+			}
+			buffer.writeVarIntToBuffer(positions.length);
+			for (int i = 0; i < positions.length; ++i) {
+				buffer.writeShort(positions[i]);
+				buffer.writeVarIntToBuffer(indices[i]);
+			}
+		}
+
+		public static ChunkStates readFromBuffer(PacketBuffer buffer) {
+			IBlockState[] palette = new IBlockState[buffer.readVarIntFromBuffer()];
+			for (int i = 0; i < palette.length; ++i) {
+				palette[i] = Block.getStateById(buffer.readVarIntFromBuffer());
+			}
+			int n = buffer.readVarIntFromBuffer();
+			int[] positions = new int[n];
+			int[] indices = new int[n];
+			for (int i = 0; i < n; ++i) {
+				positions[i] = buffer.readUnsignedShort();
+				indices[i] = buffer.readVarIntFromBuffer();
+			}
+			return new ChunkStates(palette, positions, indices);
+		}
+	}
+}
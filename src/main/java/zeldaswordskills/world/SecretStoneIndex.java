@@ -0,0 +1,225 @@
+/**
+    Copyright (C) <2015> <coolAlias>
+
+    This file is part of coolAlias' Zelda Sword Skills Minecraft Mod; as such,
+    you can redistribute it and/or modify it under the terms of the GNU
+    General Public License as published by the Free Software Foundation,
+    either version 3 of the License, or (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package zeldaswordskills.world;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import net.minecraft.block.Block;
+import net.minecraft.entity.Entity;
+import net.minecraft.util.BlockPos;
+import net.minecraft.world.ChunkCoordIntPair;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
+import net.minecraftforge.event.world.ChunkEvent;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import zeldaswordskills.block.BlockSecretStone;
+
+/**
+ *
+ * Keeps a count of the {@link BlockSecretStone} blocks in each 16x16x16 section of every
+ * loaded server chunk, so that searching an area for secret stone only needs to look
+ * at the blocks of sections which are known to contain some.
+ *
+ * Counts are taken from the raw block storage when a chunk loads and are afterwards kept
+ * up to date by {@link BlockSecretStone#onBlockAdded} and {@link BlockSecretStone#breakBlock},
+ * so they include player-placed blocks and exclude any that have since been destroyed.
+ * Chunks without any secret stone are not stored at all.
+ *
+ */
+public class SecretStoneIndex
+{
+	public static final SecretStoneIndex INSTANCE = new SecretStoneIndex();
+
+	/** Secret stone count for each section, keyed by chunk coordinates, for each loaded server world */
+	private final Map<World, Map<Long, short[]>> worlds = new HashMap<World, Map<Long, short[]>>();
+
+	/** Flags each block state id (i.e. the values used in chunk storage) belonging to a secret stone block */
+	private boolean[] secretStateIds;
+
+	private SecretStoneIndex() {}
+
+	/**
+	 * Returns the squared distance from the entity to the center of the closest secret stone block
+	 * within the box of the given radii around the center position, or -1 if there is none within
+	 * the maximum distance
+	 * @param rxz	Radius of the search box along the x and z axes
+	 * @param ry	Radius of the search box along the y axis
+	 */
+	public double getClosestDistanceSq(World world, BlockPos center, int rxz, int ry, Entity entity, double maxDistSq) {
+		Map<Long, short[]> chunks = worlds.get(world);
+		if (chunks == null || chunks.isEmpty()) {
+			return -1.0D;
+		}
+		boolean[] isSecret = getSecretStateIds();
+		int minX = center.getX() - rxz, maxX = center.getX() + rxz;
+		int minY = Math.max(center.getY() - ry, 0), maxY = Math.min(center.getY() + ry, 255);
+		int minZ = center.getZ() - rxz, maxZ = center.getZ() + rxz;
+		double closest = -1.0D;
+		for (int cx = minX >> 4; cx <= maxX >> 4; ++cx) {
+			for (int cz = minZ >> 4; cz <= maxZ >> 4; ++cz) {
+				short[] counts = chunks.get(ChunkCoordIntPair.chunkXZ2Int(cx, cz));
+				if (counts == null) {
+					continue;
+				}
+				ExtendedBlockStorage[] storage = null;
+				for (int sy = minY >> 4; sy <= maxY >> 4; ++sy) {
+					if (counts[sy] < 1) {
+						continue;
+					} else if (storage == null) {
+						storage = world.getChunkFromChunkCoords(cx, cz).getBlockStorageArray();
+					}
+					if (storage[sy] == null) {
+						continue;
+					}
+					char[] data = storage[sy].getData();
+					int x0 = Math.max(minX, cx << 4), x1 = Math.min(maxX, (cx << 4) + 15);
+					int y0 = Math.max(minY, sy << 4), y1 = Math.min(maxY, (sy << 4) + 15);
+					int z0 = Math.max(minZ, cz << 4), z1 = Math.min(maxZ, (cz << 4) + 15);
+					for (int y = y0; y <= y1; ++y) {
+						for (int z = z0; z <= z1; ++z) {
+							for (int x = x0; x <= x1; ++x) {
+								if (isSecret[data[(y & 15) << 8 | (z & 15) << 4 | (x & 15)]]) {
+									double d = entity.getDistanceSq((double) x + 0.5D, (double) y + 0.5D, (double) z + 0.5D);
+									if (d <= maxDistSq && (closest < 0.0D || d < closest)) {
+										closest = d;
+									}
+								}
+							}
+						}
+					}
+				}
+			}
+		}
+		return closest;
+	}
+
+	/**
+	 * Call when a secret stone block is placed in the world
+	 */
+	public void onSecretStoneAdded(World world, BlockPos pos) {
+		if (world.isRemote || pos.getY() < 0 || pos.getY() > 255) {
+			return;
+		}
+		Map<Long, short[]> chunks = getChunkMap(world);
+		long key = ChunkCoordIntPair.chunkXZ2Int(pos.getX() >> 4, pos.getZ() >> 4);
+		short[] counts = chunks.get(key);
+		if (counts == null) {
+			counts = new short[16];
+			chunks.put(key, counts);
+		}
+		++counts[pos.getY() >> 4];
+	}
+
+	/**
+	 * Call when a secret stone block is removed from the world
+	 */
+	public void onSecretStoneRemoved(World world, BlockPos pos) {
+		if (world.isRemote || pos.getY() < 0 || pos.getY() > 255) {
+			return;
+		}
+		Map<Long, short[]> chunks = worlds.get(world);
+		short[] counts = (chunks == null ? null : chunks.get(ChunkCoordIntPair.chunkXZ2Int(pos.getX() >> 4, pos.getZ() >> 4)));
+		if (counts != null && counts[pos.getY() >> 4] > 0) {
+			--counts[pos.getY() >> 4];
+		}
+	}
+
+	@SubscribeEvent
+	public void onChunkLoad(ChunkEvent.Load event) {
+		if (!event.world.isRemote) {
+			Chunk chunk = event.getChunk();
+			short[] counts = countSecretStone(chunk);
+			if (counts != null) {
+				getChunkMap(event.world).put(ChunkCoordIntPair.chunkXZ2Int(chunk.xPosition, chunk.zPosition), counts);
+			}
+		}
+	}
+
+	@SubscribeEvent
+	public void onChunkUnload(ChunkEvent.Unload event) {
+		Map<Long, short[]> chunks = worlds.get(event.world);
+		if (chunks != null) {
+			Chunk chunk = event.getChunk();
+			chunks.remove(ChunkCoordIntPair.chunkXZ2Int(chunk.xPosition, chunk.zPosition));
+		}
+	}
+
+	@SubscribeEvent
+	public void onWorldUnload(WorldEvent.Unload event) {
+		worlds.remove(event.world);
+	}
+
+	private Map<Long, short[]> getChunkMap(World world) {
+		Map<Long, short[]> chunks = worlds.get(world);
+		if (chunks == null) {
+			chunks = new HashMap<Long, short[]>();
+			worlds.put(world, chunks);
+		}
+		return chunks;
+	}
+
+	/**
+	 * Returns the number of secret stone blocks in each of the chunk's sections, or null if there are none
+	 */
+	private short[] countSecretStone(Chunk chunk) {
+		boolean[] isSecret = getSecretStateIds();
+		short[] counts = null;
+		ExtendedBlockStorage[] storage = chunk.getBlockStorageArray();
+		for (int i = 0; i < storage.length; ++i) {
+			if (storage[i] == null || storage[i].isEmpty()) {
+				continue;
+			}
+			int n = 0;
+			for (char c : storage[i].getData()) {
+				if (isSecret[c]) {
+					++n;
+				}
+			}
+			if (n > 0) {
+				if (counts == null) {
+					counts = new short[16];
+				}
+				counts[i] = (short) n;
+			}
+		}
+		return counts;
+	}
+
+	/**
+	 * Chunk storage uses (block id << 4 | metadata) for each block, so every metadata value of every
+	 * secret stone block is flagged regardless of whether it is actually used
+	 */
+	private boolean[] getSecretStateIds() {
+		if (secretStateIds == null) {
+			boolean[] ids = new boolean[Character.MAX_VALUE + 1];
+			for (Block block : Block.blockRegistry) {
+				if (block instanceof BlockSecretStone) {
+					int id = Block.getIdFromBlock(block);
+					for (int meta = 0; meta < 16; ++meta) {
+						ids[(id << 4 | meta) & Character.MAX_VALUE] = true;
+					}
+				}
+			}
+			secretStateIds = ids;
+		}
+		return secretStateIds;
+	}
+}
@@ -58,6 +58,7 @@ import zeldaswordskills.ref.Config;
 import zeldaswordskills.ref.ModInfo;
 import zeldaswordskills.ref.Sounds;
 import zeldaswordskills.util.BossType;
+import zeldaswordskills.util.PlayerProximity;
 import zeldaswordskills.util.StructureGenUtils;
 import zeldaswordskills.util.TimedChatDialogue;
 import zeldaswordskills.util.WorldUtils;
@@ -267,7 +268,7 @@ public class BossBattle extends AbstractCrisis
 				world.setBlockState(pos, ZSSBlocks.ancientTablet.getDefaultState().withProperty(BlockAncientTablet.VARIANT, type).withProperty(BlockAncientTablet.FACING, facing));
 				world.playSoundEffect(pos.getX(), pos.getY(), pos.getZ(), Sounds.ROCK_FALL, 1.0F, 1.0F);
 				Vec3i center = box.getCenter();
-				EntityPlayer player = world.getClosestPlayer(center.getX(), center.getY(), center.getZ(), 16.0D);
+				EntityPlayer player = PlayerProximity.INSTANCE.getClosestPlayer(world, center.getX(), center.getY(), center.getZ(), 16.0D);
 				if (player != null) {
 					new TimedChatDialogue(player, 1250, 1250, new ChatComponentTranslation("chat.zss.ancient_tablet.spawn"));
 				}
@@ -0,0 +1,215 @@
+/**
+    Copyright (C) <2015> <coolAlias>
+
+    This file is part of coolAlias' Zelda Sword Skills Minecraft Mod; as such,
+    you can redistribute it and/or modify it under the terms of the GNU
+    General Public License as published by the Free Software Foundation,
+    either version 3 of the License, or (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package zeldaswordskills.world.gen;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import net.minecraft.inventory.IInventory;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.BlockPos;
+import net.minecraft.world.World;
+import net.minecraftforge.common.util.Constants;
+import zeldaswordskills.util.BossType;
+import zeldaswordskills.util.WorldUtils;
+import zeldaswordskills.world.gen.structure.RoomBase;
+import zeldaswordskills.world.gen.structure.RoomBoss;
+
+/**
+ *
+ * Everything needed to generate the contents of a chest placed in a secret or boss room.
+ *
+ * Rather than filling chests during chunk population, rooms store a ChestLoot in the chest
+ * tile entity's custom data via {@link #setPending}, and the chest is only filled when a
+ * player first watches its chunk or interacts with it (see {@link ZSSWorldGenEvent}). Each
+ * pending chest's position is recorded in the {@link PendingChestIndex}, so no other tile
+ * entity's custom data is ever looked at.
+ * All random loot is rolled from the stored seed, so the result does not depend on when
+ * the chest is filled.
+ *
+ */
+public class ChestLoot
+{
+	/** Tag under which pending loot is stored in {@link TileEntity#getTileData} */
+	private static final String PENDING_TAG = "ZssPendingLoot";
+
+	private final long seed;
+
+	public final boolean inLava, inOcean, inMountain, inNether;
+
+	/** True if the chest should receive locked chest loot */
+	public final boolean isLocked;
+
+	/** True if the chest is in a boss room, in which case it does not receive the random boss item or big key */
+	public final boolean inBossRoom;
+
+	/** The boss type for the main chest of a boss room, otherwise null */
+	public final BossType bossType;
+
+	/** Center of the room, used to determine the big key type */
+	public final BlockPos roomCenter;
+
+	/** Items determined during generation which are added after the random loot */
+	private final List<ItemStack> extraItems = new ArrayList<ItemStack>();
+
+	/**
+	 * Creates loot for a chest in the room
+	 * @param rand			Used only to choose the seed for the chest's random loot
+	 * @param isLocked		True for locked chest loot
+	 */
+	public ChestLoot(Random rand, RoomBase room, boolean isLocked) {
+		this(rand, room, isLocked, null);
+	}
+
+	/**
+	 * Creates loot for the main chest of the boss room, which always receives locked chest loot
+	 */
+	public ChestLoot(Random rand, RoomBoss room) {
+		this(rand, room, true, room.getBossType());
+	}
+
+	private ChestLoot(Random rand, RoomBase room, boolean isLocked, BossType bossType) {
+		this.seed = rand.nextLong();
+		this.inLava = room.inLava;
+		this.inOcean = room.inOcean;
+		this.inMountain = room.inMountain;
+		this.inNether = room.inNether;
+		this.isLocked = isLocked;
+		this.inBossRoom = (room instanceof RoomBoss);
+		this.bossType = bossType;
+		this.roomCenter = new BlockPos(room.getBoundingBox().getCenter());
+	}
+
+	private ChestLoot(NBTTagCompound compound) {
+		this.seed = compound.getLong("seed");
+		this.inLava = compound.getBoolean("inLava");
+		this.inOcean = compound.getBoolean("inOcean");
+		this.inMountain = compound.getBoolean("inMountain");
+		this.inNether = compound.getBoolean("inNether");
+		this.isLocked = compound.getBoolean("isLocked");
+		this.inBossRoom = compound.getBoolean("inBossRoom");
+		this.bossType = (compound.hasKey("bossType", Constants.NBT.TAG_STRING) ? BossType.getBossType(compound.getString("bossType")) : null);
+		this.roomCenter = BlockPos.fromLong(compound.getLong("roomCenter"));
+		NBTTagList items = compound.getTagList("extraItems", Constants.NBT.TAG_COMPOUND);
+		for (int i = 0; i < items.tagCount(); ++i) {
+			ItemStack stack = ItemStack.loadItemStackFromNBT(items.getCompoundTagAt(i));
+			if (stack != null) {
+				extraItems.add(stack);
+			}
+		}
+	}
+
+	/**
+	 * Adds an item to be placed in an empty slot after the random loot has been generated
+	 */
+	public ChestLoot addExtraItem(ItemStack stack) {
+		if (stack != null) {
+			extraItems.add(stack);
+		}
+		return this;
+	}
+
+	/**
+	 * Fills the chest with the loot
+	 */
+	public void generate(World world, IInventory chest) {
+		Random rand = new Random(seed);
+		if (bossType != null) {
+			DungeonLootLists.generateBossChestContents(world, rand, chest, this);
+		} else {
+			DungeonLootLists.generateChestContents(world, rand, chest, this);
+		}
+		for (ItemStack stack : extraItems) {
+			WorldUtils.addItemToInventoryAtRandom(rand, stack.copy(), chest, 3);
+		}
+	}
+
+	/**
+	 * Stores the loot in the tile entity, to be generated by {@link #fillPending}
+	 */
+	public void setPending(TileEntity te) {
+		te.getTileData().setTag(PENDING_TAG, writeToNBT(new NBTTagCompound()));
+		te.markDirty();
+		PendingChestIndex.INSTANCE.add(te.getWorld(), te.getPos());
+	}
+
+	/**
+	 * Fills every chest in the chunk that has pending loot
+	 */
+	public static void fillPending(World world, int chunkX, int chunkZ) {
+		BlockPos[] pending = PendingChestIndex.INSTANCE.getPending(world, chunkX, chunkZ);
+		if (pending != null) {
+			for (BlockPos pos : pending) {
+				fillPending(world, pos);
+			}
+		}
+	}
+
+	/**
+	 * Fills the chest at the position if it has pending loot
+	 * @return true if the chest was filled
+	 */
+	public static boolean fillPending(World world, BlockPos pos) {
+		return PendingChestIndex.INSTANCE.remove(world, pos) && fillPending(world.getTileEntity(pos));
+	}
+
+	/**
+	 * Generates and removes any pending loot stored in the tile entity
+	 * @return true if the chest was filled
+	 */
+	private static boolean fillPending(TileEntity te) {
+		if (!(te instanceof IInventory) || te.getWorld() == null || te.getWorld().isRemote) {
+			return false;
+		}
+		NBTTagCompound data = te.getTileData();
+		if (!data.hasKey(PENDING_TAG, Constants.NBT.TAG_COMPOUND)) {
+			return false;
+		}
+		ChestLoot loot = new ChestLoot(data.getCompoundTag(PENDING_TAG));
+		data.removeTag(PENDING_TAG);
+		loot.generate(te.getWorld(), (IInventory) te);
+		te.markDirty();
+		return true;
+	}
+
+	private NBTTagCompound writeToNBT(NBTTagCompound compound) {
+		compound.setLong("seed", seed);
+		compound.setBoolean("inLava", inLava);
+		compound.setBoolean("inOcean", inOcean);
+		compound.setBoolean("inMountain", inMountain);
+		compound.setBoolean("inNether", inNether);
+		compound.setBoolean("isLocked", isLocked);
+		compound.setBoolean("inBossRoom", inBossRoom);
+		if (bossType != null) {
+			compound.setString("bossType", bossType.getName());
+		}
+		compound.setLong("roomCenter", roomCenter.toLong());
+		if (!extraItems.isEmpty()) {
+			NBTTagList items = new NBTTagList();
+			for (ItemStack stack : extraItems) {
+				items.appendTag(stack.writeToNBT(new NBTTagCompound()));
+			}
+			compound.setTag("extraItems", items);
+		}
+		return compound;
+	}
+}
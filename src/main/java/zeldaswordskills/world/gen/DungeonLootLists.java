@@ -18,15 +18,15 @@
 package zeldaswordskills.world.gen;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Random;
 
 import net.minecraft.init.Items;
 import net.minecraft.inventory.IInventory;
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
-import net.minecraft.util.BlockPos;
-import net.minecraft.util.Vec3i;
 import net.minecraft.util.WeightedRandomChestContent;
 import net.minecraft.world.World;
 import net.minecraftforge.common.ChestGenHooks;
@@ -42,8 +42,6 @@ import zeldaswordskills.ref.Config;
 import zeldaswordskills.ref.LibPotionID;
 import zeldaswordskills.skills.SkillBase;
 import zeldaswordskills.util.WorldUtils;
-import zeldaswordskills.world.gen.structure.RoomBase;
-import zeldaswordskills.world.gen.structure.RoomBoss;
 
 /**
  * 
@@ -95,6 +93,9 @@ public class DungeonLootLists
 	/** List of droppable skill orb items as weighted chest contents, not including the bonus heart */
 	private static List<WeightedRandomChestContent> skillOrbLootList;
 
+	/** Compiled loot tables by category, recompiled whenever a category's contents change */
+	private static final Map<String, LootTable> lootTables = new HashMap<String, LootTable>();
+
 	/**
 	 * Initializes all of the loot tables for dungeon generation
 	 */
@@ -109,44 +110,83 @@ public class DungeonLootLists
 		initNetherLoot();
 		initOceanLoot();
 		initSkillOrbLoot();
+		for (String category : new String[]{BASIC_LOOT, BOSS_LOOT, DEFAULT_LOOT, JAR_DROPS, LAVA_LOOT, LOCKED_LOOT, MOUNTAIN_LOOT, NETHER_LOOT, OCEAN_LOOT}) {
+			getLootTable(category);
+		}
+	}
+
+	/**
+	 * Returns the compiled loot table for the category, recompiling it first if the category's
+	 * contents have changed since it was last compiled, or null if it could not be compiled
+	 */
+	public static synchronized LootTable getLootTable(String category) {
+		LootTable table = lootTables.get(category);
+		if (table == null || !table.isValidFor(LootTable.getContents(ChestGenHooks.getInfo(category)))) {
+			table = LootTable.compile(category);
+			lootTables.put(category, table);
+		}
+		return table;
+	}
+
+	/**
+	 * Returns a single random item from the category, as per {@link ChestGenHooks#getOneItem}
+	 */
+	public static ItemStack getOneItem(String category, Random rand) {
+		LootTable table = getLootTable(category);
+		return (table == null ? ChestGenHooks.getInfo(category).getOneItem(rand) : table.getOneItem(rand));
+	}
+
+	/**
+	 * Adds the given number of random items from the category to the chest; see {@link LootTable#generateChestContents}
+	 */
+	public static void generateChestContents(Random rand, String category, IInventory chest, int count, boolean atRandom) {
+		LootTable table = getLootTable(category);
+		if (table != null) {
+			table.generateChestContents(rand, chest, count, atRandom);
+		} else if (count > 0) {
+			WorldUtils.generateRandomChestContents(rand, ChestGenHooks.getInfo(category).getItems(rand), chest, count, atRandom);
+		}
+	}
+
+	/**
+	 * Adds the category's default number of random items to the chest
+	 */
+	private static void generateChestContents(Random rand, String category, IInventory chest, boolean atRandom) {
+		generateChestContents(rand, category, chest, ChestGenHooks.getInfo(category).getCount(rand), atRandom);
 	}
 
 	/**
 	 * Generates the chest contents for non-boss secret rooms, adding appropriate location-based items and locked chest loot
 	 */
-	public static void generateChestContents(World world, Random rand, IInventory chest, RoomBase room, boolean isLockedChest) {
-		ChestGenHooks info = ChestGenHooks.getInfo(BASIC_LOOT);
-		WeightedRandomChestContent.generateChestContents(rand, info.getItems(rand), chest, info.getCount(rand));
+	public static void generateChestContents(World world, Random rand, IInventory chest, ChestLoot loot) {
+		generateChestContents(rand, BASIC_LOOT, chest, true);
 		int n = rand.nextInt(3);
-		if (n > 0 && (isLockedChest || rand.nextInt(4) == 0)) {
-			if (room.inLava) {
-				WeightedRandomChestContent.generateChestContents(rand, ChestGenHooks.getInfo(LAVA_LOOT).getItems(rand), chest, n);
-			} else if (room.inOcean) {
-				WeightedRandomChestContent.generateChestContents(rand, ChestGenHooks.getInfo(OCEAN_LOOT).getItems(rand), chest, n);
-			} else if (room.inMountain) {
-				WeightedRandomChestContent.generateChestContents(rand, ChestGenHooks.getInfo(MOUNTAIN_LOOT).getItems(rand), chest, n);
+		if (n > 0 && (loot.isLocked || rand.nextInt(4) == 0)) {
+			if (loot.inLava) {
+				generateChestContents(rand, LAVA_LOOT, chest, n, true);
+			} else if (loot.inOcean) {
+				generateChestContents(rand, OCEAN_LOOT, chest, n, true);
+			} else if (loot.inMountain) {
+				generateChestContents(rand, MOUNTAIN_LOOT, chest, n, true);
 			} else {
-				WeightedRandomChestContent.generateChestContents(rand, ChestGenHooks.getInfo(DEFAULT_LOOT).getItems(rand), chest, n);
+				generateChestContents(rand, DEFAULT_LOOT, chest, n, true);
 			}
 		}
-		if (room.inNether) {
-			info = ChestGenHooks.getInfo(NETHER_LOOT);
-			WorldUtils.generateRandomChestContents(rand, info.getItems(rand), chest, info.getCount(rand), true);
+		if (loot.inNether) {
+			generateChestContents(rand, NETHER_LOOT, chest, true);
 		}
-		if (isLockedChest) {
-			info = ChestGenHooks.getInfo(LOCKED_LOOT);
-			WeightedRandomChestContent.generateChestContents(rand, info.getItems(rand), chest, info.getCount(rand));
-			if (!(room instanceof RoomBoss)) {
+		if (loot.isLocked) {
+			generateChestContents(rand, LOCKED_LOOT, chest, true);
+			if (!loot.inBossRoom) {
 				if (rand.nextFloat() < Config.getRandomBossItemChance()) {
-					WorldUtils.addItemToInventoryAtRandom(rand, ChestGenHooks.getInfo(BOSS_LOOT).getOneItem(rand), chest, 3);
+					WorldUtils.addItemToInventoryAtRandom(rand, getOneItem(BOSS_LOOT, rand), chest, 3);
 				}
 				if (rand.nextInt(20) < Config.getBigKeyWeight()) {
-					Vec3i center = room.getBoundingBox().getCenter();
-					ItemStack key = ItemKeyBig.getKeyForBiome(world, new BlockPos(center));
+					ItemStack key = ItemKeyBig.getKeyForBiome(world, loot.roomCenter);
 					if (key != null) {
 						WorldUtils.addItemToInventoryAtRandom(rand, key, chest, 3);
 					} else { // non-temple biomes should still give something nice
-						WorldUtils.addItemToInventoryAtRandom(rand, ChestGenHooks.getInfo(BOSS_LOOT).getOneItem(rand), chest, 3);
+						WorldUtils.addItemToInventoryAtRandom(rand, getOneItem(BOSS_LOOT, rand), chest, 3);
 					}
 				}
 			}
@@ -154,20 +194,19 @@ public class DungeonLootLists
 	}
 
 	/**
-	 * Generates a random number of items plus special boss chest loot
+	 * Generates a random number of items plus special boss chest loot for the loot's {@link ChestLoot#bossType}
 	 */
-	public static void generateBossChestContents(World world, Random rand, IInventory chest, RoomBoss room) {
-		generateChestContents(world, rand, chest, room, true);
-		ChestGenHooks info = ChestGenHooks.getInfo(BOSS_LOOT);
-		WeightedRandomChestContent.generateChestContents(rand, info.getItems(rand), chest, info.getCount(rand));
+	public static void generateBossChestContents(World world, Random rand, IInventory chest, ChestLoot loot) {
+		generateChestContents(world, rand, chest, loot);
+		generateChestContents(rand, BOSS_LOOT, chest, true);
 		WorldUtils.addItemToInventoryAtRandom(rand, new ItemStack(ZSSItems.heartPiece), chest, 3);
 		// special items that always generate, i.e. the Pendants of Virtue
-		ItemStack stack = room.getBossType().getSpecialItem();
+		ItemStack stack = loot.bossType.getSpecialItem();
 		if (stack != null) {
 			WorldUtils.addItemToInventoryAtRandom(rand, stack, chest, 3);
 		}
 		// possibly select a random special item from the boss type's list
-		stack = room.getBossType().getRandomSpecialItem(rand);
+		stack = loot.bossType.getRandomSpecialItem(rand);
 		if (stack != null && rand.nextFloat() < 0.2F) {
 			WorldUtils.addItemToInventoryAtRandom(rand, stack, chest, 3);
 		} else {
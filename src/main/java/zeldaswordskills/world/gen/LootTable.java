@@ -0,0 +1,336 @@
+/**
+    Copyright (C) <2015> <coolAlias>
+
+    This file is part of coolAlias' Zelda Sword Skills Minecraft Mod; as such,
+    you can redistribute it and/or modify it under the terms of the GNU
+    General Public License as published by the Free Software Foundation,
+    either version 3 of the License, or (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package zeldaswordskills.world.gen;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Random;
+
+import net.minecraft.inventory.IInventory;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.util.WeightedRandomChestContent;
+import net.minecraftforge.common.ChestGenHooks;
+import net.minecraftforge.fml.relauncher.ReflectionHelper;
+import zeldaswordskills.ZSSMain;
+import zeldaswordskills.util.WorldUtils;
+
+/**
+ *
+ * Immutable snapshot of a {@link ChestGenHooks} category compiled into an alias table
+ * (Vose's alias method) for constant time weighted sampling.
+ *
+ * {@link ChestGenHooks#getItems} copies the entire category and calls each item's
+ * {@link Item#getChestGenBase} on every call, and each weighted pick then sums all
+ * of the weights again; a compiled table does neither for entries whose item does not
+ * override getChestGenBase. Entries whose item does are kept out of the alias table
+ * and resolved each time, using the weight of the entry getChestGenBase returns, so
+ * picks follow exactly the same distribution as they would from ChestGenHooks.
+ *
+ * Tables are only valid as long as the category's contents are unchanged, which
+ * should be checked with {@link #isValidFor} before each use.
+ *
+ */
+public class LootTable
+{
+	/** Accessible reference to {@code ChestGenHooks#contents} */
+	private static Field contentsField;
+
+	/** Set to true if the contents field could not be accessed, in which case no tables can be compiled */
+	private static boolean contentsUnavailable;
+
+	/** Accessible reference to {@code WeightedRandomChestContent#generateChestContent}, which subclasses may override */
+	private static Method generateMethod;
+
+	/** Set to true if the generate method could not be accessed, in which case stacks are always generated directly */
+	private static boolean generateUnavailable;
+
+	private final ChestGenHooks info;
+
+	/** The category's entries, in the same order as they were when the table was compiled */
+	private final WeightedRandomChestContent[] entries;
+
+	/** Entry weights at the time the table was compiled */
+	private final int[] weights;
+
+	/** Index of each entry in the alias table */
+	private final int[] fixed;
+
+	/** Index of each entry whose item overrides {@link Item#getChestGenBase} */
+	private final int[] dynamic;
+
+	/** Combined weight of the entries in the alias table */
+	private final int fixedWeight;
+
+	/** Probability of keeping the column's own entry rather than its alias */
+	private final double[] probability;
+
+	/** Column of the alias entry for each column */
+	private final int[] alias;
+
+	private LootTable(ChestGenHooks info, List<WeightedRandomChestContent> contents) {
+		int n = contents.size();
+		this.info = info;
+		this.entries = contents.toArray(new WeightedRandomChestContent[n]);
+		this.weights = new int[n];
+		int numFixed = 0;
+		int numDynamic = 0;
+		boolean[] isDynamic = new boolean[n];
+		for (int i = 0; i < n; ++i) {
+			weights[i] = entries[i].itemWeight;
+			isDynamic[i] = isDynamic(entries[i]);
+			if (isDynamic[i]) {
+				++numDynamic;
+			} else if (weights[i] > 0) {
+				++numFixed;
+			}
+		}
+		this.fixed = new int[numFixed];
+		this.dynamic = new int[numDynamic];
+		int total = 0;
+		for (int i = 0, f = 0, d = 0; i < n; ++i) {
+			if (isDynamic[i]) {
+				dynamic[d++] = i;
+			} else if (weights[i] > 0) {
+				fixed[f++] = i;
+				total += weights[i];
+			}
+		}
+		this.fixedWeight = total;
+		this.probability = new double[numFixed];
+		this.alias = new int[numFixed];
+		double[] scaled = new double[numFixed];
+		int[] small = new int[numFixed];
+		int[] large = new int[numFixed];
+		int numSmall = 0;
+		int numLarge = 0;
+		for (int i = 0; i < numFixed; ++i) {
+			scaled[i] = ((double) weights[fixed[i]] * numFixed) / total;
+			if (scaled[i] < 1.0D) {
+				small[numSmall++] = i;
+			} else {
+				large[numLarge++] = i;
+			}
+		}
+		while (numSmall > 0 && numLarge > 0) {
+			int s = small[--numSmall];
+			int l = large[--numLarge];
+			probability[s] = scaled[s];
+			alias[s] = l;
+			scaled[l] = (scaled[l] + scaled[s]) - 1.0D;
+			if (scaled[l] < 1.0D) {
+				small[numSmall++] = l;
+			} else {
+				large[numLarge++] = l;
+			}
+		}
+		// anything left over is only due to rounding errors and should always be kept
+		while (numLarge > 0) {
+			probability[large[--numLarge]] = 1.0D;
+		}
+		while (numSmall > 0) {
+			probability[small[--numSmall]] = 1.0D;
+		}
+	}
+
+	/**
+	 * Compiles the current contents of the category, returning null if that is not
+	 * possible, e.g. the category has no entries with a positive weight or has any
+	 * with a negative weight, which are left for ChestGenHooks to deal with
+	 */
+	public static LootTable compile(String category) {
+		ChestGenHooks info = ChestGenHooks.getInfo(category);
+		List<WeightedRandomChestContent> contents = getContents(info);
+		if (contents == null || contents.isEmpty()) {
+			return null;
+		}
+		boolean hasWeight = false;
+		for (WeightedRandomChestContent entry : contents) {
+			if (entry.itemWeight < 0) {
+				ZSSMain.logger.warn(String.format("Chest loot category %s has an entry with negative weight %d - loot table will not be compiled", category, entry.itemWeight));
+				return null;
+			}
+			hasWeight |= (entry.itemWeight > 0 || isDynamic(entry));
+		}
+		return (hasWeight ? new LootTable(info, contents) : null);
+	}
+
+	/**
+	 * Returns the live contents of the category, or null if they could not be accessed
+	 */
+	@SuppressWarnings("unchecked")
+	public static List<WeightedRandomChestContent> getContents(ChestGenHooks info) {
+		if (contentsUnavailable) {
+			return null;
+		}
+		try {
+			if (contentsField == null) {
+				contentsField = ReflectionHelper.findField(ChestGenHooks.class, "contents");
+			}
+			return (List<WeightedRandomChestContent>) contentsField.get(info);
+		} catch (Exception e) {
+			ZSSMain.logger.warn("Unable to access chest loot contents - loot tables will not be compiled: " + e.getMessage());
+			contentsUnavailable = true;
+			return null;
+		}
+	}
+
+	/**
+	 * Returns true if the contents given are still exactly those this table was compiled from
+	 */
+	public boolean isValidFor(List<WeightedRandomChestContent> contents) {
+		if (contents == null || contents.size() != entries.length) {
+			return false;
+		}
+		for (int i = 0; i < entries.length; ++i) {
+			WeightedRandomChestContent entry = contents.get(i);
+			if (entry != entries[i] || entry.itemWeight != weights[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Returns a weighted random entry, or null if there are none available, e.g. every
+	 * dynamic entry was rejected by {@link Item#getChestGenBase} and there are no others
+	 */
+	public WeightedRandomChestContent getRandomEntry(Random rand) {
+		WeightedRandomChestContent[] resolved = resolveDynamicEntries(rand);
+		return getRandomEntry(rand, resolved, getTotalWeight(resolved));
+	}
+
+	/**
+	 * Returns the entry returned by {@link Item#getChestGenBase} for each dynamic entry, or null
+	 * for any that were rejected; resolved once per use of the table, as ChestGenHooks#getItems is
+	 */
+	private WeightedRandomChestContent[] resolveDynamicEntries(Random rand) {
+		WeightedRandomChestContent[] resolved = new WeightedRandomChestContent[dynamic.length];
+		for (int i = 0; i < dynamic.length; ++i) {
+			WeightedRandomChestContent entry = entries[dynamic[i]];
+			WeightedRandomChestContent result = entry.theItemId.getItem().getChestGenBase(info, rand, entry);
+			resolved[i] = (result != null && result.itemWeight > 0 ? result : null);
+		}
+		return resolved;
+	}
+
+	private int getTotalWeight(WeightedRandomChestContent[] resolved) {
+		int total = fixedWeight;
+		for (WeightedRandomChestContent entry : resolved) {
+			if (entry != null) {
+				total += entry.itemWeight;
+			}
+		}
+		return total;
+	}
+
+	private WeightedRandomChestContent getRandomEntry(Random rand, WeightedRandomChestContent[] resolved, int total) {
+		if (total <= 0) {
+			return null;
+		}
+		if (resolved.length > 0) {
+			int r = rand.nextInt(total) - fixedWeight;
+			if (r >= 0) {
+				for (WeightedRandomChestContent entry : resolved) {
+					if (entry != null && (r -= entry.itemWeight) < 0) {
+						return entry;
+					}
+				}
+			}
+		}
+		int i = rand.nextInt(fixed.length);
+		if (rand.nextDouble() >= probability[i]) {
+			i = alias[i];
+		}
+		return entries[fixed[i]];
+	}
+
+	/**
+	 * Equivalent of {@link ChestGenHooks#getOneItem}; may return null
+	 */
+	public ItemStack getOneItem(Random rand) {
+		WeightedRandomChestContent entry = getRandomEntry(rand);
+		if (entry == null) {
+			return null;
+		}
+		ItemStack[] stacks = ChestGenHooks.generateStacks(rand, entry.theItemId, entry.minStackSize, entry.maxStackSize);
+		return (stacks.length > 0 ? stacks[0] : null);
+	}
+
+	/**
+	 * Places the given number of weighted random entries into the inventory
+	 * @param atRandom	True to place each stack into a random slot, possibly replacing other items as
+	 * 					{@link WeightedRandomChestContent#generateChestContents} does, or false to only
+	 * 					use empty slots as per {@link WorldUtils#addItemToInventoryAtRandom}
+	 */
+	public void generateChestContents(Random rand, IInventory inv, int count, boolean atRandom) {
+		WeightedRandomChestContent[] resolved = resolveDynamicEntries(rand);
+		int total = getTotalWeight(resolved);
+		for (int i = 0; i < count; ++i) {
+			WeightedRandomChestContent entry = getRandomEntry(rand, resolved, total);
+			if (entry == null) {
+				return;
+			}
+			for (ItemStack stack : generateStacks(rand, entry, inv)) {
+				if (atRandom) {
+					inv.setInventorySlotContents(rand.nextInt(inv.getSizeInventory()), stack);
+				} else {
+					WorldUtils.addItemToInventoryAtRandom(rand, stack, inv, 3);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the stacks generated by the entry for the inventory, calling the entry's own
+	 * generateChestContent in case a subclass overrides it
+	 */
+	private static ItemStack[] generateStacks(Random rand, WeightedRandomChestContent entry, IInventory inv) {
+		if (entry.getClass() != WeightedRandomChestContent.class && !generateUnavailable) {
+			try {
+				if (generateMethod == null) {
+					Method method = WeightedRandomChestContent.class.getDeclaredMethod("generateChestContent", Random.class, IInventory.class);
+					method.setAccessible(true);
+					generateMethod = method;
+				}
+				ItemStack[] stacks = (ItemStack[]) generateMethod.invoke(entry, rand, inv);
+				return (stacks == null ? new ItemStack[0] : stacks);
+			} catch (Exception e) {
+				ZSSMain.logger.warn("Unable to call chest loot generateChestContent - stacks will be generated directly: " + e.getMessage());
+				generateUnavailable = true;
+			}
+		}
+		return ChestGenHooks.generateStacks(rand, entry.theItemId, entry.minStackSize, entry.maxStackSize);
+	}
+
+	/**
+	 * Returns true if the entry's item overrides {@link Item#getChestGenBase}
+	 */
+	private static boolean isDynamic(WeightedRandomChestContent entry) {
+		Item item = (entry.theItemId == null ? null : entry.theItemId.getItem());
+		if (item == null) {
+			return false;
+		}
+		try {
+			return item.getClass().getMethod("getChestGenBase", ChestGenHooks.class, Random.class, WeightedRandomChestContent.class).getDeclaringClass() != Item.class;
+		} catch (NoSuchMethodException e) {
+			return true;
+		}
+	}
+}
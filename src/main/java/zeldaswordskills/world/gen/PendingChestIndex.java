@@ -0,0 +1,193 @@
+/**
+    Copyright (C) <2015> <coolAlias>
+
+    This file is part of coolAlias' Zelda Sword Skills Minecraft Mod; as such,
+    you can redistribute it and/or modify it under the terms of the GNU
+    General Public License as published by the Free Software Foundation,
+    either version 3 of the License, or (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package zeldaswordskills.world.gen;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.util.BlockPos;
+import net.minecraft.world.ChunkCoordIntPair;
+import net.minecraft.world.World;
+import net.minecraftforge.common.util.Constants;
+import net.minecraftforge.event.world.ChunkDataEvent;
+import net.minecraftforge.event.world.ChunkEvent;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+
+/**
+ *
+ * Keeps track of the positions of chests with pending {@link ChestLoot} in each server chunk,
+ * so that only those chests' tile entity data need be read when a chunk is watched or a block
+ * is interacted with. Positions are saved alongside the chunk data.
+ *
+ * Chunks without any pending chests are not stored at all.
+ *
+ */
+public class PendingChestIndex
+{
+	public static final PendingChestIndex INSTANCE = new PendingChestIndex();
+
+	/** Tag in the chunk data under which each chunk's pending chest positions are saved */
+	private static final String TAG_NAME = "zssPendingChests";
+
+	/** Pending chest positions for each server world, only for chunks that contain any */
+	private final Map<World, WorldData> worlds = new HashMap<World, WorldData>();
+
+	private PendingChestIndex() {}
+
+	/**
+	 * Records that the chest at the position has pending loot
+	 */
+	public void add(World world, BlockPos pos) {
+		if (world.isRemote || pos.getY() < 0 || pos.getY() > 255) {
+			return;
+		}
+		WorldData data = getWorldData(world);
+		long key = ChunkCoordIntPair.chunkXZ2Int(pos.getX() >> 4, pos.getZ() >> 4);
+		int[] positions = data.loaded.get(key);
+		int packed = pack(pos);
+		if (positions == null) {
+			positions = new int[]{packed};
+		} else if (indexOf(positions, packed) < 0) {
+			positions = Arrays.copyOf(positions, positions.length + 1);
+			positions[positions.length - 1] = packed;
+		}
+		data.loaded.put(key, positions);
+		world.getChunkFromChunkCoords(pos.getX() >> 4, pos.getZ() >> 4).setChunkModified();
+	}
+
+	/**
+	 * Removes the position from the index
+	 * @return true if the chest at the position had pending loot
+	 */
+	public boolean remove(World world, BlockPos pos) {
+		WorldData data = worlds.get(world);
+		if (data == null || pos.getY() < 0 || pos.getY() > 255) {
+			return false;
+		}
+		long key = ChunkCoordIntPair.chunkXZ2Int(pos.getX() >> 4, pos.getZ() >> 4);
+		int[] positions = data.loaded.get(key);
+		int i = (positions == null ? -1 : indexOf(positions, pack(pos)));
+		if (i < 0) {
+			return false;
+		} else if (positions.length == 1) {
+			data.loaded.remove(key);
+		} else {
+			int[] remaining = new int[positions.length - 1];
+			System.arraycopy(positions, 0, remaining, 0, i);
+			System.arraycopy(positions, i + 1, remaining, i, remaining.length - i);
+			data.loaded.put(key, remaining);
+		}
+		world.getChunkFromChunkCoords(pos.getX() >> 4, pos.getZ() >> 4).setChunkModified();
+		return true;
+	}
+
+	/**
+	 * Returns the positions of all chests with pending loot in the chunk, or null if there are none
+	 */
+	public BlockPos[] getPending(World world, int chunkX, int chunkZ) {
+		WorldData data = worlds.get(world);
+		int[] positions = (data == null ? null : data.loaded.get(ChunkCoordIntPair.chunkXZ2Int(chunkX, chunkZ)));
+		if (positions == null) {
+			return null;
+		}
+		BlockPos[] pending = new BlockPos[positions.length];
+		for (int i = 0; i < positions.length; ++i) {
+			int packed = positions[i];
+			pending[i] = new BlockPos((chunkX << 4) | (packed & 15), packed >> 8, (chunkZ << 4) | ((packed >> 4) & 15));
+		}
+		return pending;
+	}
+
+	@SubscribeEvent
+	public void onChunkDataLoad(ChunkDataEvent.Load event) {
+		NBTTagCompound data = event.getData();
+		if (data.hasKey(TAG_NAME, Constants.NBT.TAG_INT_ARRAY)) {
+			int[] positions = data.getIntArray(TAG_NAME);
+			if (positions.length > 0) {
+				getWorldData(event.world).loaded.put(ChunkCoordIntPair.chunkXZ2Int(event.getChunk().xPosition, event.getChunk().zPosition), positions);
+			}
+		}
+	}
+
+	@SubscribeEvent
+	public void onChunkDataSave(ChunkDataEvent.Save event) {
+		WorldData data = worlds.get(event.world);
+		if (data != null) {
+			long key = ChunkCoordIntPair.chunkXZ2Int(event.getChunk().xPosition, event.getChunk().zPosition);
+			int[] positions = data.loaded.get(key);
+			if (positions == null) {
+				// chunks are saved after they unload
+				positions = data.unloading.remove(key);
+			}
+			if (positions != null) {
+				event.getData().setIntArray(TAG_NAME, positions);
+			}
+		}
+	}
+
+	@SubscribeEvent
+	public void onChunkUnload(ChunkEvent.Unload event) {
+		WorldData data = worlds.get(event.world);
+		if (data != null) {
+			long key = ChunkCoordIntPair.chunkXZ2Int(event.getChunk().xPosition, event.getChunk().zPosition);
+			int[] positions = data.loaded.remove(key);
+			if (positions != null) {
+				data.unloading.put(key, positions);
+			}
+		}
+	}
+
+	@SubscribeEvent
+	public void onWorldUnload(WorldEvent.Unload event) {
+		worlds.remove(event.world);
+	}
+
+	private WorldData getWorldData(World world) {
+		WorldData data = worlds.get(world);
+		if (data == null) {
+			data = new WorldData();
+			worlds.put(world, data);
+		}
+		return data;
+	}
+
+	/** Returns the chunk-relative position packed into the lowest 16 bits */
+	private static int pack(BlockPos pos) {
+		return (pos.getY() & 255) << 8 | (pos.getZ() & 15) << 4 | (pos.getX() & 15);
+	}
+
+	private static int indexOf(int[] positions, int packed) {
+		for (int i = 0; i < positions.length; ++i) {
+			if (positions[i] == packed) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private static class WorldData
+	{
+		/** Pending chest positions for currently loaded chunks */
+		final Map<Long, int[]> loaded = new HashMap<Long, int[]>();
+		/** Pending chest positions for chunks that have unloaded but not yet been saved */
+		final Map<Long, int[]> unloading = new HashMap<Long, int[]>();
+	}
+}
@@ -17,10 +17,15 @@
 
 package zeldaswordskills.world.gen;
 
+import net.minecraftforge.event.entity.player.PlayerInteractEvent;
+import net.minecraftforge.event.entity.player.PlayerInteractEvent.Action;
 import net.minecraftforge.event.terraingen.PopulateChunkEvent;
+import net.minecraftforge.event.world.ChunkWatchEvent;
 import net.minecraftforge.fml.common.eventhandler.EventPriority;
 import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
 import zeldaswordskills.ref.Config;
+import zeldaswordskills.util.TickProfiler;
+import zeldaswordskills.util.TickProfiler.Section;
 import zeldaswordskills.world.gen.feature.WorldGenBombFlowers;
 import zeldaswordskills.world.gen.structure.MapGenSecretRoom;
 import zeldaswordskills.world.gen.structure.MapGenSecretRoomNether;
@@ -39,6 +44,7 @@ public class ZSSWorldGenEvent
 		if (!Config.isGenEnabledAt(event.chunkX, event.chunkZ)) {
 			return;
 		}
+		long start = TickProfiler.start(event.world);
 		switch(event.world.provider.getDimensionId()) {
 		case -1: // the Nether
 			if (Config.getNetherAttemptsPerChunk() > 0) {
@@ -58,5 +64,24 @@ public class ZSSWorldGenEvent
 			break;
 		default: break;
 		}
+		TickProfiler.end(Section.WORLD_GEN, start, event.world, event.chunkX << 4, 0, event.chunkZ << 4);
+	}
+
+	/**
+	 * Fills any generated chests in the chunk the first time a player comes within view of it
+	 */
+	@SubscribeEvent
+	public void onChunkWatch(ChunkWatchEvent.Watch event) {
+		ChestLoot.fillPending(event.player.worldObj, event.chunk.chunkXPos, event.chunk.chunkZPos);
+	}
+
+	/**
+	 * Fills a generated chest before it is opened, in case it was not already filled when its chunk was watched
+	 */
+	@SubscribeEvent
+	public void onInteract(PlayerInteractEvent event) {
+		if (event.action == Action.RIGHT_CLICK_BLOCK && !event.world.isRemote) {
+			ChestLoot.fillPending(event.world, event.pos);
+		}
 	}
 }
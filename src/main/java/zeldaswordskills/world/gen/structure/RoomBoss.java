@@ -37,7 +37,7 @@ import zeldaswordskills.block.tileentity.TileEntityDungeonCore;
 import zeldaswordskills.ref.Config;
 import zeldaswordskills.util.BossType;
 import zeldaswordskills.util.StructureGenUtils;
-import zeldaswordskills.world.gen.DungeonLootLists;
+import zeldaswordskills.world.gen.ChestLoot;
 
 /**
  * 
@@ -352,7 +352,7 @@ public class RoomBoss extends RoomBase
 		}
 		TileEntity te = world.getTileEntity(pos);
 		if (te instanceof IInventory) {
-			DungeonLootLists.generateBossChestContents(world, rand, (IInventory) te, this);
+			new ChestLoot(rand, this).setPending(te);
 		}
 	}
 
@@ -393,7 +393,7 @@ public class RoomBoss extends RoomBase
 			placeChest(world, pos, chest);
 			TileEntity te = world.getTileEntity(pos);
 			if (te instanceof IInventory) {
-				DungeonLootLists.generateChestContents(world, rand, (IInventory) te, this, goodLoot);
+				new ChestLoot(rand, this, goodLoot).setPending(te);
 			}
 		}
 	}
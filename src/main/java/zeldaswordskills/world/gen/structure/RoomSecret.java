@@ -30,7 +30,6 @@ import net.minecraft.util.EnumFacing;
 import net.minecraft.util.Vec3i;
 import net.minecraft.world.World;
 import net.minecraft.world.biome.BiomeGenBase;
-import net.minecraftforge.common.ChestGenHooks;
 import zeldaswordskills.block.BlockDoorLocked;
 import zeldaswordskills.block.BlockHeavy;
 import zeldaswordskills.block.BlockPeg;
@@ -45,7 +44,7 @@ import zeldaswordskills.item.ZSSItems;
 import zeldaswordskills.ref.Config;
 import zeldaswordskills.util.BossType;
 import zeldaswordskills.util.StructureGenUtils;
-import zeldaswordskills.util.WorldUtils;
+import zeldaswordskills.world.gen.ChestLoot;
 import zeldaswordskills.world.gen.DungeonLootLists;
 
 public class RoomSecret extends RoomBase
@@ -248,13 +247,12 @@ public class RoomSecret extends RoomBase
 			placeChest(world, pos, chestBlock);
 			TileEntity te = world.getTileEntity(pos);
 			if (te instanceof IInventory) {
-				IInventory chest = (IInventory) te;
-				DungeonLootLists.generateChestContents(world, rand, chest, this, chestBlock != Blocks.chest);
+				ChestLoot chestLoot = new ChestLoot(rand, this, chestBlock != Blocks.chest);
 				if ((first || chestBlock == ZSSBlocks.chestInvisible) && rand.nextFloat() < Config.getHeartPieceChance()) {
-					WorldUtils.addItemToInventoryAtRandom(rand, new ItemStack(ZSSItems.heartPiece), chest, 3);
+					chestLoot.addExtraItem(new ItemStack(ZSSItems.heartPiece));
 				}
 				if (door != null) {
-					ItemStack loot = ChestGenHooks.getInfo(DungeonLootLists.BOSS_LOOT).getOneItem(rand);
+					ItemStack loot = DungeonLootLists.getOneItem(DungeonLootLists.BOSS_LOOT, rand);
 					if (rand.nextFloat() < 0.0625F * (1.0F / Math.max(Config.getBarredRoomChance(), 0.1F))) {
 						if (door == ZSSBlocks.pegWooden) {
 							loot = new ItemStack(ZSSItems.gauntletsSilver);
@@ -274,10 +272,9 @@ public class RoomSecret extends RoomBase
 							}
 						}
 					}
-					if (loot != null) {
-						WorldUtils.addItemToInventoryAtRandom(rand, loot, chest, 3);
-					}
+					chestLoot.addExtraItem(loot);
 				}
+				chestLoot.setPending(te);
 			}
 			// this should set the block underneath the chest as stone if it's surrounded by lava
 			if (world.getBlockState(pos.down()).getBlock().getMaterial() == Material.lava && bBox.getYSize() > 3) {